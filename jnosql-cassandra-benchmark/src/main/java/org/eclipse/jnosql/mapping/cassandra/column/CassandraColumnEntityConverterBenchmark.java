@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Address;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Customer;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Sensor;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CassandraColumnEntityConverter} in both directions to a flat entity and to an entity with a single
+ * {@link UDT}. The entity direction to the UDT goes through the converter UDT field setter, and
+ * {@link #udtTypeToColumn()} measures {@link CassandraUDTType#toColumn} alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CassandraColumnEntityConverterBenchmark extends ConverterBenchmark {
+
+    private Sensor sensor;
+
+    private ColumnEntity sensorEntity;
+
+    private Customer customer;
+
+    private ColumnEntity customerEntity;
+
+    private FieldMapping address;
+
+    @Override
+    protected void fixtures() {
+        sensor = new Sensor("sensor-1", "Boiler", "Lisbon", 21.5D, 1_024L, true);
+        sensorEntity = converter.toColumn(sensor);
+        customer = new Customer("customer-1", "Ada", new Address("Rua Augusta", "Lisbon", "1100-048"));
+        customerEntity = converter.toColumn(customer);
+        address = field(Customer.class, "address");
+    }
+
+    @Benchmark
+    public ColumnEntity flatToColumn() {
+        return converter.toColumn(sensor);
+    }
+
+    @Benchmark
+    public Sensor flatToEntity() {
+        return converter.toEntity(sensorEntity);
+    }
+
+    @Benchmark
+    public ColumnEntity udtToColumn() {
+        return converter.toColumn(customer);
+    }
+
+    @Benchmark
+    public Customer udtToEntity() {
+        return converter.toEntity(customerEntity);
+    }
+
+    @Benchmark
+    public List<Column> udtTypeToColumn() {
+        return new CassandraUDTType("address", customer.getAddress(), address).toColumn(converter, converters);
+    }
+}
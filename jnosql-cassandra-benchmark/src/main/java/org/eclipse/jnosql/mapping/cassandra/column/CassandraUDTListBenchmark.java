@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Route;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Stop;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CassandraColumnEntityConverter} in both directions to an entity with a list of {@link UDT} by the
+ * size of the list, and {@link CassandraUDTType#toColumn} alone to the same list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CassandraUDTListBenchmark extends ConverterBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private Route route;
+
+    private ColumnEntity routeEntity;
+
+    private FieldMapping stops;
+
+    @Override
+    protected void fixtures() {
+        List<Stop> values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(new Stop("stop-" + index, 38.7D + index, -9.1D - index));
+        }
+        route = new Route("route-1", "Coastline", values);
+        routeEntity = converter.toColumn(route);
+        stops = field(Route.class, "stops");
+    }
+
+    @Benchmark
+    public ColumnEntity toColumn() {
+        return converter.toColumn(route);
+    }
+
+    @Benchmark
+    public Route toEntity() {
+        return converter.toEntity(routeEntity);
+    }
+
+    @Benchmark
+    public List<Column> udtTypeToColumn() {
+        return new CassandraUDTType("stop", route.getStops(), stops).toColumn(converter, converters);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+import jakarta.nosql.mapping.Converters;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The base to the converter benchmarks, it starts the CDI container once to each trial to take the
+ * {@link CassandraColumnEntityConverter} with its metadata, no Cassandra cluster is required since the session is
+ * only created on the first use. The fixtures are created in memory by {@link #fixtures()}.
+ */
+abstract class ConverterBenchmark {
+
+    private SeContainer container;
+
+    protected CassandraColumnEntityConverter converter;
+
+    protected Converters converters;
+
+    protected EntitiesMetadata entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        container = SeContainerInitializer.newInstance().initialize();
+        converter = container.select(CassandraColumnEntityConverter.class).get();
+        converters = container.select(Converters.class).get();
+        entities = container.select(EntitiesMetadata.class).get();
+        fixtures();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        container.close();
+    }
+
+    /**
+     * Creates the entities and the {@link jakarta.nosql.column.ColumnEntity} used by the benchmarks.
+     */
+    protected abstract void fixtures();
+
+    protected FieldMapping field(Class<?> type, String name) {
+        return entities.get(type).getFieldsGroupByName().get(name);
+    }
+}
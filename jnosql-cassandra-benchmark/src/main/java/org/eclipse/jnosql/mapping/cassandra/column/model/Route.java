@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column.model;
+
+import jakarta.nosql.mapping.Column;
+import jakarta.nosql.mapping.Entity;
+import jakarta.nosql.mapping.Id;
+import org.eclipse.jnosql.mapping.cassandra.column.UDT;
+
+import java.util.List;
+
+@Entity
+public class Route {
+
+    @Id
+    private String id;
+
+    @Column
+    private String name;
+
+    @Column
+    @UDT("stop")
+    private List<Stop> stops;
+
+    public Route(String id, String name, List<Stop> stops) {
+        this.id = id;
+        this.name = name;
+        this.stops = stops;
+    }
+
+    Route() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Stop> getStops() {
+        return stops;
+    }
+}
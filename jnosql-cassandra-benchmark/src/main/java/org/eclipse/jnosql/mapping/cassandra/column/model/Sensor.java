@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column.model;
+
+import jakarta.nosql.mapping.Column;
+import jakarta.nosql.mapping.Entity;
+import jakarta.nosql.mapping.Id;
+
+@Entity
+public class Sensor {
+
+    @Id
+    private String id;
+
+    @Column
+    private String name;
+
+    @Column
+    private String location;
+
+    @Column
+    private double temperature;
+
+    @Column
+    private long readings;
+
+    @Column
+    private boolean active;
+
+    public Sensor(String id, String name, String location, double temperature, long readings, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.location = location;
+        this.temperature = temperature;
+        this.readings = readings;
+        this.active = active;
+    }
+
+    Sensor() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getTemperature() {
+        return temperature;
+    }
+
+    public long getReadings() {
+        return readings;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.mapping.MappingException;
+import org.apache.cassandra.cql3.functions.types.CodecRegistry;
+import org.apache.cassandra.cql3.functions.types.LocalDate;
+import org.apache.cassandra.cql3.functions.types.UDTValue;
+import org.apache.cassandra.cql3.functions.types.UserType;
+import org.apache.cassandra.exceptions.RequestValidationException;
+import org.apache.cassandra.io.sstable.CQLSSTableWriter;
+import org.eclipse.jnosql.communication.cassandra.column.UDT;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Writes the entities, offline, to SSTables with the Cassandra {@link CQLSSTableWriter}, to stream them into the
+ * cluster afterwards with sstableloader, e.g. sstableloader -d host directory/keyspace/table. The entities are
+ * converted by {@link CassandraColumnEntityConverter}, user defined types included, and the files go to the
+ * directory/keyspace/table directory that sstableloader expects, with the names as CQL reads them, so Person
+ * goes to person. The schema of the table, and of its user defined types, is given as the CREATE statements with
+ * the keyspace qualified names, since there is no cluster to read it from.
+ * The null fields are not written, so they do not create tombstones: the rows are grouped by the columns they
+ * have, and each group has its own writer and SSTables. The entity events are not fired.
+ */
+@ApplicationScoped
+public class SSTableBulkLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(SSTableBulkLoader.class.getName());
+
+    private static final CodecRegistry CODECS = CodecRegistry.DEFAULT_INSTANCE;
+
+    private CassandraColumnEntityConverter converter;
+
+    @Inject
+    SSTableBulkLoader(CassandraColumnEntityConverter converter) {
+        this.converter = converter;
+    }
+
+    SSTableBulkLoader() {
+    }
+
+    /**
+     * Writes the entities of a table to SSTables at directory/keyspace/table.
+     *
+     * @param entities  the entities of the table, the stream is read once in order
+     * @param directory the output directory, the keyspace and table directories are created when they do not exist
+     * @param keyspace  the keyspace name
+     * @param table     the CREATE TABLE statement, e.g. CREATE TABLE library.book (isbn text PRIMARY KEY, title text)
+     * @param types     the CREATE TYPE statements of the user defined types of the table
+     * @param <T>       the entity type
+     * @return the number of rows written
+     * @throws NullPointerException  when there is null parameter
+     * @throws MappingException      when an entity is from another table or a row does not match the schema
+     * @throws UncheckedIOException  when an SSTable cannot be written
+     */
+    public <T> long write(Stream<T> entities, Path directory, String keyspace, String table, String... types) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(directory, "directory is required");
+        Objects.requireNonNull(keyspace, "keyspace is required");
+        Objects.requireNonNull(table, "table is required");
+        Objects.requireNonNull(types, "types is required");
+        TableWriters writers = new TableWriters(directory.resolve(CqlIdentifier.fromCql(keyspace).asInternal()),
+                keyspace, table, types);
+        long rows = 0;
+        try {
+            Iterator<T> iterator = entities.sequential().iterator();
+            while (iterator.hasNext()) {
+                writers.write(converter.toColumn(iterator.next()));
+                rows++;
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            writers.close();
+        }
+        LOGGER.log(Level.FINEST, "The SSTables of " + keyspace + '.' + writers.name + " have " + rows + " rows");
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "SSTableBulkLoader{}";
+    }
+
+    private static final class TableWriters {
+
+        private final Path directory;
+
+        private final String keyspace;
+
+        private final String table;
+
+        private final String[] types;
+
+        private final Map<Set<String>, CQLSSTableWriter> writers = new LinkedHashMap<>();
+
+        private String name;
+
+        private TableWriters(Path directory, String keyspace, String table, String[] types) {
+            this.directory = directory;
+            this.keyspace = keyspace;
+            this.table = table;
+            this.types = types;
+        }
+
+        private void write(ColumnEntity entity) throws IOException {
+            if (name == null) {
+                name = entity.getName();
+                Files.createDirectories(directory.resolve(CqlIdentifier.fromCql(name).asInternal()));
+            } else if (!name.equals(entity.getName())) {
+                throw new MappingException("The SSTables of the table " + name
+                        + " cannot have the rows of the table " + entity.getName());
+            }
+            Map<String, Column> columns = entity.getColumns().stream()
+                    .filter(c -> c.get() != null)
+                    .collect(Collectors.toMap(Column::getName, c -> c, (a, b) -> b, LinkedHashMap::new));
+            try {
+                CQLSSTableWriter writer = writers.computeIfAbsent(new LinkedHashSet<>(columns.keySet()),
+                        this::create);
+                Map<String, Object> row = new LinkedHashMap<>();
+                columns.forEach((column, value) -> row.put(column, value(writer, value)));
+                writer.addRow(row);
+            } catch (RequestValidationException exception) {
+                throw new MappingException("The row is invalid to the table " + keyspace + '.' + name
+                        + ": " + exception.getMessage(), exception);
+            }
+        }
+
+        private CQLSSTableWriter create(Set<String> columns) {
+            String names = String.join(", ", columns);
+            String values = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+            CQLSSTableWriter.Builder builder = CQLSSTableWriter.builder()
+                    .inDirectory(directory.resolve(CqlIdentifier.fromCql(name).asInternal()).toString());
+            for (String type : types) {
+                builder.withType(type);
+            }
+            return builder.forTable(table)
+                    .using("INSERT INTO " + keyspace + '.' + name + " (" + names + ") VALUES (" + values + ')')
+                    .build();
+        }
+
+        private void close() {
+            UncheckedIOException error = null;
+            for (CQLSSTableWriter writer : writers.values()) {
+                try {
+                    writer.close();
+                } catch (IOException exception) {
+                    if (error == null) {
+                        error = new UncheckedIOException(exception);
+                    } else {
+                        error.addSuppressed(exception);
+                    }
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    private static Object value(CQLSSTableWriter writer, Column column) {
+        if (column instanceof UDT) {
+            UserType type = writer.getUDType(((UDT) column).getUserType());
+            Object value = column.get();
+            if (value instanceof Iterable && isElements((Iterable<?>) value)) {
+                List<UDTValue> values = new ArrayList<>();
+                for (Object element : (Iterable<?>) value) {
+                    values.add(udt(writer, type, (Iterable<?>) element));
+                }
+                return values;
+            }
+            return udt(writer, type, (Iterable<?>) value);
+        }
+        return value(column.get());
+    }
+
+    private static boolean isElements(Iterable<?> value) {
+        Iterator<?> iterator = value.iterator();
+        return iterator.hasNext() && iterator.next() instanceof Iterable;
+    }
+
+    private static UDTValue udt(CQLSSTableWriter writer, UserType type, Iterable<?> fields) {
+        UDTValue udt = type.newValue();
+        for (Object field : fields) {
+            Column column = (Column) field;
+            Object value = value(writer, column);
+            if (value != null) {
+                udt.set(column.getName(), value, CODECS.codecFor(type.getFieldType(column.getName()), value));
+            }
+        }
+        return udt;
+    }
+
+    /**
+     * Converts the value to the Java type of the writer codec of its CQL type: the java.time types go to the
+     * timestamp, date and time types, the enums to their name and the byte arrays to blob.
+     */
+    private static Object value(Object value) {
+        if (value instanceof Instant) {
+            return Date.from((Instant) value);
+        } else if (value instanceof ZonedDateTime) {
+            return Date.from(((ZonedDateTime) value).toInstant());
+        } else if (value instanceof OffsetDateTime) {
+            return Date.from(((OffsetDateTime) value).toInstant());
+        } else if (value instanceof java.time.LocalDate) {
+            return LocalDate.fromDaysSinceEpoch(Math.toIntExact(((java.time.LocalDate) value).toEpochDay()));
+        } else if (value instanceof LocalTime) {
+            return ((LocalTime) value).toNanoOfDay();
+        } else if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        } else if (value instanceof byte[]) {
+            return ByteBuffer.wrap((byte[]) value);
+        } else if (value instanceof Set) {
+            return ((Set<?>) value).stream().map(SSTableBulkLoader::value)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(value(k), value(v)));
+            return map;
+        } else if (value instanceof Iterable) {
+            return StreamSupport.stream(((Iterable<?>) value).spliterator(), false)
+                    .map(SSTableBulkLoader::value).collect(Collectors.toList());
+        }
+        return value;
+    }
+}
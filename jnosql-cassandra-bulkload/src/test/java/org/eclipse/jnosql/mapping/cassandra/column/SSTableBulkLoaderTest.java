@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.inject.Inject;
+import jakarta.nosql.mapping.MappingException;
+import jakarta.nosql.tck.test.CDIExtension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@CDIExtension
+public class SSTableBulkLoaderTest {
+
+    private static final String TABLE = "CREATE TABLE library.book (isbn text PRIMARY KEY, title text, "
+            + "tags set<text>, author frozen<author>)";
+
+    private static final String TYPE = "CREATE TYPE library.author (name text, country text)";
+
+    @Inject
+    private SSTableBulkLoader loader;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class,
+                () -> loader.write(null, directory, "library", TABLE, TYPE));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> loader.write(Stream.empty(), null, "library", TABLE, TYPE));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> loader.write(Stream.empty(), directory, null, TABLE, TYPE));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> loader.write(Stream.empty(), directory, "library", null, TYPE));
+    }
+
+    @Test
+    public void shouldWriteTheSSTablesOfTheTable() throws IOException {
+        Stream<Book> books = IntStream.range(0, 100)
+                .mapToObj(i -> new Book("isbn-" + i, "Title " + i, Set.of("tag" + i),
+                        new Author("Author " + i, "Brazil")));
+
+        long rows = loader.write(books, directory, "library", TABLE, TYPE);
+
+        assertEquals(100L, rows);
+        List<String> files = files(directory.resolve("library").resolve("book"));
+        assertThat(files).filteredOn(f -> f.endsWith("-Data.db")).hasSize(1);
+        assertThat(files).filteredOn(f -> f.endsWith("-Statistics.db")).hasSize(1);
+        assertThat(Files.size(data(directory.resolve("library").resolve("book")).get(0))).isPositive();
+    }
+
+    @Test
+    public void shouldWriteAnSSTableByColumnsToSkipTheNullFields() throws IOException {
+        Stream<Book> books = Stream.of(new Book("isbn-1", "Title", Set.of("tag"), new Author("Ada", "UK")),
+                new Book("isbn-2", "Title", null, null),
+                new Book("isbn-3", "Title", Set.of("tag"), new Author("Otavio", "Brazil")));
+
+        long rows = loader.write(books, directory, "library", TABLE, TYPE);
+
+        assertEquals(3L, rows);
+        assertThat(data(directory.resolve("library").resolve("book"))).hasSize(2);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheRowDoesNotMatchTheSchema() {
+        Stream<Book> books = Stream.of(new Book("isbn-1", "Title", null, null));
+
+        Assertions.assertThrows(MappingException.class, () -> loader.write(books, directory, "library",
+                "CREATE TABLE library.book (isbn text PRIMARY KEY, name text)"));
+    }
+
+    private static List<String> files(Path directory) throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.map(f -> f.getFileName().toString()).sorted().collect(Collectors.toList());
+        }
+    }
+
+    private static List<Path> data(Path directory) throws IOException {
+        try (Stream<Path> list = Files.list(directory)) {
+            return list.filter(f -> f.getFileName().toString().endsWith("-Data.db")).sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * The asynchronous counterpart of {@link CassandraTemplate}. The operations return as soon as the request is sent
+ * to Cassandra, and the {@link CompletionStage} completes on the driver thread once the response arrives, so the
+ * caller thread is not parked for the coordinator round trip. An error of the conversion or of the statement
+ * building completes the stage exceptionally too; only the null parameters throw.
+ * The queries map the rows page by page as the driver fetches them, but they complete with the whole result in a
+ * {@link List}, so it is held in memory: for a large result, set a limit on the query or read it by page with
+ * {@link CassandraTemplate#findPage}.
+ */
+public interface AsyncCassandraTemplate {
+
+    /**
+     * Saves an entity with a defined ConsistencyLevel. An entity with {@link LookupTable} goes in the LOGGED batch
+     * of its lookup tables, after its current keys are read asynchronously.
+     *
+     * @param <T>    type
+     * @param entity the entity
+     * @param level  the {@link ConsistencyLevel}
+     * @return the entity saved
+     * @throws NullPointerException when both entity or level are null
+     */
+    <T> CompletionStage<T> save(T entity, ConsistencyLevel level);
+
+    /**
+     * Saves an entity using {@link ConsistencyLevel}
+     *
+     * @param <T>    type
+     * @param entity the entity
+     * @param ttl    the ttl
+     * @param level  the level
+     * @return the entity saved
+     * @throws NullPointerException when either entity or ttl or level are null
+     */
+    <T> CompletionStage<T> save(T entity, Duration ttl, ConsistencyLevel level);
+
+    /**
+     * Deletes an information using {@link ConsistencyLevel}
+     *
+     * @param query the query
+     * @param level the level
+     * @return the stage completed when the deletion finishes
+     * @throws NullPointerException when either query or level are null
+     */
+    CompletionStage<Void> delete(ColumnDeleteQuery query, ConsistencyLevel level);
+
+    /**
+     * Finds using a consistency level
+     *
+     * @param <T>   type
+     * @param query the query
+     * @param level the consistency level
+     * @return the result of this query
+     * @throws NullPointerException when either query or level are null
+     */
+    <T> CompletionStage<List<T>> find(ColumnQuery query, ConsistencyLevel level);
+
+    /**
+     * Executes CQL
+     *
+     * @param <T>   type
+     * @param query the Cassandra query language
+     * @return the result of this query
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> cql(String query);
+
+    /**
+     * Executes CQL using the provided named values.
+     * E.g.: "SELECT * FROM users WHERE id = :i", Map.&#60;String, Object&#62;of("i", 1)"
+     *
+     * @param <T>    type
+     * @param query  the Cassandra query language
+     * @param values values required for the execution of {@code query}
+     * @return the result of this query
+     * @throws NullPointerException when either query or values are null
+     */
+    <T> CompletionStage<List<T>> cql(String query, Map<String, Object> values);
+
+    /**
+     * Executes CQL, the query is kept in the {@link PreparedStatementCache}
+     *
+     * @param <T>    type
+     * @param query  the Cassandra query language
+     * @param params the params
+     * @return the result of this query
+     * @throws NullPointerException when query is null
+     */
+    <T> CompletionStage<List<T>> cql(String query, Object... params);
+
+    /**
+     * Executes a statement
+     *
+     * @param <T>       type
+     * @param statement the statement
+     * @return the result of this query
+     * @throws NullPointerException when statement is null
+     */
+    <T> CompletionStage<List<T>> execute(SimpleStatement statement);
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.nosql.mapping.MappingException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown by {@link CassandraTemplate#deleteAll} when at least one id was not deleted. The other deletes are not
+ * rolled back, so the exception keeps the ids and why each one failed, by the position of the id in the input.
+ * The ids deleted by the same statement fail together.
+ */
+public class BulkDeleteException extends MappingException {
+
+    private final transient List<Object> ids;
+
+    private final transient Map<Integer, Throwable> failures;
+
+    BulkDeleteException(List<Object> ids, Map<Integer, Throwable> failures) {
+        super(failures.size() + " of " + ids.size() + " ids were not deleted", failures.values().iterator().next());
+        this.ids = Collections.unmodifiableList(ids);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return the ids in the input order
+     */
+    public List<Object> getIds() {
+        return ids;
+    }
+
+    /**
+     * @return the cause of each failure by the position of the id in the input, sorted by position
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.nosql.mapping.MappingException;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thrown by the bulk saves of {@link CassandraTemplate} when at least one entity was not written.
+ * The other writes are not rolled back, so the exception keeps what was saved and why each entity failed,
+ * both by the position of the entity in the input.
+ */
+public class BulkWriteException extends MappingException {
+
+    private final transient List<Object> entities;
+
+    private final transient Map<Integer, Throwable> failures;
+
+    BulkWriteException(List<Object> entities, Map<Integer, Throwable> failures) {
+        super(failures.size() + " of " + entities.size() + " entities were not written",
+                failures.values().iterator().next());
+        this.entities = Collections.unmodifiableList(entities);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * @return the entities saved in the input order, the position of an entity that failed is null
+     */
+    public List<Object> getEntities() {
+        return entities;
+    }
+
+    /**
+     * @return the cause of each failure by the position of the entity in the input, sorted by position
+     */
+    public Map<Integer, Throwable> getFailures() {
+        return failures;
+    }
+}
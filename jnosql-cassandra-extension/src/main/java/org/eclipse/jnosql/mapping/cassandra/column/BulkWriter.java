@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.BULK_MAXIMUM_IN_FLIGHT;
+
+/**
+ * Pipelines the writes of a bulk save: the next write starts as soon as a permit is free, instead of waiting
+ * for the previous one, and at most {@link CassandraExtensionConfigurations#BULK_MAXIMUM_IN_FLIGHT} writes of
+ * the same bulk save are in flight, so a large input does not flood the coordinator.
+ */
+@ApplicationScoped
+class BulkWriter {
+
+    static final int DEFAULT_MAXIMUM_IN_FLIGHT = 64;
+
+    private final int maximumInFlight;
+
+    BulkWriter() {
+        this(MicroProfileSettings.INSTANCE.get(BULK_MAXIMUM_IN_FLIGHT.get(), Integer.class)
+                .orElse(DEFAULT_MAXIMUM_IN_FLIGHT));
+    }
+
+    BulkWriter(int maximumInFlight) {
+        if (maximumInFlight <= 0) {
+            throw new IllegalArgumentException("The maximum in flight must be greater than zero: "
+                    + maximumInFlight);
+        }
+        this.maximumInFlight = maximumInFlight;
+    }
+
+    /**
+     * Writes every entity and waits for all of them.
+     *
+     * @param entities the entities
+     * @param write    the function that starts the write of an entity
+     * @param <T>      the entity type
+     * @return the entities written in the input order
+     * @throws NullPointerException when there is null parameter
+     * @throws BulkWriteException   when at least one write fails, after every write finished
+     * @throws MappingException     when the thread is interrupted waiting for a permit
+     */
+    <T> List<T> write(Iterable<T> entities, Function<T, CompletionStage<T>> write) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(write, "write is required");
+        Semaphore permits = new Semaphore(maximumInFlight);
+        List<T> results = new ArrayList<>();
+        SortedMap<Integer, Throwable> failures = new TreeMap<>();
+        int index = 0;
+        try {
+            for (T entity : entities) {
+                permits.acquire();
+                int position = index++;
+                synchronized (results) {
+                    results.add(null);
+                }
+                start(entity, write).whenComplete((result, error) -> {
+                    synchronized (results) {
+                        if (error == null) {
+                            results.set(position, result);
+                        } else {
+                            failures.put(position, error instanceof CompletionException && error.getCause() != null
+                                    ? error.getCause() : error);
+                        }
+                    }
+                    permits.release();
+                });
+            }
+            permits.acquire(maximumInFlight);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("The bulk write was interrupted", exception);
+        }
+        synchronized (results) {
+            if (!failures.isEmpty()) {
+                throw new BulkWriteException(new ArrayList<>(results), failures);
+            }
+            return results;
+        }
+    }
+
+    int getMaximumInFlight() {
+        return maximumInFlight;
+    }
+
+    private static <T> CompletionStage<T> start(T entity, Function<T, CompletionStage<T>> write) {
+        try {
+            return write.apply(entity);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriter{" +
+                "maximumInFlight=" + maximumInFlight +
+                '}';
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+/**
+ * Defines when {@link CassandraExtension} prepares the {@link CQL} queries of the repositories,
+ * the value of {@link CassandraExtensionConfigurations#CQL_PREPARATION}.
+ */
+public enum CQLPreparation {
+
+    /**
+     * The queries are prepared on the first use.
+     */
+    NONE,
+    /**
+     * The queries are prepared at the start up, which fails when a query is invalid.
+     */
+    EAGER,
+    /**
+     * The queries are prepared at the start up without waiting for them or for the session connection, an invalid
+     * query is logged.
+     */
+    BACKGROUND
+}
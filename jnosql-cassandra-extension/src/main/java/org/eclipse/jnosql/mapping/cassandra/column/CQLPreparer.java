@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import jakarta.nosql.mapping.MappingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Prepares the {@link CQL} queries at the same time and keeps them in the {@link PreparedStatementCache},
+ * so the first call of a repository method does not pay the preparation.
+ */
+final class CQLPreparer {
+
+    private CQLPreparer() {
+    }
+
+    /**
+     * Prepares the queries
+     *
+     * @param queries    the query and the method that declares it
+     * @param session    the session
+     * @param statements the cache
+     * @return the stage completed when every query is prepared, or completed with a {@link MappingException} that
+     * lists each invalid query and its method
+     */
+    static CompletableFuture<Void> prepare(Map<String, String> queries, CqlSession session,
+                                           PreparedStatementCache statements) {
+        Objects.requireNonNull(queries, "queries is required");
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(statements, "statements is required");
+        List<String> errors = new ArrayList<>();
+        CompletableFuture<?>[] preparations = queries.entrySet().stream()
+                .map(query -> session.prepareAsync(query.getKey())
+                        .toCompletableFuture()
+                        .thenAccept(prepared -> statements.get(query.getKey(), q -> prepared))
+                        .exceptionally(error -> {
+                            synchronized (errors) {
+                                errors.add(query.getValue() + " \"" + query.getKey() + "\": "
+                                        + cause(error).getMessage());
+                            }
+                            return null;
+                        }))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(preparations).thenRun(() -> {
+            if (!errors.isEmpty()) {
+                throw new MappingException("There are invalid @CQL queries: " + String.join("; ", errors));
+            }
+        });
+    }
+
+    /**
+     * Prepares the queries from a thread of its own, which also obtains the session, so neither the connection of
+     * the session nor the preparation blocks the caller
+     *
+     * @param queries    the query and the method that declares it
+     * @param session    obtains the session, it runs in the preparation thread
+     * @param statements the cache
+     * @return the stage completed when every query is prepared, or completed with the error of the session or with
+     * a {@link MappingException} that lists each invalid query and its method
+     */
+    static CompletableFuture<Void> prepareInBackground(Map<String, String> queries, Supplier<CqlSession> session,
+                                                       PreparedStatementCache statements) {
+        Objects.requireNonNull(queries, "queries is required");
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(statements, "statements is required");
+        Executor executor = runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-cassandra-cql-preparation");
+            thread.setDaemon(true);
+            thread.start();
+        };
+        return CompletableFuture.supplyAsync(() -> prepare(queries, session.get(), statements), executor)
+                .thenCompose(Function.identity());
+    }
+
+    private static Throwable cause(Throwable error) {
+        return error.getCause() != null && error instanceof CompletionException
+                ? error.getCause() : error;
+    }
+}
@@ -24,17 +24,18 @@ import org.eclipse.jnosql.mapping.column.AbstractColumnEntityConverter;
 import org.eclipse.jnosql.mapping.column.ColumnFieldValue;
 
 import org.eclipse.jnosql.mapping.reflection.GenericFieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.StreamSupport;
 
 @ApplicationScoped
 @Typed(CassandraColumnEntityConverter.class)
@@ -46,6 +47,20 @@ class CassandraColumnEntityConverter extends AbstractColumnEntityConverter imple
     @Inject
     private Converters converters;
 
+    // the UDT type by column name of each class, so the annotations are read once
+    private final ClassValue<Map<String, String>> udtFields = new ClassValue<>() {
+        @Override
+        protected Map<String, String> computeValue(Class<?> type) {
+            Map<String, String> fields = new HashMap<>();
+            for (FieldMapping field : entities.get(type).getFields()) {
+                UDT annotation = field.getNativeField().getAnnotation(UDT.class);
+                if (Objects.nonNull(annotation)) {
+                    fields.put(field.getName(), annotation.value());
+                }
+            }
+            return Collections.unmodifiableMap(fields);
+        }
+    };
 
     @Override
     protected EntitiesMetadata getEntities() {
@@ -59,22 +74,32 @@ class CassandraColumnEntityConverter extends AbstractColumnEntityConverter imple
 
     @Override
     protected <T> Consumer<String> feedObject(T instance, List<Column> columns, Map<String, FieldMapping> fieldsGroupByName) {
+        Consumer<String> feedObject = super.feedObject(instance, columns, fieldsGroupByName);
+        Map<String, String> udts = udtFields.get(instance.getClass());
+        Map<String, Column> columnsByName = new HashMap<>(columns.size());
+        for (Column column : columns) {
+            columnsByName.putIfAbsent(column.getName(), column);
+        }
         return k -> {
+            Column column = columnsByName.get(k);
             FieldMapping field = fieldsGroupByName.get(k);
-            if (Objects.nonNull(field.getNativeField().getAnnotation(UDT.class))) {
-                Optional<Column> column = columns.stream().filter(c -> c.getName().equals(k)).findFirst();
+            if (udts.containsKey(k)) {
                 setUDTField(instance, column, field);
+            } else if (column == null || field == null || MappingType.EMBEDDED.equals(field.getType())) {
+                // an embedded field reads its own fields from every column
+                feedObject.accept(k);
             } else {
-                super.feedObject(instance, columns, fieldsGroupByName).accept(k);
+                // the column goes alone, so the field converter does not scan every column to find it
+                super.feedObject(instance, Collections.singletonList(column), fieldsGroupByName).accept(k);
             }
         };
     }
 
-    private <T> void setUDTField(T instance, Optional<Column> column, FieldMapping field) {
-        if (column.isPresent() && org.eclipse.jnosql.communication.cassandra.column.UDT.class.isInstance(column.get())) {
-            org.eclipse.jnosql.communication.cassandra.column.UDT udt = org.eclipse.jnosql.communication.cassandra.column.UDT.class.cast(column.get());
+    private <T> void setUDTField(T instance, Column column, FieldMapping field) {
+        if (column instanceof org.eclipse.jnosql.communication.cassandra.column.UDT) {
+            org.eclipse.jnosql.communication.cassandra.column.UDT udt = org.eclipse.jnosql.communication.cassandra.column.UDT.class.cast(column);
             Object columns = udt.get();
-            if (StreamSupport.stream(Iterable.class.cast(columns).spliterator(), false).allMatch(Iterable.class::isInstance)) {
+            if (isUDTList((Iterable<?>) columns)) {
                 GenericFieldMapping genericField = GenericFieldMapping.class.cast(field);
                 Collection collection = genericField.getCollectionInstance();
                 List<List<Column>> embeddable = (List<List<Column>>) columns;
@@ -90,15 +115,22 @@ class CassandraColumnEntityConverter extends AbstractColumnEntityConverter imple
         }
     }
 
+    private static boolean isUDTList(Iterable<?> columns) {
+        for (Object column : columns) {
+            if (!(column instanceof Iterable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     protected ColumnFieldValue to(FieldMapping field, Object entityInstance) {
-
-        Object value = field.read(entityInstance);
-        UDT annotation = field.getNativeField().getAnnotation(UDT.class);
-        if (Objects.isNull(annotation)) {
+        String type = udtFields.get(entityInstance.getClass()).get(field.getName());
+        if (Objects.isNull(type)) {
             return super.to(field, entityInstance);
         } else {
-            return new CassandraUDTType(annotation.value(), value, field);
+            return new CassandraUDTType(type, field.read(entityInstance), field);
         }
     }
-}
\ No newline at end of file
+}
@@ -15,22 +15,39 @@
 package org.eclipse.jnosql.mapping.cassandra.column;
 
 
+import com.datastax.oss.driver.api.core.CqlSession;
 import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.AfterBeanDiscovery;
+import jakarta.enterprise.inject.spi.AfterDeploymentValidation;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.Extension;
 import jakarta.enterprise.inject.spi.ProcessAnnotatedType;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.CQL_PREPARATION;
+
 public class CassandraExtension implements Extension {
 
     private static final Logger LOGGER = Logger.getLogger(CassandraExtension.class.getName());
 
     private final Collection<Class<?>> crudTypes = new HashSet<>();
 
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
     <T extends CassandraRepository> void onProcessAnnotatedType(@Observes final ProcessAnnotatedType<T> repo) {
         Class<T> javaClass = repo.getAnnotatedType().getJavaClass();
 
@@ -41,6 +58,12 @@ public class CassandraExtension implements Extension {
         if (Arrays.asList(javaClass.getInterfaces()).contains(CassandraRepository.class)
                 && Modifier.isInterface(javaClass.getModifiers())) {
             crudTypes.add(javaClass);
+            for (Method method : javaClass.getMethods()) {
+                CQL cql = method.getAnnotation(CQL.class);
+                if (cql != null) {
+                    queries.putIfAbsent(cql.value(), javaClass.getName() + "#" + method.getName());
+                }
+            }
         }
     }
 
@@ -52,4 +75,42 @@ public class CassandraExtension implements Extension {
 
         LOGGER.info("Finished the onAfterBeanDiscovery");
     }
+
+    void onAfterDeploymentValidation(@Observes final AfterDeploymentValidation afterDeploymentValidation,
+                                     final BeanManager beanManager) {
+        CQLPreparation preparation;
+        try {
+            preparation = MicroProfileSettings.INSTANCE.get(CQL_PREPARATION.get(), String.class)
+                    .map(value -> CQLPreparation.valueOf(value.trim().toUpperCase(Locale.US)))
+                    .orElse(CQLPreparation.NONE);
+        } catch (IllegalArgumentException exception) {
+            afterDeploymentValidation.addDeploymentProblem(new MappingException("The " + CQL_PREPARATION.get()
+                    + " must be one of " + Arrays.toString(CQLPreparation.values()), exception));
+            return;
+        }
+        if (CQLPreparation.NONE.equals(preparation) || queries.isEmpty()) {
+            return;
+        }
+        LOGGER.info("Preparing the @CQL queries, " + preparation + ", number: " + queries.size());
+        Instance<Object> instance = beanManager.createInstance();
+        PreparedStatementCache statements = instance.select(PreparedStatementCache.class).get();
+        if (CQLPreparation.EAGER.equals(preparation)) {
+            try {
+                CQLPreparer.prepare(queries, instance.select(CqlSession.class).get(), statements).join();
+                LOGGER.info("Finished the preparation of the @CQL queries");
+            } catch (CompletionException exception) {
+                afterDeploymentValidation.addDeploymentProblem(exception.getCause());
+            }
+        } else {
+            // the session connects in the preparation thread, so the start up does not wait for the cluster
+            CQLPreparer.prepareInBackground(queries, () -> instance.select(CqlSession.class).get(), statements)
+                    .whenComplete((r, error) -> {
+                        if (error == null) {
+                            LOGGER.info("Finished the preparation of the @CQL queries");
+                        } else {
+                            LOGGER.log(Level.SEVERE, "The preparation of the @CQL queries failed", error);
+                        }
+                    });
+        }
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import java.util.function.Supplier;
+
+/**
+ * The settings read by the Cassandra extension from Eclipse MicroProfile Config.
+ */
+public enum CassandraExtensionConfigurations implements Supplier<String> {
+
+    /**
+     * The database host. It uses as a prefix. E.g.: jnosql.cassandra.host.1=localhost
+     */
+    HOST("jnosql.cassandra.host"),
+    /**
+     * The database port. Default: 9042
+     */
+    PORT("jnosql.cassandra.port"),
+    /**
+     * The session name, the driver basic.session-name option.
+     */
+    NAME("jnosql.cassandra.name"),
+    /**
+     * The queries to run before the session binds to the keyspace, such as the keyspace creation. It uses as a
+     * prefix. E.g.: jnosql.cassandra.query.1=CREATE KEYSPACE IF NOT EXISTS ...
+     */
+    QUERY("jnosql.cassandra.query"),
+    /**
+     * Whether the session connects with SSL using the JVM default SSLContext, configured by the javax.net.ssl
+     * system properties. Default: false
+     */
+    SSL("jnosql.cassandra.ssl"),
+    /**
+     * The local data center name. Default: "datacenter1"
+     */
+    DATA_CENTER("jnosql.cassandra.data.center"),
+    /**
+     * The user's credential.
+     */
+    USER("jnosql.cassandra.user"),
+    /**
+     * The password's credential.
+     */
+    PASSWORD("jnosql.cassandra.password"),
+    /**
+     * The maximum number of prepared statements kept by {@link PreparedStatementCache}. Default: 1000
+     */
+    PREPARED_STATEMENT_CACHE_SIZE("jnosql.cassandra.prepared.statement.cache.size"),
+    /**
+     * The maximum number of statements in an UNLOGGED batch of {@link CassandraTemplate#batchSave}. Default: 100
+     */
+    BATCH_MAXIMUM_STATEMENTS("jnosql.cassandra.batch.maximum.statements"),
+    /**
+     * The maximum size in bytes of an UNLOGGED batch of {@link CassandraTemplate#batchSave}. Default: 5120,
+     * the Cassandra batch_size_warn_threshold
+     */
+    BATCH_MAXIMUM_BYTES("jnosql.cassandra.batch.maximum.bytes"),
+    /**
+     * The maximum number of writes in flight of a bulk save in {@link CassandraTemplate}. Default: 64
+     */
+    BULK_MAXIMUM_IN_FLIGHT("jnosql.cassandra.bulk.maximum.in.flight"),
+    /**
+     * When the {@link CQL} queries of the repositories are prepared at the start up, the {@link CQLPreparation}:
+     * none, eager or background. Default: none
+     */
+    CQL_PREPARATION("jnosql.cassandra.cql.preparation"),
+    /**
+     * When true, the reads of the templates map the driver rows straight to the entities with
+     * {@link EntityRowMapper}. Default: false
+     */
+    DIRECT_ROW_MAPPING("jnosql.cassandra.direct.row.mapping"),
+    /**
+     * When true, {@link QueryMetrics} keeps the statistics of the statements. Default: false
+     */
+    METRICS_ENABLED("jnosql.cassandra.metrics.enabled"),
+    /**
+     * The duration in milliseconds from which a statement is logged as slow by {@link QueryMetrics}.
+     * Default: no slow query log
+     */
+    SLOW_QUERY_THRESHOLD("jnosql.cassandra.slow.query.threshold"),
+    /**
+     * The interval in milliseconds between the flushes of {@link CounterAccumulator}. Default: 1000
+     */
+    COUNTER_FLUSH_INTERVAL("jnosql.cassandra.counter.flush.interval"),
+    /**
+     * The number of counter rows pending in {@link CounterAccumulator} that starts a flush before the interval.
+     * Default: 10000
+     */
+    COUNTER_MAXIMUM_ROWS("jnosql.cassandra.counter.maximum.rows"),
+    /**
+     * The maximum number of ids in the IN restriction of each statement of {@link CassandraTemplate#deleteAll}.
+     * Default: 20
+     */
+    BULK_DELETE_MAXIMUM_KEYS("jnosql.cassandra.bulk.delete.maximum.keys");
+
+    private final String value;
+
+    CassandraExtensionConfigurations(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String get() {
+        return value;
+    }
+}
@@ -15,32 +15,46 @@
 package org.eclipse.jnosql.mapping.cassandra.column;
 
 
+import com.datastax.oss.driver.api.core.cql.Statement;
 import jakarta.nosql.mapping.Repository;
 import org.eclipse.jnosql.mapping.repository.DynamicReturn;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static org.eclipse.jnosql.mapping.repository.DynamicReturn.toSingleResult;
 
 class CassandraRepositoryProxy<T> implements InvocationHandler {
 
+    private static final Object[] NO_PARAMS = new Object[0];
+
     private final Class<T> typeClass;
 
     private final CassandraTemplate template;
 
     private final Repository<T,?> repository;
 
+    private final Map<Method, UnaryOperator<Statement<?>>> options;
+
     CassandraRepositoryProxy(CassandraTemplate template, Class<?> repositoryType, Repository<T, ?> repository) {
 
         this.template = template;
         this.typeClass = Class.class.cast(ParameterizedType.class.cast(repositoryType.getGenericInterfaces()[0])
                 .getActualTypeArguments()[0]);
         this.repository = repository;
+        this.options = new HashMap<>();
+        for (Method method : repositoryType.getMethods()) {
+            ExecutionProfile profile = method.getAnnotation(ExecutionProfile.class);
+            if (Objects.nonNull(profile)) {
+                options.put(method, StatementOptions.of(profile));
+            }
+        }
     }
 
     @Override
@@ -51,12 +65,14 @@ class CassandraRepositoryProxy<T> implements InvocationHandler {
 
             Stream<T> result;
             Map<String, Object> values = CQLObjectUtil.getValues(args, method);
+            UnaryOperator<Statement<?>> statementOptions = options.get(method);
             if (!values.isEmpty()) {
-                result = template.cql(cql.value(), values);
-            } else if (args == null || args.length == 0) {
-                result = template.cql(cql.value());
+                result = template.cql(cql.value(), statementOptions == null ? UnaryOperator.identity()
+                        : statementOptions, values);
+            } else if (Objects.nonNull(statementOptions)) {
+                result = template.cql(cql.value(), statementOptions, args == null ? NO_PARAMS : args);
             } else {
-                result = template.cql(cql.value(), args);
+                result = template.cql(cql.value(), args == null ? NO_PARAMS : args);
             }
             return DynamicReturn.builder()
                     .withClassSource(typeClass)
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnEntity;
+import org.eclipse.jnosql.communication.cassandra.column.UDT;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Converts the driver {@link Row} to {@link ColumnEntity}, the same structure the
+ * {@link org.eclipse.jnosql.communication.cassandra.column.CassandraColumnManager} returns, so the result
+ * goes through {@link CassandraColumnEntityConverter} as any other query.
+ */
+final class CassandraRowConverter {
+
+    private CassandraRowConverter() {
+    }
+
+    static ColumnEntity toColumnEntity(Row row) {
+        Objects.requireNonNull(row, "row is required");
+        ColumnDefinitions definitions = row.getColumnDefinitions();
+        List<Column> columns = new ArrayList<>(definitions.size());
+        String columnFamily = "";
+        for (int index = 0; index < definitions.size(); index++) {
+            ColumnDefinition definition = definitions.get(index);
+            columnFamily = definition.getTable().asInternal();
+            Object value = row.getObject(index);
+            if (Objects.nonNull(value)) {
+                columns.add(toColumn(definition.getName().asInternal(), value));
+            }
+        }
+        return ColumnEntity.of(columnFamily, columns);
+    }
+
+    private static Column toColumn(String name, Object value) {
+        if (value instanceof UdtValue) {
+            UdtValue udt = (UdtValue) value;
+            return UDT.builder(udt.getType().getName().asInternal())
+                    .withName(name)
+                    .addUDT(toColumns(udt))
+                    .build();
+        }
+        if (value instanceof Collection && isUDTs((Collection<?>) value)) {
+            Collection<?> udts = (Collection<?>) value;
+            List<Iterable<Column>> elements = new ArrayList<>(udts.size());
+            String type = null;
+            for (Object element : udts) {
+                UdtValue udt = (UdtValue) element;
+                type = udt.getType().getName().asInternal();
+                elements.add(toColumns(udt));
+            }
+            return UDT.builder(type).withName(name).addUDTs(elements).build();
+        }
+        return Column.of(name, value);
+    }
+
+    private static boolean isUDTs(Collection<?> values) {
+        return !values.isEmpty() && values.stream().allMatch(UdtValue.class::isInstance);
+    }
+
+    private static List<Column> toColumns(UdtValue udt) {
+        UserDefinedType type = udt.getType();
+        List<Column> columns = new ArrayList<>(type.getFieldNames().size());
+        for (int index = 0; index < type.getFieldNames().size(); index++) {
+            Object value = udt.getObject(index);
+            if (Objects.nonNull(value)) {
+                columns.add(Column.of(type.getFieldNames().get(index).asInternal(), value));
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
+import com.datastax.oss.driver.api.querybuilder.insert.InsertInto;
+import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import com.datastax.oss.driver.api.querybuilder.select.SelectFrom;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.cassandra.column.UDT;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+/**
+ * Creates the driver {@link SimpleStatement} from the communication structures, {@link ColumnEntity},
+ * {@link ColumnQuery} and {@link ColumnDeleteQuery}, to the operations that execute the statement
+ * straight on the {@link CqlSession}. The values are always positional bind markers, and the tables are qualified
+ * with the keyspace of the session, so the statements of every keyspace run on the same driver session on any
+ * native protocol version.
+ */
+final class CassandraStatements {
+
+    private CassandraStatements() {
+    }
+
+    /**
+     * Creates an insert statement
+     *
+     * @param entity  the entity
+     * @param ttl     the time to live, it might be null
+     * @param session the session used to read the user defined types
+     * @return the insert statement
+     * @throws NullPointerException     when entity or session are null
+     * @throws IllegalArgumentException when the entity does not have columns
+     */
+    static SimpleStatement insert(ColumnEntity entity, Duration ttl, CqlSession session) {
+        Objects.requireNonNull(entity, "entity is required");
+        return insert(entity.getName(), entity, ttl, session);
+    }
+
+    /**
+     * Creates an insert statement of the entity columns into another table, such as a lookup table
+     *
+     * @param table   the table name
+     * @param entity  the entity
+     * @param ttl     the time to live, it might be null
+     * @param session the session used to read the user defined types
+     * @return the insert statement
+     * @throws NullPointerException     when table, entity or session are null
+     * @throws IllegalArgumentException when the entity does not have columns
+     */
+    static SimpleStatement insert(String table, ColumnEntity entity, Duration ttl, CqlSession session) {
+        Objects.requireNonNull(table, "table is required");
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(session, "session is required");
+        if (entity.isEmpty()) {
+            throw new IllegalArgumentException("The entity must have at least one column: " + entity.getName());
+        }
+        InsertInto insertInto = QueryBuilder.insertInto(keyspace(session), CqlIdentifier.fromCql(table));
+        RegularInsert insert = null;
+        List<Object> values = new ArrayList<>(entity.size());
+        for (Column column : entity.getColumns()) {
+            insert = insert == null ? insertInto.value(column.getName(), bindMarker())
+                    : insert.value(column.getName(), bindMarker());
+            values.add(toValue(column, session));
+        }
+        if (Objects.nonNull(ttl)) {
+            return insert.usingTtl((int) ttl.getSeconds()).build(values.toArray());
+        }
+        return insert.build(values.toArray());
+    }
+
+    /**
+     * Creates a select statement without the keyspace
+     *
+     * @param query the query
+     * @return the select statement
+     * @throws NullPointerException          when query is null
+     * @throws UnsupportedOperationException when the query has a condition that Cassandra does not support
+     */
+    static SimpleStatement select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return select(query, (CqlIdentifier) null);
+    }
+
+    /**
+     * Creates a select statement from the table of the session keyspace
+     *
+     * @param query   the query
+     * @param session the session
+     * @return the select statement
+     * @throws NullPointerException          when query or session are null
+     * @throws UnsupportedOperationException when the query has a condition that Cassandra does not support
+     */
+    static SimpleStatement select(ColumnQuery query, CqlSession session) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(session, "session is required");
+        return select(query, keyspace(session));
+    }
+
+    /**
+     * Creates a delete statement without the keyspace
+     *
+     * @param query the query
+     * @return the delete statement
+     * @throws NullPointerException          when query is null
+     * @throws UnsupportedOperationException when the query has a condition that Cassandra does not support
+     */
+    static SimpleStatement delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return delete(query, (CqlIdentifier) null);
+    }
+
+    /**
+     * Creates a delete statement from the table of the session keyspace
+     *
+     * @param query   the query
+     * @param session the session
+     * @return the delete statement
+     * @throws NullPointerException          when query or session are null
+     * @throws UnsupportedOperationException when the query has a condition that Cassandra does not support
+     */
+    static SimpleStatement delete(ColumnDeleteQuery query, CqlSession session) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(session, "session is required");
+        return delete(query, keyspace(session));
+    }
+
+    /**
+     * @param session the session
+     * @return the keyspace of the session, or null when it has none, to qualify the table names
+     */
+    static CqlIdentifier keyspace(CqlSession session) {
+        return session.getKeyspace().orElse(null);
+    }
+
+    private static SimpleStatement select(ColumnQuery query, CqlIdentifier keyspace) {
+        SelectFrom selectFrom = QueryBuilder.selectFrom(keyspace, CqlIdentifier.fromCql(query.getColumnFamily()));
+        Select select = query.getColumns().isEmpty() ? selectFrom.all() : selectFrom.columns(query.getColumns());
+        List<Relation> relations = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        query.getCondition().ifPresent(c -> where(c, relations, values));
+        select = select.where(relations);
+        for (Sort sort : query.getSorts()) {
+            select = select.orderBy(sort.getName(), SortType.ASC.equals(sort.getType()) ? ClusteringOrder.ASC
+                    : ClusteringOrder.DESC);
+        }
+        if (query.getLimit() > 0) {
+            select = select.limit((int) (query.getLimit() + query.getSkip()));
+        }
+        return select.build(values.toArray());
+    }
+
+    private static SimpleStatement delete(ColumnDeleteQuery query, CqlIdentifier keyspace) {
+        DeleteSelection delete = QueryBuilder.deleteFrom(keyspace, CqlIdentifier.fromCql(query.getColumnFamily()));
+        for (String column : query.getColumns()) {
+            delete = delete.column(column);
+        }
+        List<Relation> relations = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        query.getCondition().ifPresent(c -> where(c, relations, values));
+        return delete.where(relations).build(values.toArray());
+    }
+
+    private static void where(ColumnCondition condition, List<Relation> relations, List<Object> values) {
+        Column column = condition.getColumn();
+        String name = column.getName();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                relations.add(Relation.column(name).isEqualTo(bindMarker()));
+                values.add(column.get());
+                return;
+            case GREATER_THAN:
+                relations.add(Relation.column(name).isGreaterThan(bindMarker()));
+                values.add(column.get());
+                return;
+            case GREATER_EQUALS_THAN:
+                relations.add(Relation.column(name).isGreaterThanOrEqualTo(bindMarker()));
+                values.add(column.get());
+                return;
+            case LESSER_THAN:
+                relations.add(Relation.column(name).isLessThan(bindMarker()));
+                values.add(column.get());
+                return;
+            case LESSER_EQUALS_THAN:
+                relations.add(Relation.column(name).isLessThanOrEqualTo(bindMarker()));
+                values.add(column.get());
+                return;
+            case LIKE:
+                relations.add(Relation.column(name).like(bindMarker()));
+                values.add(column.get());
+                return;
+            case IN:
+                relations.add(Relation.column(name).in(bindMarker()));
+                values.add(toList(column.get()));
+                return;
+            case BETWEEN:
+                Iterator<?> range = toList(column.get()).iterator();
+                relations.add(Relation.column(name).isGreaterThanOrEqualTo(bindMarker()));
+                values.add(range.next());
+                relations.add(Relation.column(name).isLessThanOrEqualTo(bindMarker()));
+                values.add(range.next());
+                return;
+            case AND:
+                column.get(new TypeReference<List<ColumnCondition>>() {
+                }).forEach(c -> where(c, relations, values));
+                return;
+            default:
+                throw new UnsupportedOperationException("Cassandra does not support the condition: "
+                        + condition.getCondition());
+        }
+    }
+
+    private static List<?> toList(Object value) {
+        if (value instanceof Iterable) {
+            return StreamSupport.stream(((Iterable<?>) value).spliterator(), false).collect(Collectors.toList());
+        }
+        return List.of(value);
+    }
+
+    private static Object toValue(Column column, CqlSession session) {
+        if (!(column instanceof UDT)) {
+            return column.get();
+        }
+        UDT udt = (UDT) column;
+        UserDefinedType type = userDefinedType(udt.getUserType(), session);
+        CodecRegistry registry = session.getContext().getCodecRegistry();
+        Iterable<?> columns = (Iterable<?>) udt.get();
+        if (StreamSupport.stream(columns.spliterator(), false).allMatch(Iterable.class::isInstance)) {
+            List<UdtValue> elements = new ArrayList<>();
+            for (Object element : columns) {
+                elements.add(toUdtValue(type, (Iterable<?>) element, registry));
+            }
+            return elements;
+        }
+        return toUdtValue(type, columns, registry);
+    }
+
+    private static UdtValue toUdtValue(UserDefinedType type, Iterable<?> columns, CodecRegistry registry) {
+        UdtValue value = type.newValue();
+        for (Object element : columns) {
+            Column column = (Column) element;
+            Object fieldValue = column.get();
+            if (Objects.nonNull(fieldValue)) {
+                DataType fieldType = type.getFieldTypes().get(type.firstIndexOf(column.getName()));
+                value = value.set(column.getName(), fieldValue, registry.codecFor(fieldType, fieldValue));
+            }
+        }
+        return value;
+    }
+
+    private static UserDefinedType userDefinedType(String name, CqlSession session) {
+        CqlIdentifier keyspace = session.getKeyspace()
+                .orElseThrow(() -> new IllegalStateException("The session must be connected to a keyspace"));
+        return session.getMetadata().getKeyspace(keyspace)
+                .flatMap(k -> k.getUserDefinedType(name))
+                .orElseThrow(() -> new IllegalArgumentException("The user defined type does not exist: " + name));
+    }
+}
@@ -18,12 +18,14 @@ package org.eclipse.jnosql.mapping.cassandra.column;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnQuery;
 import jakarta.nosql.mapping.column.ColumnTemplate;
 
 import java.time.Duration;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 /**
@@ -53,6 +55,7 @@ public interface CassandraTemplate extends ColumnTemplate {
      * @param level    the level
      * @return the entity saved
      * @throws NullPointerException when either entity or ttl or level are null
+     * @throws BulkWriteException   when at least one entity was not written
      */
     <T> Iterable<T> save(Iterable<T> entities, Duration ttl, ConsistencyLevel level);
 
@@ -64,10 +67,42 @@ public interface CassandraTemplate extends ColumnTemplate {
      * @param level    the {@link ConsistencyLevel}
      * @return the entity saved
      * @throws NullPointerException when both entity or level are null
+     * @throws BulkWriteException   when at least one entity was not written
      */
 
     <T> Iterable<T> save(Iterable<T> entities, ConsistencyLevel level);
 
+    /**
+     * Saves the entities grouped by partition key, each group is sent as UNLOGGED batches capped by
+     * {@link CassandraExtensionConfigurations#BATCH_MAXIMUM_STATEMENTS} and
+     * {@link CassandraExtensionConfigurations#BATCH_MAXIMUM_BYTES}, and at most
+     * {@link CassandraExtensionConfigurations#BULK_MAXIMUM_IN_FLIGHT} batches are in flight.
+     * The group is the routing key of the partition, see {@link #save(Iterable, ConsistencyLevel)}, an entity
+     * without routing key goes alone, and so does an entity with {@link LookupTable}, in the LOGGED batch of its
+     * lookup tables.
+     * The batches are not atomic across partitions, when one fails the others might have been applied.
+     *
+     * @param <T>      type
+     * @param entities the entities
+     * @param level    the {@link ConsistencyLevel}
+     * @return the entities saved in the same order
+     * @throws NullPointerException when both entities or level are null
+     * @throws BulkWriteException   when at least one batch was not written, with the failure of each of its entities
+     */
+    <T> Iterable<T> batchSave(Iterable<T> entities, ConsistencyLevel level);
+
+    /**
+     * Saves the entities grouped by partition key using a ttl, see {@link #batchSave(Iterable, ConsistencyLevel)}
+     *
+     * @param <T>      type
+     * @param entities the entities
+     * @param ttl      the ttl
+     * @param level    the {@link ConsistencyLevel}
+     * @return the entities saved in the same order
+     * @throws NullPointerException when either entities or ttl or level are null
+     */
+    <T> Iterable<T> batchSave(Iterable<T> entities, Duration ttl, ConsistencyLevel level);
+
 
     /**
      * Saves an entity using {@link ConsistencyLevel}
@@ -91,6 +126,25 @@ public interface CassandraTemplate extends ColumnTemplate {
      */
     void delete(ColumnDeleteQuery query, ConsistencyLevel level);
 
+    /**
+     * Deletes the entities by id. The ids are grouped by the replicas of their partition, each group is deleted
+     * by statements with an IN restriction of at most
+     * {@link CassandraExtensionConfigurations#BULK_DELETE_MAXIMUM_KEYS} ids, and the statements run concurrently,
+     * at most {@link CassandraExtensionConfigurations#BULK_MAXIMUM_IN_FLIGHT} in flight. An entity with
+     * {@link LookupTable} is deleted by id, each one in the LOGGED batch of its lookup tables.
+     *
+     * @param type  the entity type
+     * @param ids   the ids
+     * @param level the level
+     * @param <T>   the entity type
+     * @param <K>   the id type
+     * @throws NullPointerException                     when either type, ids, an id or level are null
+     * @throws jakarta.nosql.mapping.IdNotFoundException when the entity does not have an id
+     * @throws BulkDeleteException                      when at least one id was not deleted, after every
+     *                                                  statement finished
+     */
+    <T, K> void deleteAll(Class<T> type, Iterable<K> ids, ConsistencyLevel level);
+
     /**
      * Finds using a consistency level
      *
@@ -101,6 +155,52 @@ public interface CassandraTemplate extends ColumnTemplate {
      */
     <T> Stream<T> find(ColumnQuery query, ConsistencyLevel level);
 
+    /**
+     * Finds the first page using a consistency level,
+     * see {@link #findPage(ColumnQuery, ConsistencyLevel, int, PagingToken)}
+     *
+     * @param <T>      type
+     * @param query    the query
+     * @param level    the consistency level
+     * @param pageSize the maximum number of entities of the page
+     * @return the first page
+     * @throws NullPointerException     when either query or level are null
+     * @throws IllegalArgumentException when pageSize is not greater than zero or the query has skip
+     */
+    <T> Slice<T> findPage(ColumnQuery query, ConsistencyLevel level, int pageSize);
+
+    /**
+     * Finds a page using a consistency level. The page is a single request to Cassandra that resumes from the token,
+     * so a deep page costs the same as the first one.
+     * The query cannot have skip, the token replaces it.
+     *
+     * @param <T>      type
+     * @param query    the query
+     * @param level    the consistency level
+     * @param pageSize the maximum number of entities of the page
+     * @param token    the token returned by the previous page of the same query, null to the first page
+     * @return the page
+     * @throws NullPointerException     when either query or level are null
+     * @throws IllegalArgumentException when pageSize is not greater than zero or the query has skip
+     */
+    <T> Slice<T> findPage(ColumnQuery query, ConsistencyLevel level, int pageSize, PagingToken token);
+
+    /**
+     * Reads every entity of the type. The token ring is split in sub-ranges, at least parallelism of them,
+     * and at most parallelism sub-ranges are read at the same time. The order of the result is not defined.
+     * The stream must be closed when it is not read until the end, it stops the reading; a stream not read
+     * for a minute is taken as abandoned, the reading stops and the next read throws
+     * {@link jakarta.nosql.mapping.MappingException}.
+     *
+     * @param <T>         type
+     * @param type        the entity type
+     * @param parallelism the number of sub-ranges read at the same time
+     * @return the entities of the table
+     * @throws NullPointerException     when type is null
+     * @throws IllegalArgumentException when parallelism is not greater than zero
+     */
+    <T> Stream<T> scanAll(Class<T> type, int parallelism);
+
     /**
      * Executes CQL
      *
@@ -134,6 +234,62 @@ public interface CassandraTemplate extends ColumnTemplate {
      */
     <T> Stream<T> cql(String query, Object... params);
 
+    /**
+     * Executes CQL, the query is kept in the {@link PreparedStatementCache} and the options customize the
+     * bound statement, e.g. s -&#62; s.setPageSize(5000).setIdempotent(true)
+     *
+     * @param <T>     type
+     * @param query   the Cassandra query language
+     * @param options the statement customization
+     * @param params  the params
+     * @return the result of this query
+     * @throws NullPointerException when either query or options are null
+     */
+    <T> Stream<T> cql(String query, UnaryOperator<Statement<?>> options, Object... params);
+
+    /**
+     * Executes CQL using the provided named values, the query is kept in the {@link PreparedStatementCache} and
+     * the options customize the bound statement.
+     * E.g.: "SELECT * FROM users WHERE id = :i", s -&#62; s.setIdempotent(true), Map.&#60;String, Object&#62;of("i", 1)
+     *
+     * @param <T>     type
+     * @param query   the Cassandra query language
+     * @param options the statement customization
+     * @param values  the value of each named marker of the query
+     * @return the result of this query
+     * @throws NullPointerException when either query, options or values are null
+     * @throws jakarta.nosql.mapping.MappingException when a named marker of the query does not have a value
+     */
+    <T> Stream<T> cql(String query, UnaryOperator<Statement<?>> options, Map<String, Object> values);
+
+    /**
+     * Executes a CQL SELECT and returns each row as a map by column name, in the order of the columns,
+     * without mapping it to an entity. The query is kept in the {@link PreparedStatementCache}.
+     * E.g.: project("SELECT name, age FROM Person WHERE name = ?", "Ada")
+     *
+     * @param query  the Cassandra query language
+     * @param params the params
+     * @return the rows
+     * @throws NullPointerException when query is null
+     */
+    Stream<Map<String, Object>> project(String query, Object... params);
+
+    /**
+     * Executes a CQL SELECT and creates the type, such as a record or a DTO, from each row by a constructor
+     * with a parameter by column, without mapping it to an entity. The columns go by the parameter names when
+     * they are available, and by position otherwise. The query is kept in the {@link PreparedStatementCache}.
+     * E.g.: project(PersonName.class, "SELECT name, age FROM Person WHERE name = ?", "Ada")
+     *
+     * @param <T>    type
+     * @param type   the projection type
+     * @param query  the Cassandra query language
+     * @param params the params
+     * @return the projections
+     * @throws NullPointerException when either type or query are null
+     * @throws jakarta.nosql.mapping.MappingException when the type does not have a constructor to the columns
+     */
+    <T> Stream<T> project(Class<T> type, String query, Object... params);
+
     /**
      * Executes a statement
      *
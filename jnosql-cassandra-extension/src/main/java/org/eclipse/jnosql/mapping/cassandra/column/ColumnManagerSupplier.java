@@ -35,6 +35,7 @@ class ColumnManagerSupplier implements Supplier<CassandraColumnManager> {
 
     @Override
     @Produces
+    @ApplicationScoped
     @Typed(CassandraColumnManager.class)
     public CassandraColumnManager get() {
         Settings settings = MicroProfileSettings.INSTANCE;
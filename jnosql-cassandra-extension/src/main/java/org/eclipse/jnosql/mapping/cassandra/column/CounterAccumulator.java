@@ -0,0 +1,379 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.update.OngoingAssignment;
+import com.datastax.oss.driver.api.querybuilder.update.UpdateWithAssignments;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.event.Reception;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.COUNTER_FLUSH_INTERVAL;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.COUNTER_MAXIMUM_ROWS;
+
+/**
+ * Coalesces the increments of Cassandra counter columns on the client side. Each increment is added to an
+ * {@link AtomicLong} by table, partition key and counter, and the sums are written as a single UPDATE by row, one
+ * statement per row instead of one per increment. The flush takes each sum with {@link AtomicLong#getAndSet(long)},
+ * so an increment concurrent with the flush goes either to this flush or to the next one, never to both or none.
+ * The flush happens every {@link CassandraExtensionConfigurations#COUNTER_FLUSH_INTERVAL}, when more than
+ * {@link CassandraExtensionConfigurations#COUNTER_MAXIMUM_ROWS} rows are pending, on {@link #flush()} and before
+ * the driver session closes, when the CDI container shuts down.
+ * At most {@link CassandraExtensionConfigurations#BULK_MAXIMUM_IN_FLIGHT} updates of a flush are in flight, and the
+ * deltas of a failed update go back to the pending rows to the next flush. Since a counter update is not
+ * idempotent, an update that timed out might have been applied, and then its retry counts it twice.
+ * The increments are kept in memory until the flush, so the ones pending when the process dies are lost.
+ */
+@ApplicationScoped
+public class CounterAccumulator {
+
+    private static final Logger LOGGER = Logger.getLogger(CounterAccumulator.class.getName());
+
+    static final long DEFAULT_FLUSH_INTERVAL = 1_000L;
+
+    static final int DEFAULT_MAXIMUM_ROWS = 10_000;
+
+    private final Map<CounterRow, Map<String, AtomicLong>> rows = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    private Supplier<CqlSession> session;
+
+    private PreparedStatementCache statements;
+
+    private BulkWriter writer;
+
+    private Duration flushInterval;
+
+    private int maximumRows;
+
+    private volatile ScheduledExecutorService scheduler;
+
+    private volatile boolean closed;
+
+    @Inject
+    CounterAccumulator(Instance<CqlSession> session, PreparedStatementCache statements, BulkWriter writer) {
+        this(session::get, statements, writer,
+                Duration.ofMillis(MicroProfileSettings.INSTANCE.get(COUNTER_FLUSH_INTERVAL.get(), Long.class)
+                        .orElse(DEFAULT_FLUSH_INTERVAL)),
+                MicroProfileSettings.INSTANCE.get(COUNTER_MAXIMUM_ROWS.get(), Integer.class)
+                        .orElse(DEFAULT_MAXIMUM_ROWS));
+    }
+
+    CounterAccumulator(Supplier<CqlSession> session, PreparedStatementCache statements, BulkWriter writer,
+                       Duration flushInterval, int maximumRows) {
+        Objects.requireNonNull(flushInterval, "flushInterval is required");
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("The flush interval must be greater than zero: " + flushInterval);
+        }
+        if (maximumRows <= 0) {
+            throw new IllegalArgumentException("The maximum rows must be greater than zero: " + maximumRows);
+        }
+        this.session = session;
+        this.statements = statements;
+        this.writer = writer;
+        this.flushInterval = flushInterval;
+        this.maximumRows = maximumRows;
+    }
+
+    CounterAccumulator() {
+    }
+
+    /**
+     * Adds a delta to a counter column, it is written in the next flush.
+     * E.g.: increment("page_view", Map.of("page", "home"), "views", 1)
+     *
+     * @param table   the counter table
+     * @param key     the primary key columns and values of the row
+     * @param counter the counter column
+     * @param delta   the value to add, it might be negative
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when the key is empty
+     * @throws IllegalStateException    when the accumulator is closed
+     */
+    public void increment(String table, Map<String, ?> key, String counter, long delta) {
+        Objects.requireNonNull(table, "table is required");
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(counter, "counter is required");
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("The key must have at least one column");
+        }
+        if (closed) {
+            throw new IllegalStateException("The counter accumulator is closed");
+        }
+        if (delta == 0) {
+            return;
+        }
+        add(new CounterRow(table, key), counter, delta);
+    }
+
+    private void add(CounterRow row, String counter, long delta) {
+        Map<String, AtomicLong> counters = rows.get(row);
+        boolean created = counters == null;
+        if (created) {
+            counters = rows.computeIfAbsent(row, r -> new ConcurrentHashMap<>());
+        }
+        AtomicLong adder = counters.computeIfAbsent(counter, c -> new AtomicLong());
+        adder.addAndGet(delta);
+        if (rows.get(row) != counters || counters.get(counter) != adder) {
+            // evicted by a flush meanwhile, the delta is either in the flush or still in the orphan adder
+            long orphan = adder.getAndSet(0);
+            if (orphan != 0) {
+                add(row, counter, orphan);
+            }
+        }
+        if (created && !closed) {
+            start();
+            if (rows.size() > maximumRows) {
+                scheduler.execute(this::flushQuietly);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending increments, one UPDATE by row, and waits for them.
+     *
+     * @return the number of statements written
+     * @throws BulkWriteException when at least one update fails, the deltas of the failed updates go back to the
+     *                            pending rows
+     */
+    public int flush() {
+        synchronized (rows) {
+            return flush(session.get());
+        }
+    }
+
+    /**
+     * @return the number of rows with pending increments
+     */
+    public int getPendingRows() {
+        return rows.size();
+    }
+
+    /**
+     * Stops the scheduled flushes and writes the pending increments, it is called when the CDI container
+     * shuts down.
+     */
+    @PreDestroy
+    public void close() {
+        stop();
+        synchronized (rows) {
+            if (!rows.isEmpty()) {
+                flush(session.get());
+            }
+        }
+    }
+
+    /**
+     * Writes the pending increments before the driver session closes, so the final flush does not depend on the
+     * order in which the CDI container destroys the beans. It is not notified when the accumulator was not
+     * created or was already closed.
+     *
+     * @param closing the session about to close
+     */
+    void onSessionClosing(@Observes(notifyObserver = Reception.IF_EXISTS) SessionClosing closing) {
+        stop();
+        synchronized (rows) {
+            if (!rows.isEmpty()) {
+                flush(closing.getSession());
+            }
+        }
+    }
+
+    private void stop() {
+        closed = true;
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.shutdown();
+            try {
+                current.awaitTermination(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private int flush(CqlSession cqlSession) {
+        List<PendingRow> pending = new ArrayList<>();
+        for (Map.Entry<CounterRow, Map<String, AtomicLong>> entry : rows.entrySet()) {
+            CounterRow row = entry.getKey();
+            Map<String, Long> deltas = drain(row, entry.getValue());
+            if (!deltas.isEmpty()) {
+                pending.add(new PendingRow(row, deltas));
+            }
+        }
+        try {
+            writer.write(pending, p -> write(p.row, p.deltas, cqlSession).thenApply(r -> p));
+        } catch (BulkWriteException exception) {
+            exception.getFailures().keySet().forEach(index -> {
+                PendingRow failed = pending.get(index);
+                failed.deltas.forEach((counter, delta) -> add(failed.row, counter, delta));
+            });
+            throw exception;
+        }
+        return pending.size();
+    }
+
+    private Map<String, Long> drain(CounterRow row, Map<String, AtomicLong> counters) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> counter : counters.entrySet()) {
+            AtomicLong adder = counter.getValue();
+            long delta = adder.getAndSet(0);
+            if (counters.remove(counter.getKey(), adder)) {
+                // an increment might have happened between the get and the removal
+                delta += adder.getAndSet(0);
+            }
+            if (delta != 0) {
+                deltas.put(counter.getKey(), delta);
+            }
+        }
+        if (counters.isEmpty() && rows.remove(row, counters)) {
+            for (Map.Entry<String, AtomicLong> counter : counters.entrySet()) {
+                long delta = counter.getValue().getAndSet(0);
+                if (delta != 0) {
+                    deltas.merge(counter.getKey(), delta, Long::sum);
+                }
+            }
+        }
+        return deltas;
+    }
+
+    private CompletionStage<AsyncResultSet> write(CounterRow row, Map<String, Long> deltas,
+                                                 CqlSession cqlSession) {
+        OngoingAssignment update = QueryBuilder.update(row.table);
+        UpdateWithAssignments assignments = null;
+        List<Object> values = new ArrayList<>(deltas.size() + row.key.size());
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            assignments = assignments == null ? update.increment(delta.getKey(), bindMarker())
+                    : assignments.increment(delta.getKey(), bindMarker());
+            values.add(delta.getValue());
+        }
+        List<Relation> relations = new ArrayList<>(row.key.size());
+        for (Map.Entry<String, Object> column : row.key.entrySet()) {
+            relations.add(Relation.column(column.getKey()).isEqualTo(bindMarker()));
+            values.add(column.getValue());
+        }
+        String query = assignments.where(relations).asCql();
+        PreparedStatement prepared = statements.get(query, cqlSession::prepare);
+        return cqlSession.executeAsync(prepared.bind(values.toArray()));
+    }
+
+    private void start() {
+        if (scheduler == null) {
+            synchronized (this) {
+                if (scheduler == null) {
+                    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                        Thread thread = new Thread(r, "cassandra-counter-flush");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    long interval = flushInterval.toMillis();
+                    executor.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+                    scheduler = executor;
+                }
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "The counter increments were not written", exception);
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CounterAccumulator{" +
+                "flushInterval=" + flushInterval +
+                ", maximumRows=" + maximumRows +
+                ", pendingRows=" + rows.size() +
+                '}';
+    }
+
+    private static final class PendingRow {
+
+        private final CounterRow row;
+
+        private final Map<String, Long> deltas;
+
+        private PendingRow(CounterRow row, Map<String, Long> deltas) {
+            this.row = row;
+            this.deltas = deltas;
+        }
+    }
+
+    private static final class CounterRow {
+
+        private final String table;
+
+        private final Map<String, Object> key;
+
+        private CounterRow(String table, Map<String, ?> key) {
+            this.table = table;
+            this.key = new LinkedHashMap<>(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CounterRow that = (CounterRow) o;
+            return table.equals(that.table) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(table, key);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.column.ColumnEventPersistManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Typed(AsyncCassandraTemplate.class)
+@ApplicationScoped
+class DefaultAsyncCassandraTemplate implements AsyncCassandraTemplate {
+
+    private Instance<CqlSession> session;
+
+    private CassandraColumnEntityConverter converter;
+
+    private ColumnEventPersistManager persistManager;
+
+    private PreparedStatementCache statements;
+
+    private EntityRowMapper rows;
+
+    private LookupTableStatements lookups;
+
+    @Inject
+    DefaultAsyncCassandraTemplate(Instance<CqlSession> session,
+                                  CassandraColumnEntityConverter converter,
+                                  ColumnEventPersistManager persistManager,
+                                  PreparedStatementCache statements,
+                                  EntityRowMapper rows,
+                                  LookupTableStatements lookups) {
+        this.session = session;
+        this.converter = converter;
+        this.persistManager = persistManager;
+        this.statements = statements;
+        this.rows = rows;
+        this.lookups = lookups;
+    }
+
+    DefaultAsyncCassandraTemplate() {
+    }
+
+    @Override
+    public <T> CompletionStage<T> save(T entity, ConsistencyLevel level) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(level, "level is required");
+        return insert(entity, null, level);
+    }
+
+    @Override
+    public <T> CompletionStage<T> save(T entity, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(level, "level is required");
+        return insert(entity, ttl, level);
+    }
+
+    private <T> CompletionStage<T> insert(T entity, Duration ttl, ConsistencyLevel level) {
+        return async(() -> {
+            persistManager.firePreEntity(entity);
+            persistManager.firePreColumnEntity(entity);
+            ColumnEntity columnEntity = converter.toColumn(entity);
+            persistManager.firePreColumn(columnEntity);
+            CqlSession cqlSession = session.get();
+            return insert(entity, columnEntity, ttl, cqlSession)
+                    .thenCompose(statement -> cqlSession.executeAsync(statement.setConsistencyLevel(level)))
+                    .thenApply(r -> {
+                        persistManager.firePostColumn(columnEntity);
+                        T result = converter.toEntity(entity, columnEntity);
+                        persistManager.firePostColumnEntity(result);
+                        persistManager.firePostEntity(result);
+                        return result;
+                    });
+        });
+    }
+
+    private CompletionStage<Statement<?>> insert(Object entity, ColumnEntity columnEntity, Duration ttl,
+                                                 CqlSession cqlSession) {
+        if (lookups.isEmpty(entity.getClass())) {
+            return CompletableFuture.completedFuture(CassandraStatements.insert(columnEntity, ttl, cqlSession));
+        }
+        return lookups.saveAsync(entity.getClass(), columnEntity, ttl, cqlSession, statements)
+                .thenApply(Function.identity());
+    }
+
+    @Override
+    public CompletionStage<Void> delete(ColumnDeleteQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(level, "level is required");
+        return async(() -> {
+            lookups.checkDelete(query);
+            persistManager.firePreDeleteQuery(query);
+            CqlSession cqlSession = session.get();
+            SimpleStatement statement = CassandraStatements.delete(query, cqlSession).setConsistencyLevel(level);
+            return cqlSession.executeAsync(statement).thenApply(r -> null);
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> find(ColumnQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(level, "level is required");
+        return async(() -> {
+            persistManager.firePreQuery(query);
+            CqlSession cqlSession = session.get();
+            SimpleStatement statement = CassandraStatements.select(query, cqlSession).setConsistencyLevel(level);
+            return execute(statement, cqlSession, rows.mapper(query), query.getSkip());
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> cql(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return async(() -> execute(SimpleStatement.newInstance(query), session.get(), 0));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> cql(String query, Map<String, Object> values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        return async(() -> execute(SimpleStatement.newInstance(query, values), session.get(), 0));
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> cql(String query, Object... params) {
+        Objects.requireNonNull(query, "query is required");
+        return async(() -> {
+            CqlSession cqlSession = session.get();
+            return statements.getAsync(query, cqlSession::prepareAsync)
+                    .thenCompose(prepared -> execute(prepared.bind(params), cqlSession, 0));
+        });
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> execute(SimpleStatement statement) {
+        Objects.requireNonNull(statement, "statement is required");
+        return async(() -> execute(statement, session.get(), 0));
+    }
+
+    private <T> CompletionStage<List<T>> execute(Statement<?> statement, CqlSession cqlSession, long skip) {
+        return execute(statement, cqlSession, rows.mapper(), skip);
+    }
+
+    private <T> CompletionStage<List<T>> execute(Statement<?> statement, CqlSession cqlSession,
+                                                 Function<Row, T> mapper, long skip) {
+        return cqlSession.executeAsync(statement)
+                .thenCompose(r -> fetch(r, mapper, new ArrayList<>(), skip));
+    }
+
+    /**
+     * Maps the rows page by page as the driver fetches them; the skipped rows are dropped without being mapped
+     */
+    private <T> CompletionStage<List<T>> fetch(AsyncResultSet resultSet, Function<Row, T> mapper, List<T> entities,
+                                               long skip) {
+        long remaining = skip;
+        for (Row row : resultSet.currentPage()) {
+            if (remaining > 0) {
+                remaining--;
+            } else {
+                entities.add(mapper.apply(row));
+            }
+        }
+        if (resultSet.hasMorePages()) {
+            long next = remaining;
+            return resultSet.fetchNextPage().thenCompose(r -> fetch(r, mapper, entities, next));
+        }
+        return CompletableFuture.completedFuture(entities);
+    }
+
+    /**
+     * Runs the part of an operation that happens before the request is sent, such as the conversion and the
+     * statement building, so an error there completes the stage exceptionally instead of being thrown
+     */
+    private static <T> CompletionStage<T> async(Supplier<CompletionStage<T>> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+}
@@ -16,30 +16,55 @@ package org.eclipse.jnosql.mapping.cassandra.column;
 
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnManager;
 import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.AttributeConverter;
 import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.IdNotFoundException;
+import jakarta.nosql.mapping.MappingException;
 import jakarta.nosql.mapping.column.ColumnEntityConverter;
 import jakarta.nosql.mapping.column.ColumnEventPersistManager;
 import jakarta.nosql.mapping.column.ColumnWorkflow;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 import org.eclipse.jnosql.mapping.column.AbstractColumnTemplate;
 
 import org.eclipse.jnosql.communication.cassandra.column.CassandraColumnManager;
-import org.eclipse.jnosql.communication.cassandra.column.CassandraPreparedStatement;
 
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -47,7 +72,7 @@ import java.util.stream.StreamSupport;
 @ApplicationScoped
 class DefaultCassandraTemplate extends AbstractColumnTemplate implements CassandraTemplate {
 
-    private Instance<CassandraColumnManager> manager;
+    private Supplier<CassandraColumnManager> manager;
 
     private CassandraColumnEntityConverter converter;
 
@@ -59,19 +84,74 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
 
     private Converters converters;
 
+    private Supplier<CqlSession> session;
+
+    private PreparedStatementCache statements;
+
+    private PartitionBatches batches;
+
+    private BulkWriter writer;
+
+    private EntityRowMapper rows;
+
+    private QueryMetrics metrics;
+
+    private RoutingKeys routing;
+
+    private PartitionDeletes deletes;
+
+    private LookupTableStatements lookups;
+
     @Inject
     DefaultCassandraTemplate(Instance<CassandraColumnManager> manager,
                              CassandraColumnEntityConverter converter,
                              CassandraColumnWorkflow flow,
                              ColumnEventPersistManager persistManager,
                              EntitiesMetadata entities,
-                             Converters converters) {
+                             Converters converters,
+                             Instance<CqlSession> session,
+                             PreparedStatementCache statements,
+                             PartitionBatches batches,
+                             BulkWriter writer,
+                             EntityRowMapper rows,
+                             QueryMetrics metrics,
+                             RoutingKeys routing,
+                             PartitionDeletes deletes,
+                             LookupTableStatements lookups) {
+        this(manager::get, converter, flow, persistManager, entities, converters, session::get, statements, batches,
+                writer, rows, metrics, routing, deletes, lookups);
+    }
+
+    DefaultCassandraTemplate(Supplier<CassandraColumnManager> manager,
+                             CassandraColumnEntityConverter converter,
+                             CassandraColumnWorkflow flow,
+                             ColumnEventPersistManager persistManager,
+                             EntitiesMetadata entities,
+                             Converters converters,
+                             Supplier<CqlSession> session,
+                             PreparedStatementCache statements,
+                             PartitionBatches batches,
+                             BulkWriter writer,
+                             EntityRowMapper rows,
+                             QueryMetrics metrics,
+                             RoutingKeys routing,
+                             PartitionDeletes deletes,
+                             LookupTableStatements lookups) {
         this.manager = manager;
         this.converter = converter;
         this.flow = flow;
         this.persistManager = persistManager;
         this.entities = entities;
         this.converters = converters;
+        this.session = session;
+        this.statements = statements;
+        this.batches = batches;
+        this.writer = writer;
+        this.rows = rows;
+        this.metrics = metrics;
+        this.routing = routing;
+        this.deletes = deletes;
+        this.lookups = lookups;
     }
 
     DefaultCassandraTemplate() {
@@ -112,8 +192,65 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
     public <T> T save(T entity, ConsistencyLevel level) {
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(level, "level is required");
-        UnaryOperator<ColumnEntity> save = e -> manager.get().save(e, level);
-        return getFlow().flow(entity, save);
+        UnaryOperator<ColumnEntity> save = lookups.isEmpty(entity.getClass()) ? e -> manager.get().save(e, level)
+                : saveWithLookups(entity.getClass(), null, level);
+        return metrics.record(QueryOperation.SAVE, () -> insertInto(entity), level,
+                () -> getFlow().flow(entity, save));
+    }
+
+    @Override
+    public <T> T insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (lookups.isEmpty(entity.getClass())) {
+            return super.insert(entity);
+        }
+        return metrics.record(QueryOperation.SAVE, () -> insertInto(entity), null,
+                () -> getFlow().flow(entity, saveWithLookups(entity.getClass(), null, null)));
+    }
+
+    @Override
+    public <T> T insert(T entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        if (lookups.isEmpty(entity.getClass())) {
+            return super.insert(entity, ttl);
+        }
+        return metrics.record(QueryOperation.SAVE, () -> insertInto(entity), null,
+                () -> getFlow().flow(entity, saveWithLookups(entity.getClass(), ttl, null)));
+    }
+
+    @Override
+    public <T> T update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        if (lookups.isEmpty(entity.getClass())) {
+            return super.update(entity);
+        }
+        return metrics.record(QueryOperation.SAVE, () -> insertInto(entity), null,
+                () -> getFlow().flow(entity, saveWithLookups(entity.getClass(), null, null)));
+    }
+
+    private UnaryOperator<ColumnEntity> saveWithLookups(Class<?> type, Duration ttl, ConsistencyLevel level) {
+        return columnEntity -> {
+            CqlSession cqlSession = session.get();
+            BatchStatement batch = lookups.save(type, columnEntity, ttl, cqlSession, statements);
+            cqlSession.execute(Objects.isNull(level) ? batch : batch.setConsistencyLevel(level));
+            return columnEntity;
+        };
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        CqlSession cqlSession = session.get();
+        return writer.write(entities, e -> insertAsync(e, null, null, cqlSession));
+    }
+
+    @Override
+    public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        CqlSession cqlSession = session.get();
+        return writer.write(entities, e -> insertAsync(e, ttl, null, cqlSession));
     }
 
     @Override
@@ -121,25 +258,178 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(ttl, "ttl is required");
         Objects.requireNonNull(level, "level is required");
-
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(converter::toColumn)
-                .map(e -> manager.get().save(e, ttl, level))
-                .map(converter::toEntity)
-                .map(e -> (T) e)
-                .collect(Collectors.toList());
+        CqlSession cqlSession = session.get();
+        return writer.write(entities, e -> insertAsync(e, ttl, level, cqlSession));
     }
 
     @Override
     public <T> Iterable<T> save(Iterable<T> entities, ConsistencyLevel level) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(level, "level is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(converter::toColumn)
-                .map(e -> manager.get().save(e, level))
-                .map(converter::toEntity)
-                .map(e -> (T) e)
-                .collect(Collectors.toList());
+        CqlSession cqlSession = session.get();
+        return writer.write(entities, e -> insertAsync(e, null, level, cqlSession));
+    }
+
+    private <T> CompletionStage<T> insertAsync(T entity, Duration ttl, ConsistencyLevel level,
+                                                CqlSession cqlSession) {
+        persistManager.firePreEntity(entity);
+        persistManager.firePreColumnEntity(entity);
+        ColumnEntity columnEntity = converter.toColumn(entity);
+        persistManager.firePreColumn(columnEntity);
+        CompletionStage<AsyncResultSet> execution = insert(entity, columnEntity, ttl, cqlSession)
+                .thenCompose(insert -> {
+                    Statement<?> statement = Objects.isNull(level) ? insert : insert.setConsistencyLevel(level);
+                    return record(cqlSession.executeAsync(statement), statement, level);
+                });
+        return execution.thenApply(r -> saved(entity, columnEntity));
+    }
+
+    private CompletionStage<Statement<?>> insert(Object entity, ColumnEntity columnEntity, Duration ttl,
+                                                 CqlSession cqlSession) {
+        if (lookups.isEmpty(entity.getClass())) {
+            return CompletableFuture.completedFuture(routing.route(CassandraStatements.insert(columnEntity, ttl,
+                    cqlSession), columnEntity, cqlSession));
+        }
+        return lookups.saveAsync(entity.getClass(), columnEntity, ttl, cqlSession, statements)
+                .thenApply(Function.identity());
+    }
+
+    @Override
+    public <T> Iterable<T> batchSave(Iterable<T> entities, ConsistencyLevel level) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(level, "level is required");
+        return saveInBatches(entities, null, level);
+    }
+
+    @Override
+    public <T> Iterable<T> batchSave(Iterable<T> entities, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(level, "level is required");
+        return saveInBatches(entities, ttl, level);
+    }
+
+    private <T> List<T> saveInBatches(Iterable<T> entities, Duration ttl, ConsistencyLevel level) {
+        CqlSession cqlSession = session.get();
+        List<T> values = new ArrayList<>();
+        List<ColumnEntity> columnEntities = new ArrayList<>();
+        List<SimpleStatement> inserts = new ArrayList<>();
+        Map<Object, List<Integer>> partitions = new LinkedHashMap<>();
+        List<Batch> groups = new ArrayList<>();
+        for (T entity : entities) {
+            persistManager.firePreEntity(entity);
+            persistManager.firePreColumnEntity(entity);
+            ColumnEntity columnEntity = converter.toColumn(entity);
+            persistManager.firePreColumn(columnEntity);
+            if (!lookups.isEmpty(entity.getClass())) {
+                // the LOGGED batch of the lookup tables goes alone
+                Class<?> type = entity.getClass();
+                groups.add(new Batch(List.of(values.size()), () -> lookups.saveAsync(type, columnEntity, ttl,
+                        cqlSession, statements).thenApply(batch -> batch.setConsistencyLevel(level))));
+                values.add(entity);
+                columnEntities.add(columnEntity);
+                inserts.add(null);
+                continue;
+            }
+            SimpleStatement insert = routing.route(CassandraStatements.insert(columnEntity, ttl, cqlSession),
+                    columnEntity, cqlSession);
+            ByteBuffer routingKey = insert.getRoutingKey();
+            partitions.computeIfAbsent(routingKey == null ? new Object() : routingKey, k -> new ArrayList<>())
+                    .add(values.size());
+            values.add(entity);
+            columnEntities.add(columnEntity);
+            inserts.add(insert);
+        }
+        for (List<Integer> positions : partitions.values()) {
+            List<SimpleStatement> partition = new ArrayList<>(positions.size());
+            positions.forEach(position -> partition.add(inserts.get(position)));
+            int next = 0;
+            for (Statement<?> statement : batches.split(partition,
+                    s -> s.computeSizeInBytes(cqlSession.getContext()))) {
+                int size = statement instanceof BatchStatement ? ((BatchStatement) statement).size() : 1;
+                Statement<?> batch = statement.setConsistencyLevel(level);
+                groups.add(new Batch(positions.subList(next, next + size),
+                        () -> CompletableFuture.completedFuture(batch)));
+                next += size;
+            }
+        }
+        try {
+            writer.write(groups, batch -> batch.statement.get()
+                    .thenCompose(statement -> record(cqlSession.executeAsync(statement), statement, level))
+                    .thenApply(r -> batch));
+        } catch (BulkWriteException exception) {
+            SortedMap<Integer, Throwable> failures = new TreeMap<>();
+            exception.getFailures().forEach((index, error) -> groups.get(index).positions
+                    .forEach(position -> failures.put(position, error)));
+            List<Object> saved = new ArrayList<>(values.size());
+            for (int index = 0; index < values.size(); index++) {
+                saved.add(failures.containsKey(index) ? null : saved(values.get(index), columnEntities.get(index)));
+            }
+            throw new BulkWriteException(saved, failures);
+        }
+        List<T> result = new ArrayList<>(values.size());
+        for (int index = 0; index < values.size(); index++) {
+            result.add(saved(values.get(index), columnEntities.get(index)));
+        }
+        return result;
+    }
+
+    private <T> T saved(T entity, ColumnEntity columnEntity) {
+        persistManager.firePostColumn(columnEntity);
+        T result = converter.toEntity(entity, columnEntity);
+        persistManager.firePostColumnEntity(result);
+        persistManager.firePostEntity(result);
+        return result;
+    }
+
+    private CompletionStage<AsyncResultSet> record(CompletionStage<AsyncResultSet> execution,
+                                                   Statement<?> statement, ConsistencyLevel level) {
+        return record(execution, QueryOperation.SAVE, statement, level);
+    }
+
+    private CompletionStage<AsyncResultSet> record(CompletionStage<AsyncResultSet> execution,
+                                                   QueryOperation operation, Statement<?> statement,
+                                                   ConsistencyLevel level) {
+        if (!metrics.isActive()) {
+            return execution;
+        }
+        long start = metrics.start();
+        return execution.whenComplete((r, e) -> metrics.stop(start, operation, () -> query(statement), level, e));
+    }
+
+    private static String query(Statement<?> statement) {
+        if (statement instanceof SimpleStatement) {
+            return ((SimpleStatement) statement).getQuery();
+        }
+        if (statement instanceof BoundStatement) {
+            return ((BoundStatement) statement).getPreparedStatement().getQuery();
+        }
+        if (statement instanceof BatchStatement) {
+            BatchStatement batch = (BatchStatement) statement;
+            return "BEGIN " + batch.getBatchType() + " BATCH " + (batch.size() == 0 ? ""
+                    : query(batch.iterator().next())) + " APPLY BATCH";
+        }
+        return statement.getClass().getSimpleName();
+    }
+
+    private static String selectFrom(ColumnQuery query) {
+        try {
+            return CassandraStatements.select(query).getQuery();
+        } catch (UnsupportedOperationException exception) {
+            return "SELECT * FROM " + query.getColumnFamily();
+        }
+    }
+
+    private static String deleteFrom(ColumnDeleteQuery query) {
+        try {
+            return CassandraStatements.delete(query).getQuery();
+        } catch (UnsupportedOperationException exception) {
+            return "DELETE FROM " + query.getColumnFamily();
+        }
+    }
+
+    private String insertInto(Object entity) {
+        return "INSERT INTO " + entities.get(entity.getClass()).getName();
     }
 
     @Override
@@ -147,16 +437,113 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
         Objects.requireNonNull(entity, "entity is required");
         Objects.requireNonNull(ttl, "ttl is required");
         Objects.requireNonNull(level, "level is required");
-        UnaryOperator<ColumnEntity> save = e -> manager.get().save(e, ttl, level);
-        return getFlow().flow(entity, save);
+        UnaryOperator<ColumnEntity> save = lookups.isEmpty(entity.getClass())
+                ? e -> manager.get().save(e, ttl, level) : saveWithLookups(entity.getClass(), ttl, level);
+        return metrics.record(QueryOperation.SAVE, () -> insertInto(entity), level,
+                () -> getFlow().flow(entity, save));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        lookups.checkDelete(query);
+        super.delete(query);
     }
 
     @Override
     public void delete(ColumnDeleteQuery query, ConsistencyLevel level) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(level, "level is required");
+        lookups.checkDelete(query);
         persistManager.firePreDeleteQuery(query);
-        manager.get().delete(query, level);
+        metrics.record(QueryOperation.DELETE, () -> deleteFrom(query), level, () -> {
+            manager.get().delete(query, level);
+            return null;
+        });
+    }
+
+    @Override
+    public <T, K> void deleteAll(Class<T> type, Iterable<K> ids, ConsistencyLevel level) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(ids, "ids is required");
+        Objects.requireNonNull(level, "level is required");
+        EntityMetadata entity = entities.get(type);
+        FieldMapping id = entity.getId().orElseThrow(() -> IdNotFoundException.newInstance(type));
+        List<Object> keys = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (K key : ids) {
+            Objects.requireNonNull(key, "id is required");
+            keys.add(key);
+            values.add(toDatabase(id, key));
+        }
+        CqlSession cqlSession = session.get();
+        if (!lookups.isEmpty(type)) {
+            deleteWithLookups(type, keys, values, level, cqlSession);
+            return;
+        }
+        List<PartitionDeletes.Group> groups = deletes.groups(entity.getName(), id.getName(), values,
+                cqlSession, statements);
+        try {
+            writer.write(groups, group -> {
+                Statement<?> statement = group.getStatement().setConsistencyLevel(level);
+                return record(cqlSession.executeAsync(statement), QueryOperation.DELETE, statement, level)
+                        .thenApply(r -> group);
+            });
+        } catch (BulkWriteException exception) {
+            SortedMap<Integer, Throwable> failures = new TreeMap<>();
+            exception.getFailures().forEach((index, error) -> groups.get(index).getPositions()
+                    .forEach(position -> failures.put(position, error)));
+            throw new BulkDeleteException(keys, failures);
+        }
+    }
+
+    private void deleteWithLookups(Class<?> type, List<Object> keys, List<Object> values, ConsistencyLevel level,
+                                   CqlSession cqlSession) {
+        List<Integer> positions = new ArrayList<>(values.size());
+        for (int index = 0; index < values.size(); index++) {
+            positions.add(index);
+        }
+        try {
+            writer.write(positions, position -> {
+                Statement<?> statement = lookups.delete(type, values.get(position), cqlSession, statements)
+                        .setConsistencyLevel(level);
+                return record(cqlSession.executeAsync(statement), QueryOperation.DELETE, statement, level)
+                        .thenApply(r -> position);
+            });
+        } catch (BulkWriteException exception) {
+            throw new BulkDeleteException(keys, exception.getFailures());
+        }
+    }
+
+    private Object toDatabase(FieldMapping id, Object value) {
+        Optional<Class<? extends AttributeConverter<Object, Object>>> converter = id.getConverter();
+        return converter.map(c -> converters.get(c).convertToDatabaseColumn(value)).orElse(value);
+    }
+
+    @Override
+    public <T, K> void delete(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        if (lookups.isEmpty(type)) {
+            super.delete(type, id);
+            return;
+        }
+        EntityMetadata entity = entities.get(type);
+        FieldMapping idField = entity.getId().orElseThrow(() -> IdNotFoundException.newInstance(type));
+        CqlSession cqlSession = session.get();
+        BatchStatement batch = lookups.delete(type, toDatabase(idField, id), cqlSession, statements);
+        metrics.record(QueryOperation.DELETE, () -> query(batch), null, () -> cqlSession.execute(batch));
+    }
+
+    @Override
+    public <T> Stream<T> select(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        Optional<LookupTableStatements.LookupQuery> lookup = lookups.route(query);
+        if (lookup.isEmpty()) {
+            return super.select(query);
+        }
+        persistManager.firePreQuery(query);
+        return selectLookup(lookup.get(), null);
     }
 
     @Override
@@ -165,34 +552,203 @@ class DefaultCassandraTemplate extends AbstractColumnTemplate implements Cassand
         Objects.requireNonNull(level, "level is required");
         persistManager.firePreQuery(query);
 
-        return manager.get().select(query, level)
-                .map(c -> converter.toEntity(c));
+        Optional<LookupTableStatements.LookupQuery> lookup = lookups.route(query);
+        if (lookup.isPresent()) {
+            return selectLookup(lookup.get(), level);
+        }
+
+        if (rows.isDirect()) {
+            CqlSession cqlSession = session.get();
+            SimpleStatement statement = routing.route(CassandraStatements.select(query, cqlSession), query, cqlSession)
+                    .setConsistencyLevel(level);
+            Stream<T> entities = metrics.recordStream(QueryOperation.FIND, statement::getQuery, level,
+                    () -> stream(statement, cqlSession, rows.mapper(query)));
+            return entities.skip(query.getSkip());
+        }
+        return metrics.recordStream(QueryOperation.FIND, () -> selectFrom(query), level,
+                () -> manager.get().select(query, level).map(c -> converter.toEntity(c)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Stream<T> selectLookup(LookupTableStatements.LookupQuery query, ConsistencyLevel level) {
+        Class<T> type = (Class<T>) query.getType();
+        return metrics.recordStream(QueryOperation.FIND, () -> selectFrom(query), level, () -> {
+            Stream<ColumnEntity> columnEntities = Objects.isNull(level) ? manager.get().select(query)
+                    : manager.get().select(query, level);
+            return columnEntities.map(c -> converter.toEntity(type, c));
+        });
+    }
+
+    @Override
+    public <T> Slice<T> findPage(ColumnQuery query, ConsistencyLevel level, int pageSize) {
+        return findPage(query, level, pageSize, null);
+    }
+
+    @Override
+    public <T> Slice<T> findPage(ColumnQuery query, ConsistencyLevel level, int pageSize, PagingToken token) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(level, "level is required");
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be greater than zero: " + pageSize);
+        }
+        if (query.getSkip() > 0) {
+            throw new IllegalArgumentException("The query cannot have skip, use the paging token instead");
+        }
+        persistManager.firePreQuery(query);
+        CqlSession cqlSession = session.get();
+        SimpleStatement statement = routing.route(CassandraStatements.select(query, cqlSession), query, cqlSession)
+                .setConsistencyLevel(level)
+                .setPageSize(pageSize);
+        if (Objects.nonNull(token)) {
+            statement = statement.setPagingState(token.toByteBuffer());
+        }
+        SimpleStatement page = statement;
+        ResultSet resultSet = metrics.record(QueryOperation.FIND, page::getQuery, level,
+                () -> cqlSession.execute(page));
+        int available = resultSet.getAvailableWithoutFetching();
+        List<T> content = new ArrayList<>(available);
+        Function<Row, T> mapper = rows.mapper(query);
+        for (int index = 0; index < available; index++) {
+            content.add(mapper.apply(resultSet.one()));
+        }
+        ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
+        return Slice.of(content, Objects.isNull(pagingState) ? null : PagingToken.of(pagingState));
+    }
+
+    @Override
+    public <T> Stream<T> scanAll(Class<T> type, int parallelism) {
+        Objects.requireNonNull(type, "type is required");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        }
+        CqlSession cqlSession = session.get();
+        String table = entities.get(type).getName();
+        List<Statement<?>> ranges = TokenRangeScanner.statements(cqlSession, table, parallelism, statements);
+        return TokenRangeScanner.scan(ranges, cqlSession, () -> rows.mapper(type), parallelism);
     }
 
     @Override
     public <T> Stream<T> cql(String query) {
-        return manager.get().cql(query)
-                .map(c -> converter.toEntity(c));
+        if (rows.isDirect()) {
+            Objects.requireNonNull(query, "query is required");
+            return metrics.recordStream(QueryOperation.CQL, () -> query, null,
+                    () -> stream(SimpleStatement.newInstance(query), session.get()));
+        }
+        return metrics.recordStream(QueryOperation.CQL, () -> query, null,
+                () -> manager.get().cql(query).map(c -> converter.toEntity(c)));
     }
 
     @Override
     public <T> Stream<T> cql(String query, Map<String, Object> values) {
-        return manager.get().cql(query, values)
-                .map(c -> converter.toEntity(c));
+        if (rows.isDirect()) {
+            Objects.requireNonNull(query, "query is required");
+            Objects.requireNonNull(values, "values is required");
+            return metrics.recordStream(QueryOperation.CQL, () -> query, null,
+                    () -> stream(SimpleStatement.newInstance(query, values), session.get()));
+        }
+        return metrics.recordStream(QueryOperation.CQL, () -> query, null,
+                () -> manager.get().cql(query, values).map(c -> converter.toEntity(c)));
     }
 
     @Override
     public <T> Stream<T> cql(String query, Object... params) {
         Objects.requireNonNull(query, "query is required");
-        CassandraPreparedStatement cassandraPrepareStatement = manager.get().nativeQueryPrepare(query);
-        Stream<ColumnEntity> entities = cassandraPrepareStatement.bind(params).executeQuery();
-        return entities.map(converter::toEntity).map(e -> (T) e);
+        CqlSession cqlSession = session.get();
+        PreparedStatement prepared = statements.get(query, cqlSession::prepare);
+        return metrics.recordStream(QueryOperation.CQL, () -> query, null,
+                () -> stream(prepared.bind(params), cqlSession));
+    }
+
+    @Override
+    public <T> Stream<T> cql(String query, UnaryOperator<Statement<?>> options, Object... params) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        CqlSession cqlSession = session.get();
+        PreparedStatement prepared = statements.get(query, cqlSession::prepare);
+        Statement<?> statement = options.apply(prepared.bind(params));
+        return metrics.recordStream(QueryOperation.CQL, () -> query, statement.getConsistencyLevel(),
+                () -> stream(statement, cqlSession));
+    }
+
+    @Override
+    public <T> Stream<T> cql(String query, UnaryOperator<Statement<?>> options, Map<String, Object> values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        Objects.requireNonNull(values, "values is required");
+        CqlSession cqlSession = session.get();
+        PreparedStatement prepared = statements.get(query, cqlSession::prepare);
+        Statement<?> statement = options.apply(prepared.bind(params(prepared, values)));
+        return metrics.recordStream(QueryOperation.CQL, () -> query, statement.getConsistencyLevel(),
+                () -> stream(statement, cqlSession));
+    }
+
+    private static Object[] params(PreparedStatement prepared, Map<String, Object> values) {
+        Map<CqlIdentifier, Object> named = new HashMap<>();
+        values.forEach((name, value) -> named.put(CqlIdentifier.fromCql(name), value));
+        ColumnDefinitions variables = prepared.getVariableDefinitions();
+        Object[] params = new Object[variables.size()];
+        for (int index = 0; index < params.length; index++) {
+            CqlIdentifier name = variables.get(index).getName();
+            if (!named.containsKey(name)) {
+                throw new MappingException("The named marker does not have a value: " + name.asCql(true));
+            }
+            params[index] = named.get(name);
+        }
+        return params;
+    }
+
+    @Override
+    public Stream<Map<String, Object>> project(String query, Object... params) {
+        Objects.requireNonNull(query, "query is required");
+        return project(query, params, RowProjections.map());
+    }
+
+    @Override
+    public <T> Stream<T> project(Class<T> type, String query, Object... params) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(query, "query is required");
+        return project(query, params, RowProjections.of(type));
+    }
+
+    private <T> Stream<T> project(String query, Object[] params, Function<Row, T> projection) {
+        CqlSession cqlSession = session.get();
+        PreparedStatement prepared = statements.get(query, cqlSession::prepare);
+        return metrics.recordStream(QueryOperation.CQL, () -> query, null, () -> {
+            ResultSet resultSet = cqlSession.execute(prepared.bind(params));
+            return StreamSupport.stream(resultSet.spliterator(), false).map(projection);
+        });
     }
 
     @Override
     public <T> Stream<T> execute(SimpleStatement statement) {
-        return manager.get().execute(statement)
-                .map(c -> converter.toEntity(c));
+        Objects.requireNonNull(statement, "statement is required");
+        if (rows.isDirect()) {
+            return metrics.recordStream(QueryOperation.CQL, statement::getQuery, statement.getConsistencyLevel(),
+                    () -> stream(statement, session.get()));
+        }
+        return metrics.recordStream(QueryOperation.CQL, statement::getQuery, statement.getConsistencyLevel(),
+                () -> manager.get().execute(statement).map(c -> converter.toEntity(c)));
+    }
+
+    private <T> Stream<T> stream(Statement<?> statement, CqlSession cqlSession) {
+        return stream(statement, cqlSession, rows.mapper());
+    }
+
+    private <T> Stream<T> stream(Statement<?> statement, CqlSession cqlSession, Function<Row, T> mapper) {
+        ResultSet resultSet = cqlSession.execute(statement);
+        return StreamSupport.stream(resultSet.spliterator(), false).map(mapper);
+    }
+
+    private static final class Batch {
+
+        private final List<Integer> positions;
+
+        private final Supplier<CompletionStage<? extends Statement<?>>> statement;
+
+        private Batch(List<Integer> positions, Supplier<CompletionStage<? extends Statement<?>>> statement) {
+            this.positions = positions;
+            this.statement = statement;
+        }
     }
 
 }
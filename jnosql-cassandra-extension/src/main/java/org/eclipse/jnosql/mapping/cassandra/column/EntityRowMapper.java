@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.nosql.Value;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.cassandra.converters.EpochMilliConverter;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.DIRECT_ROW_MAPPING;
+
+/**
+ * Maps the driver {@link Row} to the entity. When {@link CassandraExtensionConfigurations#DIRECT_ROW_MAPPING} is
+ * enabled, the row goes straight to the entity fields, skipping the {@link jakarta.nosql.column.ColumnEntity} with
+ * a {@link jakarta.nosql.column.Column} by value. The column index of each field is a plan computed once to each
+ * result shape: the entity class, or the table when the caller does not have the class, and the columns. An entity
+ * with a field that needs the converter, such as an embedded, a collection, an {@link UDT} or an
+ * {@link AttributeConverter}, goes through {@link CassandraColumnEntityConverter} as before; except
+ * {@link EpochMilliConverter} on a timestamp column, which the plan reads as the driver {@link java.time.Instant}.
+ * A primitive numeric or boolean field of a column of the same type is read with the primitive getter of the row
+ * and set without boxing.
+ */
+@ApplicationScoped
+class EntityRowMapper {
+
+    static final int MAXIMUM_PLANS = 1_000;
+
+    private static final Plan FALLBACK = new Plan(null, null);
+
+    private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+
+    private EntitiesMetadata entities;
+
+    private CassandraColumnEntityConverter converter;
+
+    private boolean direct;
+
+    @Inject
+    EntityRowMapper(EntitiesMetadata entities, CassandraColumnEntityConverter converter) {
+        this(entities, converter, MicroProfileSettings.INSTANCE.get(DIRECT_ROW_MAPPING.get(), Boolean.class)
+                .orElse(false));
+    }
+
+    EntityRowMapper(EntitiesMetadata entities, CassandraColumnEntityConverter converter, boolean direct) {
+        this.entities = entities;
+        this.converter = converter;
+        this.direct = direct;
+    }
+
+    EntityRowMapper() {
+    }
+
+    /**
+     * Creates the mapper to the rows of a single result, resolving the entity from the table of the rows; it keeps
+     * the plan of the last column definitions, so it must not be shared between threads.
+     *
+     * @param <T> the entity type
+     * @return the mapper
+     */
+    <T> Function<Row, T> mapper() {
+        return mapper((Class<T>) null);
+    }
+
+    /**
+     * Creates the mapper to the rows of a single result of the entity of the query, the entity name is the column
+     * family of the query
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return the mapper
+     */
+    @SuppressWarnings("unchecked")
+    <T> Function<Row, T> mapper(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        EntityMetadata entity;
+        try {
+            entity = entities.findByName(query.getColumnFamily());
+        } catch (RuntimeException exception) {
+            entity = null;
+        }
+        return mapper(entity == null ? null : (Class<T>) entity.getType());
+    }
+
+    /**
+     * Creates the mapper to the rows of a single result of the entity type; the plan comes from the entity class,
+     * not from the table of the rows, which Cassandra names in lowercase. It keeps the plan of the last column
+     * definitions, so it must not be shared between threads.
+     *
+     * @param type the entity type, or null to resolve it from the table of the rows
+     * @param <T>  the entity type
+     * @return the mapper
+     */
+    <T> Function<Row, T> mapper(Class<T> type) {
+        Function<Row, T> fallback = type == null
+                ? row -> converter.toEntity(CassandraRowConverter.toColumnEntity(row))
+                : row -> converter.toEntity(type, CassandraRowConverter.toColumnEntity(row));
+        if (!direct) {
+            return fallback;
+        }
+        return new Function<>() {
+
+            private ColumnDefinitions definitions;
+
+            private Plan plan;
+
+            @Override
+            public T apply(Row row) {
+                Objects.requireNonNull(row, "row is required");
+                ColumnDefinitions current = row.getColumnDefinitions();
+                if (current != definitions) {
+                    plan = plan(type, current);
+                    definitions = current;
+                }
+                if (plan == FALLBACK) {
+                    return fallback.apply(row);
+                }
+                return plan.toEntity(row);
+            }
+        };
+    }
+
+    boolean isDirect() {
+        return direct;
+    }
+
+    int getPlansSize() {
+        return plans.size();
+    }
+
+    private Plan plan(Class<?> type, ColumnDefinitions definitions) {
+        if (definitions.size() == 0) {
+            return FALLBACK;
+        }
+        StringBuilder shape = new StringBuilder(type == null ? "table " + definitions.get(0).getTable().asInternal()
+                : "class " + type.getName());
+        for (int index = 0; index < definitions.size(); index++) {
+            shape.append(',').append(definitions.get(index).getName().asInternal());
+        }
+        String key = shape.toString();
+        Plan plan = plans.get(key);
+        if (plan == null) {
+            if (plans.size() >= MAXIMUM_PLANS) {
+                plans.clear();
+            }
+            plan = plans.computeIfAbsent(key, k -> createPlan(type, definitions));
+        }
+        return plan;
+    }
+
+    private Plan createPlan(Class<?> type, ColumnDefinitions definitions) {
+        EntityMetadata entity;
+        try {
+            entity = type == null ? entities.findByName(definitions.get(0).getTable().asInternal())
+                    : entities.get(type);
+        } catch (RuntimeException exception) {
+            return FALLBACK;
+        }
+        if (entity == null) {
+            return FALLBACK;
+        }
+        Map<String, FieldMapping> fieldsByName = entity.getFieldsGroupByName();
+        ColumnReader[] readers = new ColumnReader[definitions.size()];
+        for (int index = 0; index < definitions.size(); index++) {
+            ColumnDefinition definition = definitions.get(index);
+            FieldMapping field = fieldsByName.get(definition.getName().asInternal());
+            if (field == null) {
+                continue;
+            }
+            if (!MappingType.DEFAULT.equals(field.getType())
+                    || field.getNativeField().isAnnotationPresent(UDT.class)) {
+                return FALLBACK;
+            }
+            Class<?> converterType = field.getConverter().<Class<?>>map(c -> c).orElse(null);
+            if (converterType == null) {
+                readers[index] = reader(field, definition.getType());
+            } else if (EpochMilliConverter.class.equals(converterType)
+                    && DataTypes.TIMESTAMP.equals(definition.getType())) {
+                readers[index] = epochMilli(field);
+            } else {
+                return FALLBACK;
+            }
+        }
+        return new Plan(entity, readers);
+    }
+
+    private static ColumnReader reader(FieldMapping field, DataType type) {
+        Field nativeField = field.getNativeField();
+        Class<?> fieldType = nativeField.getType();
+        if (fieldType.isPrimitive() && nativeField.trySetAccessible()) {
+            if (int.class.equals(fieldType) && DataTypes.INT.equals(type)) {
+                return (row, index, instance) -> nativeField.setInt(instance, row.getInt(index));
+            } else if (long.class.equals(fieldType) && (DataTypes.BIGINT.equals(type)
+                    || DataTypes.COUNTER.equals(type))) {
+                return (row, index, instance) -> nativeField.setLong(instance, row.getLong(index));
+            } else if (double.class.equals(fieldType) && DataTypes.DOUBLE.equals(type)) {
+                return (row, index, instance) -> nativeField.setDouble(instance, row.getDouble(index));
+            } else if (float.class.equals(fieldType) && DataTypes.FLOAT.equals(type)) {
+                return (row, index, instance) -> nativeField.setFloat(instance, row.getFloat(index));
+            } else if (short.class.equals(fieldType) && DataTypes.SMALLINT.equals(type)) {
+                return (row, index, instance) -> nativeField.setShort(instance, row.getShort(index));
+            } else if (byte.class.equals(fieldType) && DataTypes.TINYINT.equals(type)) {
+                return (row, index, instance) -> nativeField.setByte(instance, row.getByte(index));
+            } else if (boolean.class.equals(fieldType) && DataTypes.BOOLEAN.equals(type)) {
+                return (row, index, instance) -> nativeField.setBoolean(instance, row.getBoolean(index));
+            }
+        }
+        Class<?> wrapped = wrap(fieldType);
+        return (row, index, instance) -> {
+            Object value = row.getObject(index);
+            if (value != null) {
+                field.write(instance, wrapped.isInstance(value) ? value : Value.of(value).get(wrapped));
+            }
+        };
+    }
+
+    private static ColumnReader epochMilli(FieldMapping field) {
+        Field nativeField = field.getNativeField();
+        if (long.class.equals(nativeField.getType()) && nativeField.trySetAccessible()) {
+            return (row, index, instance) -> nativeField.setLong(instance, row.getInstant(index).toEpochMilli());
+        }
+        return (row, index, instance) -> field.write(instance, row.getInstant(index).toEpochMilli());
+    }
+
+    static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (int.class.equals(type)) {
+            return Integer.class;
+        } else if (long.class.equals(type)) {
+            return Long.class;
+        } else if (boolean.class.equals(type)) {
+            return Boolean.class;
+        } else if (double.class.equals(type)) {
+            return Double.class;
+        } else if (float.class.equals(type)) {
+            return Float.class;
+        } else if (short.class.equals(type)) {
+            return Short.class;
+        } else if (byte.class.equals(type)) {
+            return Byte.class;
+        }
+        return Character.class;
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+
+        void read(Row row, int index, Object instance) throws IllegalAccessException;
+    }
+
+    private static final class Plan {
+
+        private final EntityMetadata entity;
+
+        private final ColumnReader[] readers;
+
+        private Plan(EntityMetadata entity, ColumnReader[] readers) {
+            this.entity = entity;
+            this.readers = readers;
+        }
+
+        private <T> T toEntity(Row row) {
+            T instance = entity.newInstance();
+            for (int index = 0; index < readers.length; index++) {
+                ColumnReader reader = readers[index];
+                if (reader == null || row.isNull(index)) {
+                    continue;
+                }
+                try {
+                    reader.read(row, index, instance);
+                } catch (IllegalAccessException exception) {
+                    throw new MappingException("The field cannot be written: " + exception.getMessage(),
+                            exception);
+                }
+            }
+            return instance;
+        }
+    }
+}
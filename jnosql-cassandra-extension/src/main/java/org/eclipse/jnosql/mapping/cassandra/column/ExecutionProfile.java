@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines how the statement of a {@link CQL} method is executed, instead of the global driver configuration.
+ * The attributes not defined keep the driver configuration.
+ * <pre>
+ * &#64;CQL("select * from Person where name = ?")
+ * &#64;ExecutionProfile(value = "fast-read", consistency = Consistency.LOCAL_ONE, timeout = 200,
+ *         idempotent = Idempotence.TRUE)
+ * List&#60;Person&#62; findByName(String name);
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ExecutionProfile {
+
+    /**
+     * The name of a driver execution profile, defined in the driver configuration, e.g. one with a
+     * speculative execution policy or a retry policy of its own.
+     *
+     * @return the driver execution profile name
+     */
+    String value() default "";
+
+    /**
+     * The consistency level, e.g. {@link Consistency#LOCAL_QUORUM}; it is not defined by default
+     *
+     * @return the consistency level
+     */
+    Consistency consistency() default Consistency.NOT_SET;
+
+    /**
+     * The timeout of the statement in milliseconds, it is not defined when it is zero
+     *
+     * @return the timeout
+     */
+    long timeout() default 0L;
+
+    /**
+     * The number of rows fetched by page, it is not defined when it is zero
+     *
+     * @return the page size
+     */
+    int pageSize() default 0;
+
+    /**
+     * Whether the statement is idempotent; it is not defined by default. The driver only retries a failed
+     * idempotent statement on another node and only starts speculative executions for idempotent statements.
+     *
+     * @return the idempotence
+     */
+    Idempotence idempotent() default Idempotence.NOT_SET;
+
+    /**
+     * The consistency level of {@link ExecutionProfile#consistency()}: a {@link DefaultConsistencyLevel}, or
+     * {@link #NOT_SET} to keep the driver configuration
+     */
+    enum Consistency {
+        NOT_SET,
+        ANY,
+        ONE,
+        TWO,
+        THREE,
+        QUORUM,
+        ALL,
+        LOCAL_ONE,
+        LOCAL_QUORUM,
+        EACH_QUORUM,
+        SERIAL,
+        LOCAL_SERIAL;
+
+        /**
+         * @return the driver consistency level, or null when it is {@link #NOT_SET}
+         */
+        ConsistencyLevel get() {
+            return this == NOT_SET ? null : DefaultConsistencyLevel.valueOf(name());
+        }
+    }
+
+    /**
+     * The idempotence of {@link ExecutionProfile#idempotent()}, or {@link #NOT_SET} to keep the driver
+     * configuration
+     */
+    enum Idempotence {
+        NOT_SET,
+        TRUE,
+        FALSE;
+
+        /**
+         * @return the idempotence, or null when it is {@link #NOT_SET}
+         */
+        Boolean get() {
+            return this == NOT_SET ? null : this == TRUE;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.inject.Qualifier;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the {@link CassandraTemplate} of a keyspace other than the one defined in the
+ * {@link org.eclipse.jnosql.mapping.config.MappingConfigurations#COLUMN_DATABASE} property. All the keyspaces
+ * share the same driver session, each one has its own prepared statement cache.
+ * <pre>
+ * &#64;Inject
+ * &#64;Keyspace("tenant_a")
+ * CassandraTemplate template;
+ * </pre>
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+public @interface Keyspace {
+
+    /**
+     * @return the keyspace name
+     */
+    @Nonbinding
+    String value();
+}
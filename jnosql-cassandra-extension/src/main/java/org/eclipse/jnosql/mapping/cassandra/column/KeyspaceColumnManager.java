@@ -0,0 +1,203 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import org.eclipse.jnosql.communication.cassandra.column.CassandraColumnManager;
+import org.eclipse.jnosql.communication.cassandra.column.CassandraPreparedStatement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@link CassandraColumnManager} of a {@link Keyspace} template on a {@link KeyspaceSession} of the session from
+ * {@link SessionSupplier}, so the managers of all the keyspaces share the same driver session instead of a session
+ * by keyspace. The statements come from {@link CassandraStatements}, with the table names qualified by the keyspace,
+ * and the rows are converted by {@link CassandraRowConverter}. The native CQL runs as written, so its table names
+ * must be qualified too. Closing it does not close the session.
+ */
+final class KeyspaceColumnManager implements CassandraColumnManager {
+
+    private final String name;
+
+    private final CqlSession session;
+
+    KeyspaceColumnManager(String name, CqlSession session) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.session = Objects.requireNonNull(session, "session is required");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity) {
+        return insert(entity, null, null);
+    }
+
+    @Override
+    public ColumnEntity insert(ColumnEntity entity, Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        return insert(entity, ttl, null);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
+        return insert(entities, null, null);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        return insert(entities, ttl, null);
+    }
+
+    @Override
+    public ColumnEntity update(ColumnEntity entity) {
+        return insert(entity, null, null);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
+        return insert(entities, null, null);
+    }
+
+    @Override
+    public ColumnEntity save(ColumnEntity entity, ConsistencyLevel level) {
+        Objects.requireNonNull(level, "level is required");
+        return insert(entity, null, level);
+    }
+
+    @Override
+    public ColumnEntity save(ColumnEntity entity, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(level, "level is required");
+        return insert(entity, ttl, level);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> save(Iterable<ColumnEntity> entities, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(level, "level is required");
+        return insert(entities, ttl, level);
+    }
+
+    @Override
+    public Iterable<ColumnEntity> save(Iterable<ColumnEntity> entities, ConsistencyLevel level) {
+        Objects.requireNonNull(level, "level is required");
+        return insert(entities, null, level);
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query) {
+        session.execute(CassandraStatements.delete(query, session));
+    }
+
+    @Override
+    public void delete(ColumnDeleteQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(level, "level is required");
+        session.execute(CassandraStatements.delete(query, session).setConsistencyLevel(level));
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query) {
+        return stream(CassandraStatements.select(query, session)).skip(query.getSkip());
+    }
+
+    @Override
+    public Stream<ColumnEntity> select(ColumnQuery query, ConsistencyLevel level) {
+        Objects.requireNonNull(level, "level is required");
+        return stream(CassandraStatements.select(query, session).setConsistencyLevel(level)).skip(query.getSkip());
+    }
+
+    @Override
+    public long count(String columnFamily) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return session.execute(QueryBuilder.selectFrom(CassandraStatements.keyspace(session),
+                CqlIdentifier.fromCql(columnFamily)).countAll().build()).one().getLong(0);
+    }
+
+    @Override
+    public Stream<ColumnEntity> cql(String query) {
+        Objects.requireNonNull(query, "query is required");
+        return stream(SimpleStatement.newInstance(query));
+    }
+
+    @Override
+    public Stream<ColumnEntity> cql(String query, Map<String, Object> values) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(values, "values is required");
+        return stream(SimpleStatement.newInstance(query, values));
+    }
+
+    @Override
+    public Stream<ColumnEntity> execute(SimpleStatement statement) {
+        Objects.requireNonNull(statement, "statement is required");
+        return stream(statement);
+    }
+
+    @Override
+    public CassandraPreparedStatement nativeQueryPrepare(String query) {
+        throw new UnsupportedOperationException("The keyspace " + name + " does not support the native query "
+                + "prepare, use CassandraTemplate#cql(String, Object...) instead");
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String toString() {
+        return "KeyspaceColumnManager{" +
+                "name='" + name + '\'' +
+                ", session=" + session +
+                '}';
+    }
+
+    private ColumnEntity insert(ColumnEntity entity, Duration ttl, ConsistencyLevel level) {
+        SimpleStatement statement = CassandraStatements.insert(entity, ttl, session);
+        session.execute(Objects.isNull(level) ? statement : statement.setConsistencyLevel(level));
+        return entity;
+    }
+
+    private Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities, Duration ttl, ConsistencyLevel level) {
+        Objects.requireNonNull(entities, "entities is required");
+        List<ColumnEntity> result = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        result.forEach(entity -> insert(entity, ttl, level));
+        return result;
+    }
+
+    private Stream<ColumnEntity> stream(Statement<?> statement) {
+        ResultSet resultSet = session.execute(statement);
+        return StreamSupport.stream(resultSet.spliterator(), false).map(CassandraRowConverter::toColumnEntity);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.MappingException;
+import jakarta.nosql.mapping.column.ColumnEventPersistManager;
+import org.eclipse.jnosql.communication.cassandra.column.CassandraColumnManager;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Produces the {@link CassandraTemplate} qualified with {@link Keyspace}. The templates of all the keyspaces
+ * share the driver {@link CqlSession} from {@link SessionSupplier}, through a {@link KeyspaceSession}, instead
+ * of a session by keyspace with its own connection pools and metadata. The statements they build qualify the
+ * table names with the keyspace, so they share the {@link PreparedStatementCache} too.
+ * There is a single template by keyspace.
+ */
+@ApplicationScoped
+class KeyspaceTemplates {
+
+    private static final Logger LOGGER = Logger.getLogger(KeyspaceTemplates.class.getName());
+
+    private final Map<String, CassandraTemplate> templates = new ConcurrentHashMap<>();
+
+    private CassandraColumnEntityConverter converter;
+
+    private CassandraColumnWorkflow flow;
+
+    private ColumnEventPersistManager persistManager;
+
+    private EntitiesMetadata entities;
+
+    private Converters converters;
+
+    private Instance<CqlSession> session;
+
+    private PreparedStatementCache statements;
+
+    private PartitionBatches batches;
+
+    private BulkWriter writer;
+
+    private EntityRowMapper rows;
+
+    private QueryMetrics metrics;
+
+    private RoutingKeys routing;
+
+    private PartitionDeletes deletes;
+
+    private LookupTableStatements lookups;
+
+    @Inject
+    KeyspaceTemplates(CassandraColumnEntityConverter converter,
+                      CassandraColumnWorkflow flow,
+                      ColumnEventPersistManager persistManager,
+                      EntitiesMetadata entities,
+                      Converters converters,
+                      Instance<CqlSession> session,
+                      PreparedStatementCache statements,
+                      PartitionBatches batches,
+                      BulkWriter writer,
+                      EntityRowMapper rows,
+                      QueryMetrics metrics,
+                      RoutingKeys routing,
+                      PartitionDeletes deletes,
+                      LookupTableStatements lookups) {
+        this.converter = converter;
+        this.flow = flow;
+        this.persistManager = persistManager;
+        this.entities = entities;
+        this.converters = converters;
+        this.session = session;
+        this.statements = statements;
+        this.batches = batches;
+        this.writer = writer;
+        this.rows = rows;
+        this.metrics = metrics;
+        this.routing = routing;
+        this.deletes = deletes;
+        this.lookups = lookups;
+    }
+
+    KeyspaceTemplates() {
+    }
+
+    @Produces
+    @Keyspace("")
+    @Typed(CassandraTemplate.class)
+    CassandraTemplate template(InjectionPoint injectionPoint) {
+        Keyspace keyspace = injectionPoint.getQualifiers().stream()
+                .filter(Keyspace.class::isInstance)
+                .map(Keyspace.class::cast)
+                .findFirst()
+                .orElseThrow(() -> new MappingException("The injection point must have the @Keyspace qualifier: "
+                        + injectionPoint));
+        return get(keyspace.value());
+    }
+
+    /**
+     * Returns the template of the keyspace, creating it at the first call
+     *
+     * @param keyspace the keyspace name
+     * @return the template
+     * @throws NullPointerException when keyspace is null
+     * @throws MappingException     when keyspace is blank
+     */
+    CassandraTemplate get(String keyspace) {
+        Objects.requireNonNull(keyspace, "keyspace is required");
+        if (keyspace.isBlank()) {
+            throw new MappingException("The keyspace name is required at the @Keyspace qualifier");
+        }
+        return templates.computeIfAbsent(keyspace, this::create);
+    }
+
+    int size() {
+        return templates.size();
+    }
+
+    private CassandraTemplate create(String keyspace) {
+        LOGGER.log(Level.FINEST, "Creating a CassandraTemplate sharing the CqlSession, keyspace: " + keyspace);
+        CqlSession keyspaceSession = new KeyspaceSession(session.get(), CqlIdentifier.fromCql(keyspace));
+        CassandraColumnManager manager = new KeyspaceColumnManager(keyspace, keyspaceSession);
+        return new DefaultCassandraTemplate(() -> manager, converter, flow, persistManager, entities, converters,
+                () -> keyspaceSession, statements,
+                batches, writer, rows, metrics, routing, deletes, lookups);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Defines a lookup table of the entity, a copy of the entity table keyed by another column, so a read by that
+ * column goes to a single partition without a secondary index. The lookup table has the same columns as the
+ * entity table and the primary key ((key), id), e.g.:
+ * <pre>
+ * CREATE TABLE person_by_email (email text, name text, age int, PRIMARY KEY ((email), name));
+ * </pre>
+ * {@link CassandraTemplate} keeps the lookup tables in a LOGGED batch with the entity table on the save of an
+ * entity and on the delete by id, and sends a query with equality on the key, and not on the id, to the lookup
+ * table.
+ * <p>
+ * The save reads the current keys of the id before the batch, to delete the lookup rows of a changed key. That
+ * read is not isolated from the batch, so two concurrent saves of the same id with different keys may both read
+ * the old key and leave the lookup row of one of the new keys behind; serialize the saves of an id, or rebuild the
+ * lookup table, when that matters.
+ * <pre>
+ * &#64;Entity
+ * &#64;LookupTable(value = "person_by_email", key = "email")
+ * public class Person {
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(LookupTables.class)
+public @interface LookupTable {
+
+    /**
+     * @return the lookup table name
+     */
+    String value();
+
+    /**
+     * @return the column name of the lookup table partition key, a column of the entity
+     */
+    String key();
+}
@@ -0,0 +1,379 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.nosql.Sort;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.IdNotFoundException;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+/**
+ * Creates the statements that keep the {@link LookupTable} of an entity in sync with the entity table, and routes
+ * the queries by a lookup key to the lookup table. The lookup tables of each entity type are read once.
+ * To remove the row of a key that changed, the save reads the current keys of the entity by id first; the
+ * asynchronous save chains that read instead of blocking on it.
+ */
+@ApplicationScoped
+class LookupTableStatements {
+
+    private final Map<Class<?>, List<Lookup>> types = new ConcurrentHashMap<>();
+
+    private EntitiesMetadata entities;
+
+    @Inject
+    LookupTableStatements(EntitiesMetadata entities) {
+        this.entities = entities;
+    }
+
+    LookupTableStatements() {
+    }
+
+    /**
+     * @param type the entity type
+     * @return true when the entity type does not have lookup tables
+     * @throws MappingException when a lookup table is invalid
+     */
+    boolean isEmpty(Class<?> type) {
+        return lookups(type).isEmpty();
+    }
+
+    /**
+     * Creates the LOGGED batch that saves the entity into its table and its lookup tables, and deletes the lookup
+     * rows of the keys that changed
+     *
+     * @param type       the entity type
+     * @param entity     the entity columns
+     * @param ttl        the time to live, it might be null
+     * @param session    the session
+     * @param statements the cache of the prepared statements
+     * @return the batch
+     * @throws MappingException when the entity does not have the id value
+     */
+    BatchStatement save(Class<?> type, ColumnEntity entity, Duration ttl, CqlSession session,
+                        PreparedStatementCache statements) {
+        Objects.requireNonNull(entity, "entity is required");
+        EntityMetadata metadata = entities.get(type);
+        BoundStatement current = current(metadata, entity, lookups(type), session, statements);
+        return save(type, entity, session.execute(current).one(), ttl, session, statements);
+    }
+
+    /**
+     * Creates the LOGGED batch that saves the entity into its table and its lookup tables, and deletes the lookup
+     * rows of the keys that changed, without blocking: the current keys are read asynchronously, and the batch is
+     * created when they arrive
+     *
+     * @param type       the entity type
+     * @param entity     the entity columns
+     * @param ttl        the time to live, it might be null
+     * @param session    the session
+     * @param statements the cache of the prepared statements
+     * @return the batch when the current keys are read
+     * @throws MappingException when the entity does not have the id value
+     */
+    CompletionStage<BatchStatement> saveAsync(Class<?> type, ColumnEntity entity, Duration ttl, CqlSession session,
+                                              PreparedStatementCache statements) {
+        Objects.requireNonNull(entity, "entity is required");
+        EntityMetadata metadata = entities.get(type);
+        BoundStatement current = current(metadata, entity, lookups(type), session, statements);
+        return session.executeAsync(current)
+                .thenApply(rows -> save(type, entity, rows.one(), ttl, session, statements));
+    }
+
+    private BatchStatement save(Class<?> type, ColumnEntity entity, Row current, Duration ttl, CqlSession session,
+                                PreparedStatementCache statements) {
+        String id = id(entities.get(type));
+        Object idValue = idValue(entity, id);
+        List<BatchableStatement<?>> batch = new ArrayList<>();
+        batch.add(CassandraStatements.insert(entity, ttl, session));
+        for (Lookup lookup : lookups(type)) {
+            Object value = entity.find(lookup.key).map(Column::get).orElse(null);
+            Object previous = current == null ? null : current.getObject(lookup.key);
+            if (previous != null && !previous.equals(value)) {
+                batch.add(delete(lookup, id, previous, idValue, session, statements));
+            }
+            if (value != null) {
+                batch.add(CassandraStatements.insert(lookup.table, entity, ttl, session));
+            }
+        }
+        return BatchStatement.newInstance(BatchType.LOGGED, batch);
+    }
+
+    /**
+     * Creates the LOGGED batch that deletes the entity from its table and its lookup tables
+     *
+     * @param type       the entity type
+     * @param idValue    the id, in the database type
+     * @param session    the session
+     * @param statements the cache of the prepared statements
+     * @return the batch
+     */
+    BatchStatement delete(Class<?> type, Object idValue, CqlSession session, PreparedStatementCache statements) {
+        Objects.requireNonNull(idValue, "idValue is required");
+        List<Lookup> lookups = lookups(type);
+        EntityMetadata metadata = entities.get(type);
+        String id = id(metadata);
+        Row current = session.execute(current(metadata, id, idValue, lookups, session, statements)).one();
+        List<BatchableStatement<?>> batch = new ArrayList<>();
+        String query = QueryBuilder.deleteFrom(CassandraStatements.keyspace(session),
+                CqlIdentifier.fromCql(metadata.getName())).whereColumn(id).isEqualTo(bindMarker()).asCql();
+        batch.add(statements.get(query, session::prepare).bind(idValue));
+        for (Lookup lookup : lookups) {
+            Object previous = current == null ? null : current.getObject(lookup.key);
+            if (previous != null) {
+                batch.add(delete(lookup, id, previous, idValue, session, statements));
+            }
+        }
+        return BatchStatement.newInstance(BatchType.LOGGED, batch);
+    }
+
+    /**
+     * Routes the query to a lookup table when it has equality on the lookup key and not on the id
+     *
+     * @param query the query
+     * @return the query to the lookup table or empty when the query stays on the entity table
+     */
+    Optional<LookupQuery> route(ColumnQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (query.getCondition().isEmpty()) {
+            return Optional.empty();
+        }
+        EntityMetadata entity;
+        try {
+            entity = entities.findByName(query.getColumnFamily());
+        } catch (RuntimeException exception) {
+            return Optional.empty();
+        }
+        if (entity == null) {
+            return Optional.empty();
+        }
+        List<Lookup> lookups = lookups(entity.getType());
+        if (lookups.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> equalities = new HashSet<>();
+        equalities(query.getCondition().get(), equalities);
+        if (equalities.contains(id(entity))) {
+            return Optional.empty();
+        }
+        return lookups.stream()
+                .filter(lookup -> equalities.contains(lookup.key))
+                .findFirst()
+                .map(lookup -> new LookupQuery(query, lookup.table, entity.getType()));
+    }
+
+    /**
+     * Refuses the delete query of an entity that has lookup tables, since it would leave their rows behind; the
+     * delete by id keeps them in sync
+     *
+     * @param query the delete query
+     * @throws MappingException when the entity of the query has lookup tables
+     */
+    void checkDelete(ColumnDeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        EntityMetadata entity;
+        try {
+            entity = entities.findByName(query.getColumnFamily());
+        } catch (RuntimeException exception) {
+            return;
+        }
+        if (entity != null && !lookups(entity.getType()).isEmpty()) {
+            throw new MappingException("The delete query of " + entity.getType().getName()
+                    + " would leave the rows of its lookup tables, delete it by id instead");
+        }
+    }
+
+    private List<Lookup> lookups(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return types.computeIfAbsent(type, this::read);
+    }
+
+    private List<Lookup> read(Class<?> type) {
+        LookupTable[] annotations = type.getAnnotationsByType(LookupTable.class);
+        if (annotations.length == 0) {
+            return Collections.emptyList();
+        }
+        EntityMetadata entity = entities.get(type);
+        String id = id(entity);
+        Map<String, FieldMapping> fields = entity.getFieldsGroupByName();
+        List<Lookup> lookups = new ArrayList<>(annotations.length);
+        for (LookupTable annotation : annotations) {
+            if (annotation.value().isBlank()) {
+                throw new MappingException("The lookup table name is required at " + type.getName());
+            }
+            if (!fields.containsKey(annotation.key()) || id.equals(annotation.key())) {
+                throw new MappingException("The key of the lookup table " + annotation.value() + " must be a column of "
+                        + type.getName() + " other than the id: " + annotation.key());
+            }
+            lookups.add(new Lookup(annotation.value(), annotation.key()));
+        }
+        return Collections.unmodifiableList(lookups);
+    }
+
+    private static String id(EntityMetadata entity) {
+        return entity.getId().map(FieldMapping::getName)
+                .orElseThrow(() -> IdNotFoundException.newInstance(entity.getType()));
+    }
+
+    private static Object idValue(ColumnEntity entity, String id) {
+        return entity.find(id).map(Column::get)
+                .orElseThrow(() -> new MappingException("The id is required to keep the lookup tables of "
+                        + entity.getName()));
+    }
+
+    private static BoundStatement current(EntityMetadata entity, ColumnEntity columns, List<Lookup> lookups,
+                                          CqlSession session, PreparedStatementCache statements) {
+        String id = id(entity);
+        return current(entity, id, idValue(columns, id), lookups, session, statements);
+    }
+
+    private static BoundStatement current(EntityMetadata entity, String id, Object idValue, List<Lookup> lookups,
+                                          CqlSession session, PreparedStatementCache statements) {
+        List<String> keys = lookups.stream().map(l -> l.key).distinct().collect(Collectors.toList());
+        String query = QueryBuilder.selectFrom(CassandraStatements.keyspace(session),
+                CqlIdentifier.fromCql(entity.getName())).columns(keys)
+                .whereColumn(id).isEqualTo(bindMarker()).asCql();
+        return statements.get(query, session::prepare).bind(idValue);
+    }
+
+    private static BoundStatement delete(Lookup lookup, String id, Object key, Object idValue, CqlSession session,
+                                         PreparedStatementCache statements) {
+        String query = QueryBuilder.deleteFrom(CassandraStatements.keyspace(session), CqlIdentifier.fromCql(lookup.table))
+                .whereColumn(lookup.key).isEqualTo(bindMarker())
+                .whereColumn(id).isEqualTo(bindMarker())
+                .asCql();
+        return statements.get(query, session::prepare).bind(key, idValue);
+    }
+
+    private static void equalities(ColumnCondition condition, Set<String> names) {
+        switch (condition.getCondition()) {
+            case EQUALS:
+                names.add(condition.getColumn().getName());
+                return;
+            case AND:
+                condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+                }).forEach(c -> equalities(c, names));
+                return;
+            default:
+        }
+    }
+
+    private static final class Lookup {
+
+        private final String table;
+
+        private final String key;
+
+        private Lookup(String table, String key) {
+            this.table = table;
+            this.key = key;
+        }
+    }
+
+    /**
+     * A query sent to a lookup table instead of the entity table
+     */
+    static final class LookupQuery implements ColumnQuery {
+
+        private final ColumnQuery query;
+
+        private final String table;
+
+        private final Class<?> type;
+
+        private LookupQuery(ColumnQuery query, String table, Class<?> type) {
+            this.query = query;
+            this.table = table;
+            this.type = type;
+        }
+
+        /**
+         * @return the entity type, since the rows come from the lookup table
+         */
+        Class<?> getType() {
+            return type;
+        }
+
+        @Override
+        public long getLimit() {
+            return query.getLimit();
+        }
+
+        @Override
+        public long getSkip() {
+            return query.getSkip();
+        }
+
+        @Override
+        public String getColumnFamily() {
+            return table;
+        }
+
+        @Override
+        public Optional<ColumnCondition> getCondition() {
+            return query.getCondition();
+        }
+
+        @Override
+        public List<String> getColumns() {
+            return query.getColumns();
+        }
+
+        @Override
+        public List<Sort> getSorts() {
+            return query.getSorts();
+        }
+
+        @Override
+        public String toString() {
+            return "LookupQuery{" +
+                    "query=" + query +
+                    ", table='" + table + '\'' +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * The opaque position of a query result in Cassandra, the driver paging state, that resumes the query from the next
+ * page with {@link CassandraTemplate#findPage(jakarta.nosql.column.ColumnQuery,
+ * com.datastax.oss.driver.api.core.ConsistencyLevel, int, PagingToken)}.
+ * The {@link #toString()} is a URL safe text that {@link #parse(String)} reads back, so it can go to a client
+ * and return in the next request. The token is only valid to the same query.
+ */
+public final class PagingToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] state;
+
+    private PagingToken(byte[] state) {
+        this.state = state;
+    }
+
+    /**
+     * @return the paging state to the driver
+     */
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(state).asReadOnlyBuffer();
+    }
+
+    /**
+     * Creates a token from the driver paging state
+     *
+     * @param state the paging state
+     * @return a {@link PagingToken} instance
+     * @throws NullPointerException when state is null
+     */
+    public static PagingToken of(ByteBuffer state) {
+        Objects.requireNonNull(state, "state is required");
+        ByteBuffer buffer = state.duplicate();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new PagingToken(bytes);
+    }
+
+    /**
+     * Reads a token from the text returned by {@link #toString()}
+     *
+     * @param token the token as text
+     * @return a {@link PagingToken} instance
+     * @throws NullPointerException     when token is null
+     * @throws IllegalArgumentException when token is not a valid text
+     */
+    public static PagingToken parse(String token) {
+        Objects.requireNonNull(token, "token is required");
+        return new PagingToken(Base64.getUrlDecoder().decode(token));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PagingToken that = (PagingToken) o;
+        return Arrays.equals(state, that.state);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(state);
+    }
+
+    @Override
+    public String toString() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(state);
+    }
+}
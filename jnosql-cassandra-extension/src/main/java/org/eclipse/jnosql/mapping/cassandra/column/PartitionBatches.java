@@ -0,0 +1,122 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.BATCH_MAXIMUM_BYTES;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.BATCH_MAXIMUM_STATEMENTS;
+
+/**
+ * Splits the statements of a single partition in UNLOGGED batches capped by
+ * {@link CassandraExtensionConfigurations#BATCH_MAXIMUM_STATEMENTS} and
+ * {@link CassandraExtensionConfigurations#BATCH_MAXIMUM_BYTES}. A single partition batch is applied by the replicas
+ * as one mutation, so it replaces a round trip per row without the cost of the coordinator batch log.
+ */
+@ApplicationScoped
+class PartitionBatches {
+
+    static final int DEFAULT_MAXIMUM_STATEMENTS = 100;
+
+    static final int DEFAULT_MAXIMUM_BYTES = 5 * 1024;
+
+    private final int maximumStatements;
+
+    private final int maximumBytes;
+
+    PartitionBatches() {
+        this(MicroProfileSettings.INSTANCE.get(BATCH_MAXIMUM_STATEMENTS.get(), Integer.class)
+                        .orElse(DEFAULT_MAXIMUM_STATEMENTS),
+                MicroProfileSettings.INSTANCE.get(BATCH_MAXIMUM_BYTES.get(), Integer.class)
+                        .orElse(DEFAULT_MAXIMUM_BYTES));
+    }
+
+    PartitionBatches(int maximumStatements, int maximumBytes) {
+        if (maximumStatements <= 0) {
+            throw new IllegalArgumentException("The maximum statements must be greater than zero: "
+                    + maximumStatements);
+        }
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("The maximum bytes must be greater than zero: " + maximumBytes);
+        }
+        this.maximumStatements = maximumStatements;
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * Splits the statements of a partition, keeping their order. A statement larger than the maximum bytes goes
+     * alone, and a batch that would have a single statement is returned as the statement itself.
+     *
+     * @param statements the statements that write the same partition
+     * @param size       the function that computes the size in bytes of a statement
+     * @return the statements to execute
+     * @throws NullPointerException when there is null parameter
+     */
+    List<Statement<?>> split(List<? extends BatchableStatement<?>> statements,
+                             ToIntFunction<BatchableStatement<?>> size) {
+        Objects.requireNonNull(statements, "statements is required");
+        Objects.requireNonNull(size, "size is required");
+        List<Statement<?>> batches = new ArrayList<>();
+        List<BatchableStatement<?>> batch = new ArrayList<>();
+        int bytes = 0;
+        for (BatchableStatement<?> statement : statements) {
+            int statementSize = size.applyAsInt(statement);
+            if (!batch.isEmpty() && (batch.size() == maximumStatements || bytes + statementSize > maximumBytes)) {
+                batches.add(toStatement(batch));
+                batch = new ArrayList<>();
+                bytes = 0;
+            }
+            batch.add(statement);
+            bytes += statementSize;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(toStatement(batch));
+        }
+        return batches;
+    }
+
+    int getMaximumStatements() {
+        return maximumStatements;
+    }
+
+    int getMaximumBytes() {
+        return maximumBytes;
+    }
+
+    private static Statement<?> toStatement(List<BatchableStatement<?>> batch) {
+        if (batch.size() == 1) {
+            return batch.get(0);
+        }
+        return BatchStatement.newInstance(BatchType.UNLOGGED, batch);
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionBatches{" +
+                "maximumStatements=" + maximumStatements +
+                ", maximumBytes=" + maximumBytes +
+                '}';
+    }
+}
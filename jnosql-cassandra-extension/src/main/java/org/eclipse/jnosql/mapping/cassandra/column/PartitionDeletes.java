@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.BULK_DELETE_MAXIMUM_KEYS;
+
+/**
+ * Plans the statements of {@link CassandraTemplate#deleteAll}: the partition keys are grouped by the replicas that
+ * own them, from the token map of the session, and each group is split in statements with an IN restriction of at
+ * most {@link CassandraExtensionConfigurations#BULK_DELETE_MAXIMUM_KEYS} keys, routed to the group replicas.
+ * So the coordinator of each statement owns all of its partitions. When the token map or the routing key is not
+ * available, the keys are split in the input order.
+ */
+@ApplicationScoped
+class PartitionDeletes {
+
+    static final int DEFAULT_MAXIMUM_KEYS = 20;
+
+    private static final Object UNKNOWN_REPLICAS = new Object();
+
+    private RoutingKeys routing;
+
+    private int maximumKeys;
+
+    @Inject
+    PartitionDeletes(RoutingKeys routing) {
+        this(routing, MicroProfileSettings.INSTANCE.get(BULK_DELETE_MAXIMUM_KEYS.get(), Integer.class)
+                .orElse(DEFAULT_MAXIMUM_KEYS));
+    }
+
+    PartitionDeletes(RoutingKeys routing, int maximumKeys) {
+        if (maximumKeys <= 0) {
+            throw new IllegalArgumentException("The maximum keys must be greater than zero: " + maximumKeys);
+        }
+        this.routing = routing;
+        this.maximumKeys = maximumKeys;
+    }
+
+    PartitionDeletes() {
+    }
+
+    /**
+     * Creates the delete statements of the partition keys
+     *
+     * @param table      the table name
+     * @param column     the partition key column name
+     * @param values     the partition key values, in the database type
+     * @param session    the session
+     * @param statements the cache of the prepared statement
+     * @return the statements with the position in the values of the keys each one deletes
+     * @throws NullPointerException when there is null parameter
+     */
+    List<Group> groups(String table, String column, List<Object> values, CqlSession session,
+                       PreparedStatementCache statements) {
+        Objects.requireNonNull(table, "table is required");
+        Objects.requireNonNull(column, "column is required");
+        Objects.requireNonNull(values, "values is required");
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(statements, "statements is required");
+        if (values.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<CqlIdentifier> keyspace = session.getKeyspace();
+        Optional<TokenMap> tokens = session.getMetadata().getTokenMap();
+        ByteBuffer[][] routingKeys = new ByteBuffer[values.size()][];
+        Map<Object, List<Integer>> replicas = new LinkedHashMap<>();
+        for (int index = 0; index < values.size(); index++) {
+            Object value = values.get(index);
+            ByteBuffer[] routingKey = routing.routingKey(table, name -> column.equals(name) ? value : null,
+                    session);
+            routingKeys[index] = routingKey;
+            Object owner = UNKNOWN_REPLICAS;
+            if (routingKey != null && routingKey.length == 1 && keyspace.isPresent() && tokens.isPresent()) {
+                owner = tokens.get().getReplicas(keyspace.get(), routingKey[0]);
+            }
+            replicas.computeIfAbsent(owner, k -> new ArrayList<>()).add(index);
+        }
+        String query = QueryBuilder.deleteFrom(keyspace.orElse(null), CqlIdentifier.fromCql(table)).whereColumn(column).in(bindMarker()).asCql();
+        PreparedStatement prepared = statements.get(query, session::prepare);
+        List<Group> groups = new ArrayList<>();
+        for (List<Integer> positions : replicas.values()) {
+            for (int start = 0; start < positions.size(); start += maximumKeys) {
+                List<Integer> keys = positions.subList(start, Math.min(start + maximumKeys, positions.size()));
+                List<Object> partitions = new ArrayList<>(keys.size());
+                keys.forEach(position -> partitions.add(values.get(position)));
+                BoundStatement statement = prepared.bind(partitions);
+                ByteBuffer[] routingKey = routingKeys[keys.get(0)];
+                if (routingKey != null) {
+                    statement = statement.setRoutingKey(routingKey);
+                    if (keyspace.isPresent()) {
+                        statement = statement.setRoutingKeyspace(keyspace.get());
+                    }
+                }
+                groups.add(new Group(List.copyOf(keys), statement));
+            }
+        }
+        return groups;
+    }
+
+    int getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionDeletes{" +
+                "maximumKeys=" + maximumKeys +
+                '}';
+    }
+
+    /**
+     * A delete statement and the position of the keys it deletes
+     */
+    static final class Group {
+
+        private final List<Integer> positions;
+
+        private final BoundStatement statement;
+
+        private Group(List<Integer> positions, BoundStatement statement) {
+            this.positions = positions;
+            this.statement = statement;
+        }
+
+        List<Integer> getPositions() {
+            return positions;
+        }
+
+        BoundStatement getStatement() {
+            return statement;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.PREPARED_STATEMENT_CACHE_SIZE;
+
+/**
+ * A bounded cache of {@link PreparedStatement} keyed by the CQL text, so a query with positional parameters
+ * is prepared once and then only bound. When the cache is full, the least recently used statement is evicted.
+ * The maximum size is defined by {@link CassandraExtensionConfigurations#PREPARED_STATEMENT_CACHE_SIZE}.
+ */
+@ApplicationScoped
+public class PreparedStatementCache {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+
+    private final int maximumSize;
+
+    private final Map<String, PreparedStatement> statements;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    PreparedStatementCache() {
+        this(MicroProfileSettings.INSTANCE.get(PREPARED_STATEMENT_CACHE_SIZE.get(), Integer.class)
+                .orElse(DEFAULT_MAXIMUM_SIZE));
+    }
+
+    PreparedStatementCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("The maximum size must be greater than zero: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.statements = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                return size() > PreparedStatementCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the statement prepared to the query, preparing and caching it when it is absent.
+     * The preparation happens outside the lock, so two threads might prepare the same query at the same time,
+     * the first one cached wins.
+     *
+     * @param query   the CQL query
+     * @param prepare the function that prepares the query
+     * @return the prepared statement
+     * @throws NullPointerException when there is null parameter
+     */
+    PreparedStatement get(String query, Function<String, PreparedStatement> prepare) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(prepare, "prepare is required");
+        PreparedStatement statement;
+        synchronized (statements) {
+            statement = statements.get(query);
+        }
+        if (statement != null) {
+            hits.increment();
+            return statement;
+        }
+        misses.increment();
+        PreparedStatement prepared = prepare.apply(query);
+        synchronized (statements) {
+            PreparedStatement current = statements.putIfAbsent(query, prepared);
+            return current == null ? prepared : current;
+        }
+    }
+
+    /**
+     * Returns the statement prepared to the query without blocking, the cached one or, when it is absent,
+     * the one prepared by the asynchronous function, which is cached once it completes.
+     *
+     * @param query   the CQL query
+     * @param prepare the function that prepares the query asynchronously
+     * @return the stage of the prepared statement
+     * @throws NullPointerException when there is null parameter
+     */
+    CompletionStage<PreparedStatement> getAsync(String query,
+                                                Function<String, CompletionStage<PreparedStatement>> prepare) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(prepare, "prepare is required");
+        PreparedStatement statement;
+        synchronized (statements) {
+            statement = statements.get(query);
+        }
+        if (statement != null) {
+            hits.increment();
+            return CompletableFuture.completedFuture(statement);
+        }
+        misses.increment();
+        return prepare.apply(query).thenApply(prepared -> {
+            synchronized (statements) {
+                PreparedStatement current = statements.putIfAbsent(query, prepared);
+                return current == null ? prepared : current;
+            }
+        });
+    }
+
+    /**
+     * @return the number of times a query found its statement in the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of times a query had to be prepared
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of statements in the cache
+     */
+    public int size() {
+        synchronized (statements) {
+            return statements.size();
+        }
+    }
+
+    /**
+     * @return the maximum number of statements in the cache
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes all statements from the cache, the counters are kept.
+     */
+    public void clear() {
+        synchronized (statements) {
+            statements.clear();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedStatementCache{" +
+                "maximumSize=" + maximumSize +
+                ", size=" + size() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                '}';
+    }
+}
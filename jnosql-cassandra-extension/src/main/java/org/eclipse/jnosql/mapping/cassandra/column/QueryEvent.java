@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * An execution of a statement sent to the {@link QueryMetricsListener}.
+ */
+public final class QueryEvent {
+
+    private final String statement;
+
+    private final QueryOperation operation;
+
+    private final ConsistencyLevel level;
+
+    private final Duration duration;
+
+    private final Throwable error;
+
+    QueryEvent(String statement, QueryOperation operation, ConsistencyLevel level, Duration duration,
+               Throwable error) {
+        this.statement = statement;
+        this.operation = operation;
+        this.level = level;
+        this.duration = duration;
+        this.error = error;
+    }
+
+    /**
+     * @return the normalized statement, the values are replaced by a bind marker
+     */
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return the template operation
+     */
+    public QueryOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the consistency level, empty when the statement used the default one
+     */
+    public Optional<ConsistencyLevel> getConsistencyLevel() {
+        return Optional.ofNullable(level);
+    }
+
+    /**
+     * @return the time until Cassandra answered the statement
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the error when the statement failed
+     */
+    public Optional<Throwable> getError() {
+        return Optional.ofNullable(error);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryEvent{" +
+                "statement='" + statement + '\'' +
+                ", operation=" + operation +
+                ", level=" + level +
+                ", duration=" + duration +
+                ", error=" + error +
+                '}';
+    }
+}
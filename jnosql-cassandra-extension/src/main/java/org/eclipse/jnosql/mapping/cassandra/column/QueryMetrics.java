@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.METRICS_ENABLED;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.SLOW_QUERY_THRESHOLD;
+
+/**
+ * Measures the statements of {@link CassandraTemplate}: the {@link QueryStatistics} by normalized statement, when
+ * {@link CassandraExtensionConfigurations#METRICS_ENABLED} is true, the {@link QueryMetricsListener} beans and the
+ * slow query log, when {@link CassandraExtensionConfigurations#SLOW_QUERY_THRESHOLD} is defined.
+ * When both are off, the templates do not read the clock or build the statement key.
+ */
+@ApplicationScoped
+public class QueryMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryMetrics.class.getName());
+
+    static final int MAXIMUM_STATEMENTS = 1_000;
+
+    static final String OTHER_STATEMENTS = "<other>";
+
+    private static final Pattern STRING = Pattern.compile("'(?:[^']|'')*'");
+
+    private static final Pattern UUID = Pattern.compile(
+            "\\b[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}\\b");
+
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+
+    private final Duration slowQueryThreshold;
+
+    private final long slowQueryNanos;
+
+    private final List<QueryMetricsListener> listeners;
+
+    @Inject
+    QueryMetrics(Instance<QueryMetricsListener> listeners) {
+        this(MicroProfileSettings.INSTANCE.get(METRICS_ENABLED.get(), Boolean.class).orElse(false),
+                MicroProfileSettings.INSTANCE.get(SLOW_QUERY_THRESHOLD.get(), Long.class)
+                        .map(Duration::ofMillis).orElse(null),
+                listeners);
+    }
+
+    QueryMetrics(boolean enabled, Duration slowQueryThreshold, Iterable<QueryMetricsListener> listeners) {
+        this.enabled = enabled;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.slowQueryNanos = slowQueryThreshold == null ? Long.MAX_VALUE : slowQueryThreshold.toNanos();
+        this.listeners = enabled && listeners != null ? StreamSupport.stream(listeners.spliterator(), false)
+                .collect(Collectors.toUnmodifiableList()) : Collections.emptyList();
+    }
+
+    QueryMetrics() {
+        this.enabled = false;
+        this.slowQueryThreshold = null;
+        this.slowQueryNanos = Long.MAX_VALUE;
+        this.listeners = Collections.emptyList();
+    }
+
+    /**
+     * @return true when the statistics are kept
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the duration from which a statement is logged as slow
+     */
+    public Optional<Duration> getSlowQueryThreshold() {
+        return Optional.ofNullable(slowQueryThreshold);
+    }
+
+    /**
+     * @return the statistics by normalized statement
+     */
+    public Map<String, QueryStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Returns the statistics of a statement
+     *
+     * @param statement the CQL, it is normalized as the templates do
+     * @return the statistics
+     * @throws NullPointerException when statement is null
+     */
+    public Optional<QueryStatistics> getStatistics(String statement) {
+        Objects.requireNonNull(statement, "statement is required");
+        return Optional.ofNullable(statistics.get(normalize(statement)));
+    }
+
+    /**
+     * Removes all statistics
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    boolean isActive() {
+        return enabled || slowQueryThreshold != null;
+    }
+
+    /**
+     * @return the start time to {@link #stop}, or zero when it is not active
+     */
+    long start() {
+        return isActive() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records an execution started by {@link #start()}
+     *
+     * @return the statistics to count the rows, null when it is not enabled
+     */
+    QueryStatistics stop(long start, QueryOperation operation, Supplier<String> statement, ConsistencyLevel level,
+                         Throwable error) {
+        if (!isActive()) {
+            return null;
+        }
+        long nanos = System.nanoTime() - start;
+        String key = normalize(statement.get());
+        if (nanos >= slowQueryNanos) {
+            LOGGER.log(Level.WARNING, "Slow query, " + Duration.ofNanos(nanos).toMillis() + " ms, " + operation
+                    + ", consistency level: " + (level == null ? "default" : level) + ", statement: " + key);
+        }
+        if (!enabled) {
+            return null;
+        }
+        QueryStatistics current = statistics(key);
+        current.record(nanos, error != null);
+        if (!listeners.isEmpty()) {
+            QueryEvent event = new QueryEvent(key, operation, level, Duration.ofNanos(nanos), error);
+            for (QueryMetricsListener listener : listeners) {
+                listener.onQuery(event);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Records a statement executed by the action
+     */
+    <T> T record(QueryOperation operation, Supplier<String> statement, ConsistencyLevel level, Supplier<T> action) {
+        if (!isActive()) {
+            return action.get();
+        }
+        long start = start();
+        try {
+            T result = action.get();
+            stop(start, operation, statement, level, null);
+            return result;
+        } catch (RuntimeException exception) {
+            stop(start, operation, statement, level, exception);
+            throw exception;
+        }
+    }
+
+    /**
+     * Records a statement executed by the action, and counts the rows read from the stream
+     */
+    <T> Stream<T> recordStream(QueryOperation operation, Supplier<String> statement, ConsistencyLevel level,
+                               Supplier<Stream<T>> action) {
+        if (!isActive()) {
+            return action.get();
+        }
+        long start = start();
+        Stream<T> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException exception) {
+            stop(start, operation, statement, level, exception);
+            throw exception;
+        }
+        QueryStatistics current = stop(start, operation, statement, level, null);
+        return current == null ? result : result.peek(e -> current.addRow());
+    }
+
+    private QueryStatistics statistics(String key) {
+        QueryStatistics current = statistics.get(key);
+        if (current != null) {
+            return current;
+        }
+        if (statistics.size() >= MAXIMUM_STATEMENTS) {
+            return statistics.computeIfAbsent(OTHER_STATEMENTS, QueryStatistics::new);
+        }
+        return statistics.computeIfAbsent(key, QueryStatistics::new);
+    }
+
+    /**
+     * Normalizes the CQL as the statistics key: the literal values are replaced by a bind marker, and the
+     * spaces and the trailing semicolon are removed.
+     */
+    static String normalize(String statement) {
+        String cql = STRING.matcher(statement).replaceAll("?");
+        cql = UUID.matcher(cql).replaceAll("?");
+        cql = NUMBER.matcher(cql).replaceAll("?");
+        cql = SPACES.matcher(cql).replaceAll(" ").trim();
+        if (cql.endsWith(";")) {
+            cql = cql.substring(0, cql.length() - 1).trim();
+        }
+        return cql;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryMetrics{" +
+                "enabled=" + enabled +
+                ", slowQueryThreshold=" + slowQueryThreshold +
+                ", statements=" + statistics.size() +
+                '}';
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+/**
+ * The extension point to bind the statements of the Cassandra templates to a metrics registry. Every CDI bean that
+ * implements this interface receives each {@link QueryEvent} while {@link QueryMetrics} is enabled.
+ * It runs in the thread that executed the statement, so it must be fast and must not throw.
+ * E.g.: a timer by statement in the registry.
+ */
+public interface QueryMetricsListener {
+
+    /**
+     * Receives a statement execution
+     *
+     * @param event the execution
+     */
+    void onQuery(QueryEvent event);
+}
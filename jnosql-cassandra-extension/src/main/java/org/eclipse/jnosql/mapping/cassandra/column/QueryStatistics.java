@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a statement: the number of executions, errors and rows, and a latency histogram whose buckets
+ * are powers of two in microseconds, so the percentiles are an upper bound within a factor of two.
+ */
+public final class QueryStatistics {
+
+    static final int BUCKETS = 40;
+
+    private final String statement;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    QueryStatistics(String statement) {
+        this.statement = statement;
+    }
+
+    void record(long nanos, boolean error) {
+        count.increment();
+        if (error) {
+            errors.increment();
+        }
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        buckets.incrementAndGet(bucket(nanos));
+    }
+
+    void addRow() {
+        rows.increment();
+    }
+
+    /**
+     * @return the normalized statement
+     */
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * @return the number of executions
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the number of executions that failed
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * @return the number of rows read from the results
+     */
+    public long getRowCount() {
+        return rows.sum();
+    }
+
+    /**
+     * @return the mean latency
+     */
+    public Duration getMean() {
+        long executions = count.sum();
+        return executions == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / executions);
+    }
+
+    /**
+     * @return the maximum latency
+     */
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Returns the upper bound of the bucket of the percentile
+     *
+     * @param percentile the percentile, from 0 to 1, e.g.: 0.99
+     * @return the latency of the percentile
+     * @throws IllegalArgumentException when the percentile is not between 0 and 1
+     */
+    public Duration getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 1: " + percentile);
+        }
+        long[] snapshot = getBuckets();
+        long total = 0;
+        for (long value : snapshot) {
+            total += value;
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long accumulated = 0;
+        for (int index = 0; index < snapshot.length; index++) {
+            accumulated += snapshot[index];
+            if (accumulated >= rank) {
+                return Duration.of(1L << index, ChronoUnit.MICROS);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * @return the number of executions by bucket, the bucket i has the latencies up to 2^i microseconds
+     */
+    public long[] getBuckets() {
+        long[] snapshot = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            snapshot[index] = buckets.get(index);
+        }
+        return snapshot;
+    }
+
+    private static int bucket(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        if (micros <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatistics{" +
+                "statement='" + statement + '\'' +
+                ", count=" + getCount() +
+                ", errors=" + getErrorCount() +
+                ", rows=" + getRowCount() +
+                ", mean=" + getMean() +
+                ", max=" + getMax() +
+                '}';
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sets the routing key of the statements built from the communication structures, so the token-aware load
+ * balancing sends the request straight to a replica of the partition instead of a random coordinator.
+ * The partition key columns of each table come from the schema metadata of the session, read once by keyspace and
+ * table. A table without schema metadata gets no routing key, since its partition key is not known, and it is
+ * not kept, so the schema metadata is used as soon as the driver has it.
+ * A statement whose partition key value is unknown, e.g. a query without equality on all the partition key
+ * columns, is returned as it is.
+ */
+@ApplicationScoped
+class RoutingKeys {
+
+    static final int MAXIMUM_TABLES = 1_000;
+
+    private final Map<String, List<PartitionColumn>> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Sets the routing key from the entity columns
+     *
+     * @param statement the statement
+     * @param columns   the columns of the entity
+     * @param session   the session
+     * @param <S>       the statement type
+     * @return the statement with the routing key
+     */
+    <S extends Statement<S>> S route(S statement, ColumnEntity columns, CqlSession session) {
+        List<PartitionColumn> partitionKey = partitionKey(columns.getName(), session);
+        return route(statement, partitionKey, name -> columns.find(name).map(Column::get).orElse(null), session);
+    }
+
+    /**
+     * Sets the routing key from the equality conditions of the query
+     *
+     * @param statement the statement
+     * @param query     the query
+     * @param session   the session
+     * @param <S>       the statement type
+     * @return the statement with the routing key
+     */
+    <S extends Statement<S>> S route(S statement, ColumnQuery query, CqlSession session) {
+        List<PartitionColumn> partitionKey = partitionKey(query.getColumnFamily(), session);
+        if (partitionKey.isEmpty() || query.getCondition().isEmpty()) {
+            return statement;
+        }
+        Map<String, Object> values = new HashMap<>();
+        equalities(query.getCondition().get(), values);
+        return route(statement, partitionKey, values::get, session);
+    }
+
+    /**
+     * @return the number of tables with the partition key read
+     */
+    int size() {
+        return tables.size();
+    }
+
+    /**
+     * Computes the routing key components of a partition
+     *
+     * @param table   the table name
+     * @param values  the value by partition key column name
+     * @param session the session
+     * @return the routing key components, or null when a partition key value is unknown
+     */
+    ByteBuffer[] routingKey(String table, Function<String, Object> values, CqlSession session) {
+        return routingKey(partitionKey(table, session), values, session);
+    }
+
+    private <S extends Statement<S>> S route(S statement, List<PartitionColumn> partitionKey,
+                                             Function<String, Object> values, CqlSession session) {
+        ByteBuffer[] components = routingKey(partitionKey, values, session);
+        if (components == null) {
+            return statement;
+        }
+        S routed = statement.setRoutingKey(components);
+        Optional<CqlIdentifier> keyspace = session.getKeyspace();
+        return keyspace.isPresent() ? routed.setRoutingKeyspace(keyspace.get()) : routed;
+    }
+
+    private static ByteBuffer[] routingKey(List<PartitionColumn> partitionKey, Function<String, Object> values,
+                                           CqlSession session) {
+        if (partitionKey.isEmpty()) {
+            return null;
+        }
+        CodecRegistry registry = session.getContext().getCodecRegistry();
+        ProtocolVersion version = session.getContext().getProtocolVersion();
+        ByteBuffer[] components = new ByteBuffer[partitionKey.size()];
+        for (int index = 0; index < components.length; index++) {
+            PartitionColumn column = partitionKey.get(index);
+            Object value = values.apply(column.name);
+            if (value == null) {
+                return null;
+            }
+            try {
+                TypeCodec<Object> codec = column.type == null ? registry.codecFor(value)
+                        : registry.codecFor(column.type, value);
+                components[index] = codec.encode(value, version);
+            } catch (CodecNotFoundException exception) {
+                return null;
+            }
+        }
+        return components;
+    }
+
+    private List<PartitionColumn> partitionKey(String table, CqlSession session) {
+        String key = session.getKeyspace().map(k -> k.asInternal() + '.' + table).orElse(table);
+        List<PartitionColumn> partitionKey = tables.get(key);
+        if (partitionKey != null) {
+            return partitionKey;
+        }
+        Optional<List<PartitionColumn>> metadata = session.getKeyspace()
+                .flatMap(k -> session.getMetadata().getKeyspace(k))
+                .flatMap(k -> k.getTable(table))
+                .map(RoutingKeys::partitionKey);
+        if (metadata.isEmpty()) {
+            // not cached, the schema metadata might show up later, e.g. after the driver refreshes it
+            return Collections.emptyList();
+        }
+        if (tables.size() >= MAXIMUM_TABLES) {
+            tables.clear();
+        }
+        tables.putIfAbsent(key, metadata.get());
+        return metadata.get();
+    }
+
+    private static List<PartitionColumn> partitionKey(TableMetadata table) {
+        return table.getPartitionKey().stream()
+                .map(c -> new PartitionColumn(c.getName().asInternal(), c.getType()))
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    private static void equalities(ColumnCondition condition, Map<String, Object> values) {
+        switch (condition.getCondition()) {
+            case EQUALS:
+                values.put(condition.getColumn().getName(), condition.getColumn().get());
+                return;
+            case AND:
+                condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+                }).forEach(c -> equalities(c, values));
+                return;
+            default:
+        }
+    }
+
+    private static final class PartitionColumn {
+
+        private final String name;
+
+        private final DataType type;
+
+        private PartitionColumn(String name, DataType type) {
+            this.name = name;
+            this.type = type;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import jakarta.nosql.Value;
+import jakarta.nosql.mapping.MappingException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Maps the driver {@link Row} to a projection, a {@link Map} by column name or a class created by its
+ * constructor, such as a record, without the entity instance and the {@link jakarta.nosql.column.ColumnEntity}
+ * structure. The column names and the constructor are resolved once by result, so the functions are stateful
+ * and must not be shared between threads.
+ */
+final class RowProjections {
+
+    private RowProjections() {
+    }
+
+    /**
+     * @return the function that maps the row to a map by column name, in the order of the columns
+     */
+    static Function<Row, Map<String, Object>> map() {
+        return new Function<>() {
+
+            private ColumnDefinitions definitions;
+
+            private String[] names;
+
+            @Override
+            public Map<String, Object> apply(Row row) {
+                Objects.requireNonNull(row, "row is required");
+                ColumnDefinitions current = row.getColumnDefinitions();
+                if (current != definitions) {
+                    names = names(current);
+                    definitions = current;
+                }
+                Map<String, Object> values = new LinkedHashMap<>(names.length * 2);
+                for (int index = 0; index < names.length; index++) {
+                    values.put(names[index], row.getObject(index));
+                }
+                return values;
+            }
+        };
+    }
+
+    /**
+     * Returns the function that maps the row to the type by a constructor with a parameter by column. When the
+     * parameter names are available, such as on a record or with the -parameters compiler flag, and they match
+     * the column names, the columns go by name; otherwise, by position.
+     *
+     * @param type the projection type
+     * @param <T>  the type
+     * @return the function
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the type does not have a constructor to the columns of the row
+     */
+    static <T> Function<Row, T> of(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return new Function<>() {
+
+            private ColumnDefinitions definitions;
+
+            private Projection<T> projection;
+
+            @Override
+            public T apply(Row row) {
+                Objects.requireNonNull(row, "row is required");
+                ColumnDefinitions current = row.getColumnDefinitions();
+                if (current != definitions) {
+                    projection = projection(type, names(current));
+                    definitions = current;
+                }
+                return projection.apply(row);
+            }
+        };
+    }
+
+    private static String[] names(ColumnDefinitions definitions) {
+        String[] names = new String[definitions.size()];
+        for (int index = 0; index < names.length; index++) {
+            names[index] = definitions.get(index).getName().asInternal();
+        }
+        return names;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Projection<T> projection(Class<T> type, String[] columns) {
+        List<Constructor<T>> candidates = new ArrayList<>();
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == columns.length) {
+                candidates.add((Constructor<T>) constructor);
+            }
+        }
+        if (candidates.isEmpty()) {
+            throw new MappingException("The type " + type.getName() + " does not have a constructor with "
+                    + columns.length + " parameters to the columns: " + String.join(", ", columns));
+        }
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int index = 0; index < columns.length; index++) {
+            indexes.put(normalize(columns[index]), index);
+        }
+        for (Constructor<T> constructor : candidates) {
+            int[] positions = byName(constructor, indexes);
+            if (positions != null) {
+                return new Projection<>(constructor, positions);
+            }
+        }
+        if (candidates.size() > 1) {
+            throw new MappingException("The type " + type.getName() + " has more than one constructor with "
+                    + columns.length + " parameters, and their names do not match the columns: "
+                    + String.join(", ", columns));
+        }
+        int[] positions = new int[columns.length];
+        for (int index = 0; index < positions.length; index++) {
+            positions[index] = index;
+        }
+        return new Projection<>(candidates.get(0), positions);
+    }
+
+    private static int[] byName(Constructor<?> constructor, Map<String, Integer> indexes) {
+        Parameter[] parameters = constructor.getParameters();
+        int[] positions = new int[parameters.length];
+        for (int index = 0; index < parameters.length; index++) {
+            if (!parameters[index].isNamePresent()) {
+                return null;
+            }
+            Integer position = indexes.get(normalize(parameters[index].getName()));
+            if (position == null) {
+                return null;
+            }
+            positions[index] = position;
+        }
+        return positions;
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.US);
+    }
+
+    private static final class Projection<T> {
+
+        private final Constructor<T> constructor;
+
+        private final int[] positions;
+
+        private final Class<?>[] types;
+
+        private final Object[] defaults;
+
+        private Projection(Constructor<T> constructor, int[] positions) {
+            constructor.setAccessible(true);
+            this.constructor = constructor;
+            this.positions = positions;
+            Class<?>[] parameters = constructor.getParameterTypes();
+            this.types = new Class<?>[parameters.length];
+            this.defaults = new Object[parameters.length];
+            for (int index = 0; index < parameters.length; index++) {
+                types[index] = EntityRowMapper.wrap(parameters[index]);
+                if (parameters[index].isPrimitive()) {
+                    defaults[index] = Array.get(Array.newInstance(parameters[index], 1), 0);
+                }
+            }
+        }
+
+        private T apply(Row row) {
+            Object[] args = new Object[positions.length];
+            for (int index = 0; index < positions.length; index++) {
+                Object value = row.getObject(positions[index]);
+                if (value == null) {
+                    args[index] = defaults[index];
+                } else if (types[index].isInstance(value)) {
+                    args[index] = value;
+                } else {
+                    args[index] = Value.of(value).get(types[index]);
+                }
+            }
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new MappingException("There is an error to create the projection "
+                        + constructor.getDeclaringClass().getName(), exception);
+            }
+        }
+    }
+}
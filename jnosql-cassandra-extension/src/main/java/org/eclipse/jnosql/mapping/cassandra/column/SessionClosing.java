@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+
+/**
+ * The event fired by {@link SessionSupplier} right before the driver session closes, so the beans that still
+ * write on it, such as {@link CounterAccumulator}, finish first.
+ */
+final class SessionClosing {
+
+    private final CqlSession session;
+
+    SessionClosing(CqlSession session) {
+        this.session = session;
+    }
+
+    CqlSession getSession() {
+        return session;
+    }
+}
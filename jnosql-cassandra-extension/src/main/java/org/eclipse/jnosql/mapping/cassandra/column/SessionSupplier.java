@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.CqlSessionBuilder;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfigLoader;
+import com.datastax.oss.driver.api.core.config.ProgrammaticDriverConfigLoaderBuilder;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import jakarta.nosql.Settings;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import javax.net.ssl.SSLContext;
+import java.net.InetSocketAddress;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.DATA_CENTER;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.HOST;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.NAME;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.PASSWORD;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.PORT;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.QUERY;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.SSL;
+import static org.eclipse.jnosql.mapping.cassandra.column.CassandraExtensionConfigurations.USER;
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.COLUMN_DATABASE;
+
+/**
+ * Produces the driver {@link CqlSession} of the statement level operations, such as the prepared statements kept
+ * in {@link PreparedStatementCache}. The {@link CassandraColumnManager} from {@link ColumnManagerSupplier} keeps the
+ * session of the communication CassandraConfiguration, which it does not expose, so the operations inherited from
+ * the column template run there. This session reads the same settings, and every other driver option, SSL
+ * included, from the driver application.conf, which the driver loads as usual.
+ */
+@ApplicationScoped
+class SessionSupplier implements Supplier<CqlSession> {
+
+    private static final Logger LOGGER = Logger.getLogger(SessionSupplier.class.getName());
+
+    private static final int DEFAULT_PORT = 9042;
+
+    private static final String DEFAULT_DATA_CENTER = "datacenter1";
+
+    @Override
+    @Produces
+    @ApplicationScoped
+    @Typed(CqlSession.class)
+    public CqlSession get() {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        Optional<String> database = settings.get(COLUMN_DATABASE, String.class);
+        String keyspace = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                + COLUMN_DATABASE));
+        List<String> queries = settings.prefix(QUERY).stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+        if (!queries.isEmpty()) {
+            try (CqlSession session = builder(settings).build()) {
+                queries.forEach(session::execute);
+            }
+        }
+        LOGGER.log(Level.FINEST, "Starting a CqlSession instance using Eclipse MicroProfile Config," +
+                " keyspace: " + keyspace);
+        return builder(settings).withKeyspace(keyspace).build();
+    }
+
+    public void close(@Disposes CqlSession session, Event<SessionClosing> closing) {
+        closing.fire(new SessionClosing(session));
+        LOGGER.log(Level.FINEST, "Closing CqlSession resource, session name: " + session.getName());
+        session.close();
+    }
+
+    static CqlSessionBuilder builder(Settings settings) {
+        int port = settings.get(PORT.get(), Integer.class).orElse(DEFAULT_PORT);
+        CqlSessionBuilder builder = CqlSession.builder();
+        settings.prefix(HOST)
+                .stream()
+                .map(Object::toString)
+                .map(host -> new InetSocketAddress(host, port))
+                .forEach(builder::addContactPoint);
+        builder.withLocalDatacenter(settings.getOrDefault(DATA_CENTER.get(), DEFAULT_DATA_CENTER));
+
+        Optional<String> user = settings.get(USER.get(), String.class);
+        Optional<String> password = settings.get(PASSWORD.get(), String.class);
+        if (user.isPresent() && password.isPresent()) {
+            builder.withAuthCredentials(user.get(), password.get());
+        }
+        Optional<String> name = settings.get(NAME.get(), String.class);
+        if (name.isPresent()) {
+            ProgrammaticDriverConfigLoaderBuilder config = DriverConfigLoader.programmaticBuilder()
+                    .withString(DefaultDriverOption.SESSION_NAME, name.get());
+            builder.withConfigLoader(config.build());
+        }
+        if (settings.get(SSL.get(), Boolean.class).orElse(false)) {
+            try {
+                builder.withSslContext(SSLContext.getDefault());
+            } catch (NoSuchAlgorithmException exception) {
+                throw new MappingException("The default SSLContext is not available", exception);
+            }
+        }
+        return builder;
+    }
+}
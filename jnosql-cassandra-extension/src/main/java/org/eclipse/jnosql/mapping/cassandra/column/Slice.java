@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A page of a query result returned by {@link CassandraTemplate#findPage(jakarta.nosql.column.ColumnQuery,
+ * com.datastax.oss.driver.api.core.ConsistencyLevel, int, PagingToken)}, with the token to the next page.
+ *
+ * @param <T> the entity type
+ */
+public final class Slice<T> {
+
+    private final List<T> content;
+
+    private final PagingToken next;
+
+    private Slice(List<T> content, PagingToken next) {
+        this.content = content;
+        this.next = next;
+    }
+
+    /**
+     * @return the entities of this page
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return the token to the next page, empty when this is the last one
+     */
+    public Optional<PagingToken> getNext() {
+        return Optional.ofNullable(next);
+    }
+
+    /**
+     * @return true when there is a next page
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    static <T> Slice<T> of(List<T> content, PagingToken next) {
+        Objects.requireNonNull(content, "content is required");
+        return new Slice<>(Collections.unmodifiableList(content), next);
+    }
+
+    @Override
+    public String toString() {
+        return "Slice{" +
+                "content=" + content +
+                ", next=" + next +
+                '}';
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.nosql.mapping.MappingException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * The statement settings of an {@link ExecutionProfile}, read once by method.
+ */
+final class StatementOptions implements UnaryOperator<Statement<?>> {
+
+    private final String profile;
+
+    private final ConsistencyLevel level;
+
+    private final Duration timeout;
+
+    private final int pageSize;
+
+    private final Boolean idempotent;
+
+    private StatementOptions(String profile, ConsistencyLevel level, Duration timeout, int pageSize,
+                             Boolean idempotent) {
+        this.profile = profile;
+        this.level = level;
+        this.timeout = timeout;
+        this.pageSize = pageSize;
+        this.idempotent = idempotent;
+    }
+
+    /**
+     * Reads the annotation
+     *
+     * @param annotation the execution profile
+     * @return the options
+     * @throws NullPointerException when annotation is null
+     * @throws MappingException     when an attribute is invalid
+     */
+    static StatementOptions of(ExecutionProfile annotation) {
+        Objects.requireNonNull(annotation, "annotation is required");
+        if (annotation.timeout() < 0) {
+            throw new MappingException("The timeout cannot be negative: " + annotation.timeout());
+        }
+        if (annotation.pageSize() < 0) {
+            throw new MappingException("The page size cannot be negative: " + annotation.pageSize());
+        }
+        return new StatementOptions(annotation.value().isBlank() ? null : annotation.value(),
+                annotation.consistency().get(),
+                annotation.timeout() == 0 ? null : Duration.ofMillis(annotation.timeout()),
+                annotation.pageSize(), annotation.idempotent().get());
+    }
+
+    @Override
+    public Statement<?> apply(Statement<?> statement) {
+        Statement<?> result = statement;
+        if (profile != null) {
+            result = result.setExecutionProfileName(profile);
+        }
+        if (level != null) {
+            result = result.setConsistencyLevel(level);
+        }
+        if (timeout != null) {
+            result = result.setTimeout(timeout);
+        }
+        if (pageSize > 0) {
+            result = result.setPageSize(pageSize);
+        }
+        if (idempotent != null) {
+            result = result.setIdempotent(idempotent);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementOptions{" +
+                "profile='" + profile + '\'' +
+                ", level=" + level +
+                ", timeout=" + timeout +
+                ", pageSize=" + pageSize +
+                ", idempotent=" + idempotent +
+                '}';
+    }
+}
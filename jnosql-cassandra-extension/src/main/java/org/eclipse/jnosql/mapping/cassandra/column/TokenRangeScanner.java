@@ -0,0 +1,316 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
+import jakarta.nosql.mapping.MappingException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+/**
+ * Reads a whole table splitting the token ring in sub-ranges, each one a query restricted by the token of the
+ * partition key, and running the queries at the same time in a fixed number of threads.
+ * The threads convert the rows and hand them to a bounded queue, so a consumer slower than the cluster holds
+ * the reading instead of buffering the table in memory. When the queue stays full longer than the consumer
+ * timeout the stream is taken as abandoned and the reading stops, so the threads are not blocked forever.
+ */
+final class TokenRangeScanner {
+
+    static final int QUEUE_CAPACITY = 1_024;
+
+    static final Duration CONSUMER_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final long POLL_MILLIS = 100;
+
+    private static final Logger LOGGER = Logger.getLogger(TokenRangeScanner.class.getName());
+
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private TokenRangeScanner() {
+    }
+
+    /**
+     * Creates one statement to each sub-range of the token ring, at least parallelism sub-ranges when the ring
+     * has fewer ranges than that.
+     *
+     * @param session     the session
+     * @param table       the table name
+     * @param parallelism the number of queries at the same time
+     * @param statements  the cache of prepared statements
+     * @return the statements that together read the whole table
+     * @throws MappingException when the driver does not have the token metadata or the table does not exist
+     */
+    static List<Statement<?>> statements(CqlSession session, String table, int parallelism,
+                                         PreparedStatementCache statements) {
+        TokenMap tokenMap = session.getMetadata().getTokenMap()
+                .orElseThrow(() -> new MappingException("The driver token metadata is not available, " +
+                        "check the configuration advanced.metadata.token-map.enabled"));
+        String[] partitionKey = partitionKey(session, table);
+        List<TokenRange> ranges = new ArrayList<>(tokenMap.getTokenRanges());
+        int splits = Math.max(1, (int) Math.ceil((double) parallelism / Math.max(1, ranges.size())));
+        List<Statement<?>> result = new ArrayList<>();
+        for (TokenRange range : ranges) {
+            List<TokenRange> subRanges = splits > 1 && !range.getStart().equals(range.getEnd())
+                    ? range.splitEvenly(splits) : List.of(range);
+            for (TokenRange subRange : subRanges) {
+                for (TokenRange unwrapped : subRange.unwrap()) {
+                    result.add(statement(unwrapped, table, partitionKey, session, statements));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Executes the statements, at most parallelism at the same time, and merges the result.
+     * The order of the result is not defined. Closing the stream stops the reading, and so does a consumer
+     * that does not read for {@link #CONSUMER_TIMEOUT}.
+     *
+     * @param statements  the statements
+     * @param session     the session
+     * @param mapper      creates the function that converts the rows of a statement, it runs in the reading
+     *                    threads
+     * @param parallelism the number of statements at the same time
+     * @param <T>         the entity type
+     * @return the stream of the merged result
+     */
+    static <T> Stream<T> scan(List<Statement<?>> statements, CqlSession session,
+                              Supplier<Function<Row, T>> mapper, int parallelism) {
+        return scan(statements, session, mapper, parallelism, CONSUMER_TIMEOUT);
+    }
+
+    static <T> Stream<T> scan(List<Statement<?>> statements, CqlSession session,
+                              Supplier<Function<Row, T>> mapper, int parallelism, Duration consumerTimeout) {
+        Objects.requireNonNull(statements, "statements is required");
+        Objects.requireNonNull(session, "session is required");
+        Objects.requireNonNull(mapper, "mapper is required");
+        Objects.requireNonNull(consumerTimeout, "consumerTimeout is required");
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism,
+                Math.max(1, statements.size())), runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-cassandra-scan-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ScanIterator<T> iterator = new ScanIterator<>(statements.size(), executor, consumerTimeout);
+        for (Statement<?> statement : statements) {
+            executor.execute(() -> read(statement, session, mapper, iterator));
+        }
+        executor.shutdown();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    private static <T> void read(Statement<?> statement, CqlSession session, Supplier<Function<Row, T>> mappers,
+                                 ScanIterator<T> iterator) {
+        try {
+            try {
+                Function<Row, T> mapper = mappers.get();
+                for (Row row : session.execute(statement)) {
+                    if (!iterator.put(Element.of(mapper.apply(row)))) {
+                        return;
+                    }
+                }
+                iterator.put(Element.end());
+            } catch (RuntimeException exception) {
+                iterator.put(Element.failure(exception));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Statement<?> statement(TokenRange range, String table, String[] partitionKey,
+                                          CqlSession session, PreparedStatementCache statements) {
+        Token start = range.getStart();
+        Token end = range.getEnd();
+        Select select = QueryBuilder.selectFrom(CassandraStatements.keyspace(session), CqlIdentifier.fromCql(table)).all();
+        if (start.equals(end)) {
+            return prepare(select, session, statements).bind();
+        }
+        select = select.where(Relation.token(partitionKey).isGreaterThan(bindMarker()));
+        if (start.compareTo(end) > 0) {
+            return prepare(select, session, statements).bind().setToken(0, start);
+        }
+        select = select.where(Relation.token(partitionKey).isLessThanOrEqualTo(bindMarker()));
+        BoundStatement bound = prepare(select, session, statements).bind();
+        return bound.setToken(0, start).setToken(1, end);
+    }
+
+    private static PreparedStatement prepare(Select select, CqlSession session,
+                                             PreparedStatementCache statements) {
+        return statements.get(select.asCql(), session::prepare);
+    }
+
+    private static String[] partitionKey(CqlSession session, String table) {
+        CqlIdentifier keyspace = session.getKeyspace()
+                .orElseThrow(() -> new MappingException("The session must be connected to a keyspace"));
+        List<String> columns = session.getMetadata().getKeyspace(keyspace)
+                .flatMap(k -> k.getTable(table))
+                .orElseThrow(() -> new MappingException("The table does not exist: " + table))
+                .getPartitionKey()
+                .stream()
+                .map(ColumnMetadata::getName)
+                .map(CqlIdentifier::asInternal)
+                .collect(Collectors.toList());
+        return columns.toArray(new String[0]);
+    }
+
+    private static final class Element<T> {
+
+        private final T value;
+
+        private final RuntimeException failure;
+
+        private final boolean end;
+
+        private Element(T value, RuntimeException failure, boolean end) {
+            this.value = value;
+            this.failure = failure;
+            this.end = end;
+        }
+
+        private static <T> Element<T> of(T value) {
+            return new Element<>(Objects.requireNonNull(value, "the row was mapped to null"), null, false);
+        }
+
+        private static <T> Element<T> failure(RuntimeException failure) {
+            return new Element<>(null, failure, false);
+        }
+
+        private static <T> Element<T> end() {
+            return new Element<>(null, null, true);
+        }
+    }
+
+    private static final class ScanIterator<T> implements Iterator<T> {
+
+        private final BlockingQueue<Element<T>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+        private final ExecutorService executor;
+
+        private final Duration consumerTimeout;
+
+        private volatile boolean closed;
+
+        private int remaining;
+
+        private T next;
+
+        private ScanIterator(int remaining, ExecutorService executor, Duration consumerTimeout) {
+            this.remaining = remaining;
+            this.executor = executor;
+            this.consumerTimeout = consumerTimeout;
+        }
+
+        private boolean put(Element<T> element) throws InterruptedException {
+            if (closed) {
+                return false;
+            }
+            if (queue.offer(element, consumerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+            if (!closed) {
+                LOGGER.warning("The token range scan stopped, the stream was not read for " + consumerTimeout
+                        + ", close the stream when it is not read until the end");
+                close();
+            }
+            return false;
+        }
+
+        private void close() {
+            closed = true;
+            executor.shutdownNow();
+            queue.clear();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            try {
+                while (remaining > 0) {
+                    Element<T> element = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (element == null) {
+                        if (closed) {
+                            remaining = 0;
+                            throw new MappingException("The token range scan was stopped before the end");
+                        }
+                    } else if (element.failure != null) {
+                        remaining = 0;
+                        close();
+                        throw element.failure;
+                    } else if (element.end) {
+                        remaining--;
+                    } else {
+                        next = element.value;
+                        return true;
+                    }
+                }
+                return false;
+            } catch (InterruptedException exception) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new MappingException("The scan was interrupted", exception);
+            }
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = next;
+            next = null;
+            return element;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.converters;
+
+import jakarta.nosql.mapping.AttributeConverter;
+
+import java.time.Instant;
+
+/**
+ * The converter when the Cassandra type is timestamp and the attribute is a long with the milliseconds since
+ * the epoch. The value becomes the {@link Instant} of the driver timestamp codec, and the read returns the
+ * milliseconds instead of a {@link java.util.Date}.
+ */
+public class EpochMilliConverter implements AttributeConverter<Long, Instant> {
+
+    @Override
+    public Instant convertToDatabaseColumn(Long attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return Instant.ofEpochMilli(attribute);
+    }
+
+    @Override
+    public Long convertToEntityAttribute(Instant dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return dbData.toEpochMilli();
+    }
+}
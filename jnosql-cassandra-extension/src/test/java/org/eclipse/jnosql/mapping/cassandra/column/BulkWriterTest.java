@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BulkWriterTest {
+
+    @Test
+    public void shouldReturnErrorWhenLimitIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BulkWriter(0));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        BulkWriter writer = new BulkWriter(2);
+        Assertions.assertThrows(NullPointerException.class, () -> writer.write(null, CompletableFuture::completedFuture));
+        Assertions.assertThrows(NullPointerException.class, () -> writer.write(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void shouldKeepInputOrder() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BulkWriter writer = new BulkWriter(4);
+            List<Integer> values = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+            List<Integer> result = writer.write(values, v -> CompletableFuture.supplyAsync(() -> {
+                sleep((100 - v) % 7);
+                return v;
+            }, executor));
+            assertEquals(values, result);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldLimitWritesInFlight() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            BulkWriter writer = new BulkWriter(3);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maximum = new AtomicInteger();
+            writer.write(IntStream.range(0, 50).boxed().collect(Collectors.toList()), v -> {
+                maximum.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    sleep(1);
+                    inFlight.decrementAndGet();
+                    return v;
+                }, executor);
+            });
+            assertThat(maximum.get()).isLessThanOrEqualTo(3);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldCollectFailuresByPosition() {
+        BulkWriter writer = new BulkWriter(2);
+        IllegalStateException error = new IllegalStateException("error");
+        List<String> values = Arrays.asList("a", "b", "c", "d");
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> writer.write(values, v -> write(v, error)));
+
+        assertThat(exception.getEntities()).containsExactly("a", null, "c", null);
+        assertThat(exception.getFailures()).containsOnlyKeys(1, 3);
+        assertEquals(error, exception.getFailures().get(1));
+        assertEquals(error, exception.getCause());
+    }
+
+    @Test
+    public void shouldCollectFailureThrownWhenStarting() {
+        BulkWriter writer = new BulkWriter(2);
+        List<String> values = new ArrayList<>(Arrays.asList("a", "b"));
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> writer.write(values, v -> {
+                    if ("a".equals(v)) {
+                        throw new IllegalArgumentException("invalid");
+                    }
+                    return CompletableFuture.completedFuture(v);
+                }));
+        assertThat(exception.getEntities()).containsExactly(null, "b");
+        assertThat(exception.getFailures().get(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CompletionStage<String> write(String value, RuntimeException error) {
+        if ("b".equals(value)) {
+            return CompletableFuture.failedFuture(error);
+        }
+        if ("d".equals(value)) {
+            return CompletableFuture.<String>completedFuture(value).thenApply(v -> {
+                throw new CompletionException(error);
+            });
+        }
+        return CompletableFuture.completedFuture(value);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import jakarta.nosql.mapping.MappingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CQLPreparerTest {
+
+    private CqlSession session;
+
+    private PreparedStatementCache statements;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        this.statements = new PreparedStatementCache(10);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> CQLPreparer.prepare(null, session, statements));
+        Assertions.assertThrows(NullPointerException.class, () -> CQLPreparer.prepare(Map.of(), null, statements));
+        Assertions.assertThrows(NullPointerException.class, () -> CQLPreparer.prepare(Map.of(), session, null));
+    }
+
+    @Test
+    public void shouldPrepareEveryQuery() {
+        PreparedStatement findAll = mock(PreparedStatement.class);
+        PreparedStatement findByName = mock(PreparedStatement.class);
+        when(session.prepareAsync("select * from Person")).thenReturn(CompletableFuture.completedFuture(findAll));
+        when(session.prepareAsync("select * from Person where name = ?"))
+                .thenReturn(CompletableFuture.completedFuture(findByName));
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put("select * from Person", "PersonRepository#findAll");
+        queries.put("select * from Person where name = ?", "PersonRepository#findByName");
+
+        CQLPreparer.prepare(queries, session, statements).join();
+
+        assertEquals(2, statements.size());
+        assertEquals(findByName, statements.get("select * from Person where name = ?", q -> {
+            throw new IllegalStateException("the query should be prepared");
+        }));
+        verify(session).prepareAsync("select * from Person");
+    }
+
+    @Test
+    public void shouldReturnEveryInvalidQuery() {
+        when(session.prepareAsync("select * from Person"))
+                .thenReturn(CompletableFuture.completedFuture(mock(PreparedStatement.class)));
+        when(session.prepareAsync("select * frm Person"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("line 1:9 no viable alternative")));
+        when(session.prepareAsync("select * from Unknown"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("unconfigured table unknown")));
+        Map<String, String> queries = new LinkedHashMap<>();
+        queries.put("select * from Person", "PersonRepository#findAll");
+        queries.put("select * frm Person", "PersonRepository#findByName");
+        queries.put("select * from Unknown", "PersonRepository#findUnknown");
+
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> CQLPreparer.prepare(queries, session, statements).join());
+
+        assertThat(exception.getCause()).isInstanceOf(MappingException.class)
+                .hasMessageContaining("PersonRepository#findByName \"select * frm Person\": line 1:9")
+                .hasMessageContaining("PersonRepository#findUnknown \"select * from Unknown\": unconfigured table");
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldObtainTheSessionInTheBackground() {
+        when(session.prepareAsync("select * from Person"))
+                .thenReturn(CompletableFuture.completedFuture(mock(PreparedStatement.class)));
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        CQLPreparer.prepareInBackground(Map.of("select * from Person", "PersonRepository#findAll"), () -> {
+            thread.set(Thread.currentThread());
+            return session;
+        }, statements).join();
+
+        assertThat(thread.get()).isNotEqualTo(Thread.currentThread());
+        assertEquals("jnosql-cassandra-cql-preparation", thread.get().getName());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldReturnTheSessionErrorInTheBackground() {
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> CQLPreparer.prepareInBackground(Map.of("select * from Person", "PersonRepository#findAll"),
+                        () -> {
+                            throw new IllegalStateException("no node was available");
+                        }, statements).join());
+
+        assertThat(exception.getCause()).isInstanceOf(IllegalStateException.class);
+        assertEquals(0, statements.size());
+    }
+}
@@ -53,6 +53,7 @@ import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @CDIExtension
@@ -365,6 +366,32 @@ public class CassandraColumnEntityConverterTest {
 
     }
 
+    @Test
+    public void shouldSupportUDTToEntityInAnyColumnOrder() {
+        UDT udt = UDT.builder("address").withName("home")
+                .addUDT(asList(Column.of("city", "Salvador"), Column.of("street", "Jose Anasoh"))).build();
+        ColumnEntity entity = ColumnEntity.of("Person", asList(udt, Column.of("age", 20),
+                Column.of("name", "Poliana")));
+
+        Person person = converter.toEntity(entity);
+        assertEquals("Poliana", person.getName());
+        assertEquals(Integer.valueOf(20), person.getAge());
+        assertEquals("Salvador", person.getHome().getCity());
+
+        Person again = converter.toEntity(entity);
+        assertEquals(person, again);
+        assertEquals("Jose Anasoh", again.getHome().getStreet());
+    }
+
+    @Test
+    public void shouldIgnoreUDTFieldWhenColumnIsNotUDT() {
+        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Poliana"),
+                Column.of("home", "Salvador")));
+        Person person = converter.toEntity(entity);
+        assertEquals("Poliana", person.getName());
+        assertNull(person.getHome());
+    }
+
     private Object getValue(Optional<Column> document) {
         return document.map(Column::getValue).map(Value::get).orElse(null);
     }
@@ -14,9 +14,14 @@
  */
 package org.eclipse.jnosql.mapping.cassandra.column;
 
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.mapping.column.ColumnRepositoryProducer;
 import jakarta.nosql.tck.test.CDIExtension;
+import org.eclipse.jnosql.mapping.cassandra.column.ExecutionProfile.Consistency;
+import org.eclipse.jnosql.mapping.cassandra.column.ExecutionProfile.Idempotence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -27,6 +32,7 @@ import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -74,7 +80,7 @@ public class CassandraRepositoryProxyTest {
     @Test
     public void shouldFindAll() {
         personRepository.findAll();
-        verify(template).cql("select * from Person");
+        verify(template).cql("select * from Person", new Object[0]);
     }
 
     @Test
@@ -85,14 +91,47 @@ public class CassandraRepositoryProxyTest {
 
     @Test
     public void shouldFindByName2CQL() {
-        ArgumentCaptor<Map> captor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
 
         personRepository.findByName2("Ada");
-        verify(template).cql(Mockito.eq("select * from Person where name = :name"), captor.capture());
-        Map map = captor.getValue();
+        verify(template).cql(Mockito.eq("select * from Person where name = :name"),
+                Mockito.<UnaryOperator<Statement<?>>>any(), captor.capture());
+        Map<String, Object> map = captor.getValue();
         assertEquals("Ada", map.get("name"));
     }
 
+    @Test
+    public void shouldApplyExecutionProfile() {
+        personRepository.findByAge(10);
+        ArgumentCaptor<UnaryOperator<Statement<?>>> captor = ArgumentCaptor.forClass(UnaryOperator.class);
+        verify(template).cql(Mockito.eq("select * from Person where age = ?"), captor.capture(), Mockito.eq(10));
+        Statement<?> statement = captor.getValue().apply(SimpleStatement.newInstance("select * from Person"));
+        assertEquals(DefaultConsistencyLevel.LOCAL_QUORUM, statement.getConsistencyLevel());
+        assertEquals(Duration.ofMillis(200), statement.getTimeout());
+        assertEquals(10, statement.getPageSize());
+        assertEquals(Boolean.TRUE, statement.isIdempotent());
+        assertEquals("fast-read", statement.getExecutionProfileName());
+    }
+
+    @Test
+    public void shouldApplyExecutionProfileWithoutParams() {
+        ArgumentCaptor<UnaryOperator<Statement<?>>> captor = ArgumentCaptor.forClass(UnaryOperator.class);
+        personRepository.findAllBatch();
+        verify(template).cql(Mockito.eq("select * from Person"), captor.capture());
+        Statement<?> statement = captor.getValue().apply(SimpleStatement.newInstance("select * from Person"));
+        assertEquals(5000, statement.getPageSize());
+    }
+
+    @Test
+    public void shouldApplyExecutionProfileWithNamedParams() {
+        ArgumentCaptor<UnaryOperator<Statement<?>>> captor = ArgumentCaptor.forClass(UnaryOperator.class);
+        personRepository.findByName3("Ada");
+        verify(template).cql(Mockito.eq("select * from Person where name = :name"), captor.capture(),
+                Mockito.eq(Map.<String, Object>of("name", "Ada")));
+        Statement<?> statement = captor.getValue().apply(SimpleStatement.newInstance("select * from Person"));
+        assertEquals(DefaultConsistencyLevel.ONE, statement.getConsistencyLevel());
+    }
+
     interface PersonRepository extends CassandraRepository<Person, String> {
 
         void deleteByName(String namel);
@@ -105,6 +144,19 @@ public class CassandraRepositoryProxyTest {
 
         @CQL("select * from Person where name = :name")
         List<Person> findByName2(@Param("name") String name);
+
+        @CQL("select * from Person where age = ?")
+        @ExecutionProfile(value = "fast-read", consistency = Consistency.LOCAL_QUORUM, timeout = 200,
+                pageSize = 10, idempotent = Idempotence.TRUE)
+        List<Person> findByAge(Integer age);
+
+        @CQL("select * from Person")
+        @ExecutionProfile(pageSize = 5000)
+        List<Person> findAllBatch();
+
+        @CQL("select * from Person where name = :name")
+        @ExecutionProfile(consistency = Consistency.ONE)
+        List<Person> findByName3(@Param("name") String name);
     }
 
 }
\ No newline at end of file
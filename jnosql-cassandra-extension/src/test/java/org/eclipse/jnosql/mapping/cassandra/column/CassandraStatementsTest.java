@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class CassandraStatementsTest {
+
+    private final CqlSession session = mock(CqlSession.class);
+
+    @Test
+    public void shouldCreateInsert() {
+        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Ada"), Column.of("age", 20)));
+        SimpleStatement statement = CassandraStatements.insert(entity, null, session);
+        assertEquals("INSERT INTO person (name,age) VALUES (?,?)", statement.getQuery());
+        assertThat(statement.getPositionalValues()).containsExactly("Ada", 20);
+    }
+
+    @Test
+    public void shouldCreateInsertWithTTL() {
+        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Ada"), Column.of("age", 20)));
+        SimpleStatement statement = CassandraStatements.insert(entity, Duration.ofSeconds(10), session);
+        assertEquals("INSERT INTO person (name,age) VALUES (?,?) USING TTL 10", statement.getQuery());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenInsertEmptyEntity() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CassandraStatements.insert(ColumnEntity.of("Person"), null, session));
+    }
+
+    @Test
+    public void shouldCreateSelect() {
+        ColumnQuery query = ColumnQuery.select().from("Person")
+                .where("name").eq("Ada")
+                .and("age").in(Arrays.asList(10, 20))
+                .limit(3)
+                .build();
+        SimpleStatement statement = CassandraStatements.select(query);
+        assertEquals("SELECT * FROM person WHERE name=? AND age IN ? LIMIT 3", statement.getQuery());
+        assertThat(statement.getPositionalValues()).containsExactly("Ada", Arrays.asList(10, 20));
+    }
+
+    @Test
+    public void shouldCreateSelectWithLike() {
+        ColumnQuery query = ColumnQuery.select().from("Person")
+                .where("name").like("Ad%")
+                .build();
+        SimpleStatement statement = CassandraStatements.select(query);
+        assertEquals("SELECT * FROM person WHERE name LIKE ?", statement.getQuery());
+        assertThat(statement.getPositionalValues()).containsExactly("Ad%");
+    }
+
+    @Test
+    public void shouldReturnErrorWhenConditionIsNotSupported() {
+        ColumnQuery query = ColumnQuery.select().from("Person")
+                .where("name").eq("Ada")
+                .or("age").eq(10)
+                .build();
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> CassandraStatements.select(query));
+    }
+
+    @Test
+    public void shouldCreateDelete() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.delete("age").from("Person")
+                .where("name").eq("Ada")
+                .build();
+        SimpleStatement statement = CassandraStatements.delete(query);
+        assertEquals("DELETE age FROM person WHERE name=?", statement.getQuery());
+        assertThat(statement.getPositionalValues()).containsExactly("Ada");
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CounterAccumulatorTest {
+
+    private CqlSession session;
+
+    private Map<String, List<List<Object>>> executions;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        this.executions = new ConcurrentHashMap<>();
+        when(session.prepare(anyString())).thenAnswer(i -> {
+            String query = i.getArgument(0);
+            PreparedStatement prepared = mock(PreparedStatement.class);
+            when(prepared.bind(any())).thenAnswer(b -> {
+                executions.computeIfAbsent(query, q -> new ArrayList<>()).add(Arrays.asList(b.getArguments()));
+                return mock(BoundStatement.class);
+            });
+            return prepared;
+        });
+        when(session.executeAsync(any(BoundStatement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CounterAccumulator(() -> session,
+                new PreparedStatementCache(10), new BulkWriter(2), Duration.ZERO, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new CounterAccumulator(() -> session,
+                new PreparedStatementCache(10), new BulkWriter(2), Duration.ofSeconds(1), 0));
+        CounterAccumulator accumulator = accumulator(10);
+        Assertions.assertThrows(NullPointerException.class, () -> accumulator.increment(null, Map.of("id", 1), "views", 1));
+        Assertions.assertThrows(NullPointerException.class, () -> accumulator.increment("page", null, "views", 1));
+        Assertions.assertThrows(NullPointerException.class, () -> accumulator.increment("page", Map.of("id", 1), null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accumulator.increment("page", Map.of(), "views", 1));
+    }
+
+    @Test
+    public void shouldCoalesceByRow() {
+        CounterAccumulator accumulator = accumulator(10);
+        for (int index = 0; index < 100; index++) {
+            accumulator.increment("page", Map.of("id", "home"), "views", 1);
+        }
+        accumulator.increment("page", Map.of("id", "about"), "views", 2);
+        accumulator.increment("page", Map.of("id", "about"), "views", -1);
+        assertEquals(2, accumulator.getPendingRows());
+        assertEquals(2, accumulator.flush());
+        List<List<Object>> values = executions.get("UPDATE page SET views=views+? WHERE id=?");
+        assertThat(values).containsExactlyInAnyOrder(List.of(100L, "home"), List.of(1L, "about"));
+    }
+
+    @Test
+    public void shouldWriteTheCountersOfARowTogether() {
+        CounterAccumulator accumulator = accumulator(10);
+        accumulator.increment("page", Map.of("id", "home"), "views", 3);
+        accumulator.increment("page", Map.of("id", "home"), "clicks", 1);
+        assertEquals(1, accumulator.flush());
+        assertThat(executions).hasSize(1);
+        List<Object> values = executions.values().iterator().next().get(0);
+        assertThat(values).hasSize(3).endsWith("home").contains(3L, 1L);
+    }
+
+    @Test
+    public void shouldNotWriteWhenThereIsNoIncrement() {
+        CounterAccumulator accumulator = accumulator(10);
+        accumulator.increment("page", Map.of("id", "home"), "views", 1);
+        accumulator.flush();
+        assertEquals(0, accumulator.getPendingRows());
+        assertEquals(0, accumulator.flush());
+        accumulator.increment("page", Map.of("id", "home"), "views", 0);
+        assertEquals(0, accumulator.flush());
+    }
+
+    @Test
+    public void shouldFlushEveryIncrementWhileTheThreadsIncrement() throws InterruptedException {
+        CounterAccumulator accumulator = accumulator(10);
+        int threads = 8;
+        int increments = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean incrementing = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            executor.execute(() -> {
+                while (incrementing.get()) {
+                    accumulator.flush();
+                }
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                String page = "page-" + thread % 2;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int index = 0; index < increments; index++) {
+                        accumulator.increment("page", Map.of("id", page), index % 2 == 0 ? "views" : "clicks", 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } catch (ExecutionException | TimeoutException exception) {
+            throw new AssertionError(exception);
+        } finally {
+            incrementing.set(false);
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        accumulator.flush();
+        long total = executions.values().stream().flatMap(List::stream)
+                .mapToLong(v -> v.subList(0, v.size() - 1).stream().mapToLong(Long.class::cast).sum())
+                .sum();
+        assertEquals((long) threads * increments, total);
+        assertEquals(0, accumulator.getPendingRows());
+    }
+
+    @Test
+    public void shouldNotLoseConcurrentIncrements() throws InterruptedException {
+        CounterAccumulator accumulator = accumulator(10);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int thread = 0; thread < 4; thread++) {
+                executor.execute(() -> {
+                    for (int index = 0; index < 10_000; index++) {
+                        accumulator.increment("page", Map.of("id", "home"), "views", 1);
+                        if (index % 1_000 == 0) {
+                            accumulator.flush();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        accumulator.flush();
+        long total = executions.get("UPDATE page SET views=views+? WHERE id=?").stream()
+                .mapToLong(v -> (Long) v.get(0)).sum();
+        assertEquals(40_000L, total);
+    }
+
+    @Test
+    public void shouldFlushOnClose() {
+        CounterAccumulator accumulator = accumulator(10);
+        accumulator.increment("page", Map.of("id", "home"), "views", 1);
+        accumulator.close();
+        assertThat(executions).hasSize(1);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> accumulator.increment("page", Map.of("id", "home"), "views", 1));
+    }
+
+    @Test
+    public void shouldKeepTheDeltasOfAFailedUpdate() {
+        CounterAccumulator accumulator = accumulator(10);
+        IllegalStateException error = new IllegalStateException("unavailable");
+        when(session.executeAsync(any(BoundStatement.class)))
+                .thenReturn(CompletableFuture.failedFuture(error))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        accumulator.increment("page", Map.of("id", "home"), "views", 3);
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class, accumulator::flush);
+        assertEquals(error, exception.getFailures().get(0));
+        assertEquals(1, accumulator.getPendingRows());
+
+        accumulator.increment("page", Map.of("id", "home"), "views", 2);
+        assertEquals(1, accumulator.flush());
+        List<List<Object>> values = executions.get("UPDATE page SET views=views+? WHERE id=?");
+        assertThat(values).containsExactly(List.of(3L, "home"), List.of(5L, "home"));
+    }
+
+    @Test
+    public void shouldFlushBeforeTheSessionCloses() {
+        CqlSession current = session;
+        CounterAccumulator accumulator = new CounterAccumulator(() -> {
+            throw new IllegalStateException("the session is being destroyed");
+        }, new PreparedStatementCache(10), new BulkWriter(2), Duration.ofMinutes(1), 10);
+        accumulator.increment("page", Map.of("id", "home"), "views", 1);
+        accumulator.onSessionClosing(new SessionClosing(current));
+        assertThat(executions).hasSize(1);
+        assertEquals(0, accumulator.getPendingRows());
+        accumulator.close();
+    }
+
+    @Test
+    public void shouldFlushWhenThereAreTooManyRows() throws InterruptedException {
+        CounterAccumulator accumulator = accumulator(2);
+        accumulator.increment("page", Map.of("id", "a"), "views", 1);
+        accumulator.increment("page", Map.of("id", "b"), "views", 1);
+        verify(session, never()).executeAsync(any(BoundStatement.class));
+        accumulator.increment("page", Map.of("id", "c"), "views", 1);
+        for (int attempt = 0; attempt < 100 && accumulator.getPendingRows() > 0; attempt++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertEquals(0, accumulator.getPendingRows());
+        accumulator.close();
+    }
+
+    private CounterAccumulator accumulator(int maximumRows) {
+        return new CounterAccumulator(() -> session, new PreparedStatementCache(10), new BulkWriter(2),
+                Duration.ofMinutes(1), maximumRows);
+    }
+}
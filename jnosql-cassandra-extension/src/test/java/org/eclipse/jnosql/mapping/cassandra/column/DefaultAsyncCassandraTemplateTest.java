@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.column.ColumnEventPersistManager;
+import jakarta.nosql.tck.test.CDIExtension;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@CDIExtension
+public class DefaultAsyncCassandraTemplateTest {
+
+    @Inject
+    private CassandraColumnEntityConverter converter;
+
+    @Inject
+    private ColumnEventPersistManager persistManager;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    private AsyncCassandraTemplate template;
+
+    private CqlSession session;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        Instance instance = mock(Instance.class);
+        when(instance.get()).thenReturn(session);
+        AsyncResultSet empty = resultSet(Collections.emptyList());
+        when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(CompletableFuture.completedFuture(empty));
+        template = new DefaultAsyncCassandraTemplate(instance, converter, persistManager,
+                new PreparedStatementCache(10), new EntityRowMapper(entities, converter, false),
+                new LookupTableStatements(entities));
+    }
+
+    @Test
+    public void shouldSave() {
+        Person person = new Person("Ada", 20);
+        Person result = template.save(person, ConsistencyLevel.ONE).toCompletableFuture().join();
+        assertEquals(person, result);
+
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(captor.capture());
+        SimpleStatement statement = (SimpleStatement) captor.getValue();
+        assertThat(statement.getQuery()).startsWith("INSERT INTO person");
+        assertEquals(ConsistencyLevel.ONE, statement.getConsistencyLevel());
+    }
+
+    @Test
+    public void shouldSaveTTL() {
+        Person person = new Person("Ada", 20);
+        template.save(person, Duration.ofSeconds(10), ConsistencyLevel.ONE).toCompletableFuture().join();
+
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(captor.capture());
+        SimpleStatement statement = (SimpleStatement) captor.getValue();
+        assertThat(statement.getQuery()).endsWith("USING TTL 10");
+    }
+
+    @Test
+    public void shouldDelete() {
+        ColumnDeleteQuery query = ColumnDeleteQuery.delete().from("Person").where("name").eq("Ada").build();
+        template.delete(query, ConsistencyLevel.THREE).toCompletableFuture().join();
+
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(captor.capture());
+        SimpleStatement statement = (SimpleStatement) captor.getValue();
+        assertEquals("DELETE FROM person WHERE name=?", statement.getQuery());
+        assertEquals(ConsistencyLevel.THREE, statement.getConsistencyLevel());
+    }
+
+    @Test
+    public void shouldFind() {
+        AsyncResultSet resultSet = resultSet(Collections.singletonList(row("Person", "name", "Ada")));
+        when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(CompletableFuture.completedFuture(resultSet));
+        ColumnQuery query = ColumnQuery.select().from("Person").where("name").eq("Ada").build();
+
+        List<Person> people = template.<Person>find(query, ConsistencyLevel.ONE).toCompletableFuture().join();
+        assertThat(people).containsExactly(new Person("Ada", null));
+    }
+
+    @Test
+    public void shouldSkipRowsAcrossPages() {
+        AsyncResultSet last = resultSet(Collections.singletonList(row("Person", "name", "Poliana")));
+        AsyncResultSet first = resultSet(Collections.singletonList(row("Person", "name", "Ada")));
+        when(first.hasMorePages()).thenReturn(true);
+        when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+        when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(CompletableFuture.completedFuture(first));
+        ColumnQuery query = ColumnQuery.select().from("Person").skip(1).build();
+
+        List<Person> people = template.<Person>find(query, ConsistencyLevel.ONE).toCompletableFuture().join();
+        assertThat(people).containsExactly(new Person("Poliana", null));
+    }
+
+    @Test
+    public void shouldReturnFailedStageWhenTheStatementCannotBeBuilt() {
+        ColumnQuery query = ColumnQuery.select().from("Person").where("name").eq("Ada").or("age").eq(20).build();
+
+        CompletableFuture<List<Person>> people = template.<Person>find(query, ConsistencyLevel.ONE)
+                .toCompletableFuture();
+
+        assertTrue(people.isCompletedExceptionally());
+        CompletionException exception = assertThrows(CompletionException.class, people::join);
+        assertThat(exception.getCause()).isInstanceOf(UnsupportedOperationException.class);
+        verify(session, Mockito.never()).executeAsync(Mockito.any(Statement.class));
+    }
+
+    @Test
+    public void shouldFindCQLFetchingEveryPage() {
+        AsyncResultSet last = resultSet(Collections.singletonList(row("Person", "name", "Poliana")));
+        AsyncResultSet first = resultSet(Collections.singletonList(row("Person", "name", "Ada")));
+        when(first.hasMorePages()).thenReturn(true);
+        when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+        when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(CompletableFuture.completedFuture(first));
+
+        List<Person> people = template.<Person>cql("select * from Person").toCompletableFuture().join();
+        assertThat(people).containsExactly(new Person("Ada", null), new Person("Poliana", null));
+    }
+
+    @Test
+    public void shouldPrepareCQLAsync() {
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        when(prepared.bind("Ada")).thenReturn(bound);
+        when(session.prepareAsync("select * from Person where name = ?"))
+                .thenReturn(CompletableFuture.completedFuture(prepared));
+
+        List<Person> people = template.<Person>cql("select * from Person where name = ?", "Ada")
+                .toCompletableFuture().join();
+
+        assertThat(people).isEmpty();
+        verify(session).executeAsync(bound);
+        verify(session, Mockito.never()).prepare(Mockito.anyString());
+    }
+
+    private AsyncResultSet resultSet(List<Row> rows) {
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        when(resultSet.currentPage()).thenReturn(rows);
+        return resultSet;
+    }
+
+    private Row row(String table, String name, Object value) {
+        ColumnDefinition definition = mock(ColumnDefinition.class);
+        when(definition.getTable()).thenReturn(CqlIdentifier.fromInternal(table));
+        when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.size()).thenReturn(1);
+        when(definitions.get(0)).thenReturn(definition);
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        when(row.getObject(0)).thenReturn(value);
+        return row;
+    }
+}
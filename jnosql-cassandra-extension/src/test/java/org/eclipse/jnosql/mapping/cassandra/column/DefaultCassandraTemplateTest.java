@@ -15,27 +15,49 @@
 package org.eclipse.jnosql.mapping.cassandra.column;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnQuery;
 import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.MappingException;
 import jakarta.nosql.mapping.column.ColumnEventPersistManager;
 import jakarta.nosql.tck.test.CDIExtension;
 import org.eclipse.jnosql.communication.cassandra.column.CassandraColumnManager;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -43,6 +65,7 @@ import static jakarta.nosql.column.ColumnQuery.select;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -69,12 +92,24 @@ public class DefaultCassandraTemplateTest {
 
     private CassandraColumnManager manager;
 
+    private CqlSession session;
+
+    private PreparedStatementCache statements;
+
     @BeforeEach
     public void setUp() {
         this.manager = mock(CassandraColumnManager.class);
+        this.session = mock(CqlSession.class);
+        this.statements = new PreparedStatementCache(10);
         Instance instance = mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        template = new DefaultCassandraTemplate(instance, converter, flow, persistManager, entities, converters);
+        Instance sessionInstance = mock(Instance.class);
+        when(sessionInstance.get()).thenReturn(session);
+        template = new DefaultCassandraTemplate(instance, converter, flow, persistManager, entities, converters,
+                sessionInstance, statements, new PartitionBatches(10, 5 * 1024), new BulkWriter(2),
+                new EntityRowMapper(entities, converter, false), new QueryMetrics(false, null, List.of()),
+                new RoutingKeys(), new PartitionDeletes(new RoutingKeys(), 20),
+                new LookupTableStatements(entities));
     }
 
     @Test
@@ -101,23 +136,20 @@ public class DefaultCassandraTemplateTest {
 
     @Test
     public void shouldSaveConsistencyIterable() {
-        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Name"), Column.of("age", 20)));
-
-        ArgumentCaptor<ColumnEntity> captor = ArgumentCaptor.forClass(ColumnEntity.class);
-
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
         ConsistencyLevel level = ConsistencyLevel.THREE;
 
-        when(manager.
-                save(Mockito.any(ColumnEntity.class), Mockito.eq(level)))
-                .thenReturn(entity);
-
         Person person = new Person();
         person.setName("Name");
         person.setAge(20);
         assertThat(template.save(Collections.singletonList(person), level)).contains(person);
-        Mockito.verify(manager).save(captor.capture(), Mockito.eq(level));
-        assertEquals(entity, captor.getValue());
 
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(captor.capture());
+        SimpleStatement statement = (SimpleStatement) captor.getValue();
+        assertEquals("INSERT INTO person (name,age) VALUES (?,?)", statement.getQuery());
+        assertEquals(level, statement.getConsistencyLevel());
     }
 
     @Test
@@ -144,23 +176,45 @@ public class DefaultCassandraTemplateTest {
 
     @Test
     public void shouldSaveConsntencyDurationIterable() {
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
         Duration duration = Duration.ofHours(2);
-        ColumnEntity entity = ColumnEntity.of("Person", asList(Column.of("name", "Name"), Column.of("age", 20)));
-
-        ArgumentCaptor<ColumnEntity> captor = ArgumentCaptor.forClass(ColumnEntity.class);
-
         ConsistencyLevel level = ConsistencyLevel.THREE;
-        when(manager.
-                save(Mockito.any(ColumnEntity.class), Mockito.eq(duration),
-                        Mockito.eq(level)))
-                .thenReturn(entity);
 
         Person person = new Person();
         person.setName("Name");
         person.setAge(20);
         assertThat(template.save(Collections.singletonList(person), duration, level)).contains(person);
-        Mockito.verify(manager).save(captor.capture(), Mockito.eq(duration), Mockito.eq(level));
-        assertEquals(entity, captor.getValue());
+
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session).executeAsync(captor.capture());
+        SimpleStatement statement = (SimpleStatement) captor.getValue();
+        assertEquals("INSERT INTO person (name,age) VALUES (?,?) USING TTL 7200", statement.getQuery());
+        assertEquals(level, statement.getConsistencyLevel());
+    }
+
+    @Test
+    public void shouldInsertIterable() {
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        List<Person> people = asList(new Person("Ada", 10), new Person("Poliana", 20));
+        assertThat(template.insert(people)).containsExactlyElementsOf(people);
+        verify(session, Mockito.times(2)).executeAsync(Mockito.any(Statement.class));
+    }
+
+    @Test
+    public void shouldReturnFailuresByEntity() {
+        IllegalStateException error = new IllegalStateException("timeout");
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)))
+                .thenReturn(CompletableFuture.failedFuture(error));
+        List<Person> people = asList(new Person("Ada", 10), new Person("Poliana", 20));
+
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> template.save(people, ConsistencyLevel.ONE));
+        assertThat(exception.getEntities()).containsExactly(people.get(0), null);
+        assertThat(exception.getFailures()).containsOnlyKeys(1);
+        assertEquals(error, exception.getFailures().get(1));
     }
 
     @Test
@@ -217,4 +271,261 @@ public class DefaultCassandraTemplateTest {
         assertThat(people).contains(person);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldFindCQLWithParams() {
+        String cql = "select * from Person where name = ?";
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = row("Person", "name", "Ada");
+        when(session.prepare(cql)).thenReturn(prepared);
+        when(prepared.bind("Ada")).thenReturn(bound);
+        when(session.execute(bound)).thenReturn(resultSet);
+        when(resultSet.spliterator()).then(i -> Collections.singletonList(row).spliterator());
+
+        List<Person> people = template.<Person>cql(cql, "Ada").collect(Collectors.toList());
+        assertThat(people).contains(new Person("Ada", null));
+        template.<Person>cql(cql, "Ada").collect(Collectors.toList());
+
+        verify(session, Mockito.times(1)).prepare(cql);
+        verify(session, Mockito.times(2)).execute(bound);
+        assertEquals(1L, statements.getMissCount());
+        assertEquals(1L, statements.getHitCount());
+    }
+
+    @Test
+    public void shouldFindCQLWithOptions() {
+        String cql = "select * from Person where name = ?";
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        BoundStatement paged = mock(BoundStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = row("Person", "name", "Ada");
+        when(session.prepare(cql)).thenReturn(prepared);
+        when(prepared.bind("Ada")).thenReturn(bound);
+        when(bound.setPageSize(10)).thenReturn(paged);
+        when(session.execute(paged)).thenReturn(resultSet);
+        when(resultSet.spliterator()).then(i -> Collections.singletonList(row).spliterator());
+
+        List<Person> people = template.<Person>cql(cql, s -> s.setPageSize(10), "Ada").collect(Collectors.toList());
+        assertThat(people).contains(new Person("Ada", null));
+        verify(session).execute(paged);
+    }
+
+    @Test
+    public void shouldFindCQLWithNamedValues() {
+        String cql = "select * from Person where name = :name";
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        ColumnDefinitions variables = mock(ColumnDefinitions.class);
+        ColumnDefinition variable = mock(ColumnDefinition.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = row("Person", "name", "Ada");
+        when(session.prepare(cql)).thenReturn(prepared);
+        when(prepared.getVariableDefinitions()).thenReturn(variables);
+        when(variables.size()).thenReturn(1);
+        when(variables.get(0)).thenReturn(variable);
+        when(variable.getName()).thenReturn(CqlIdentifier.fromCql("name"));
+        when(prepared.bind("Ada")).thenReturn(bound);
+        when(session.execute(bound)).thenReturn(resultSet);
+        when(resultSet.spliterator()).then(i -> Collections.singletonList(row).spliterator());
+
+        List<Person> people = template.<Person>cql(cql, UnaryOperator.identity(), Map.of("name", "Ada"))
+                .collect(Collectors.toList());
+        assertThat(people).contains(new Person("Ada", null));
+        Assertions.assertThrows(MappingException.class,
+                () -> template.cql(cql, UnaryOperator.identity(), Map.of("age", 10)));
+        verify(session, Mockito.times(1)).prepare(cql);
+    }
+
+    @Test
+    public void shouldProject() {
+        String cql = "select name from Person where name = ?";
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = row("Person", "name", "Ada");
+        when(session.prepare(cql)).thenReturn(prepared);
+        when(prepared.bind("Ada")).thenReturn(bound);
+        when(session.execute(bound)).thenReturn(resultSet);
+        when(resultSet.spliterator()).then(i -> Collections.singletonList(row).spliterator());
+
+        List<Map<String, Object>> maps = template.project(cql, "Ada").collect(Collectors.toList());
+        assertThat(maps).containsExactly(Map.of("name", "Ada"));
+        List<PersonName> names = template.project(PersonName.class, cql, "Ada").collect(Collectors.toList());
+        assertThat(names).hasSize(1);
+        assertEquals("Ada", names.get(0).name);
+        verify(session, Mockito.times(1)).prepare(cql);
+    }
+
+    @Test
+    public void shouldBatchSaveGroupedByPartition() {
+        DriverContexts.mockDefaultContext(session);
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+        List<Person> people = asList(new Person("Ada", 10), new Person("Poliana", 20), new Person("Ada", 30));
+        Iterable<Person> result = template.batchSave(people, ConsistencyLevel.ONE);
+        assertThat(result).containsExactlyElementsOf(people);
+
+        ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+        verify(session, Mockito.times(2)).executeAsync(captor.capture());
+        List<Statement> executed = captor.getAllValues();
+        assertThat(executed.get(0)).isInstanceOf(BatchStatement.class);
+        BatchStatement batch = (BatchStatement) executed.get(0);
+        assertEquals(BatchType.UNLOGGED, batch.getBatchType());
+        assertEquals(2, batch.size());
+        assertEquals(ConsistencyLevel.ONE, batch.getConsistencyLevel());
+        assertThat(executed.get(1)).isInstanceOf(SimpleStatement.class);
+        assertEquals(ConsistencyLevel.ONE, executed.get(1).getConsistencyLevel());
+    }
+
+    @Test
+    public void shouldFireEventsOnBatchSave() {
+        DriverContexts.mockDefaultContext(session);
+        when(session.executeAsync(Mockito.any(Statement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+        ColumnEventPersistManager events = mock(ColumnEventPersistManager.class);
+        Instance instance = mock(Instance.class);
+        Instance sessionInstance = mock(Instance.class);
+        when(sessionInstance.get()).thenReturn(session);
+        CassandraTemplate template = new DefaultCassandraTemplate(instance, converter, flow, events, entities,
+                converters, sessionInstance, statements, new PartitionBatches(10, 5 * 1024), new BulkWriter(2),
+                new EntityRowMapper(entities, converter, false), new QueryMetrics(false, null, List.of()),
+                new RoutingKeys(), new PartitionDeletes(new RoutingKeys(), 20),
+                new LookupTableStatements(entities));
+
+        Person person = new Person("Ada", 10);
+        template.batchSave(List.of(person), ConsistencyLevel.ONE);
+
+        InOrder order = Mockito.inOrder(events);
+        order.verify(events).firePreEntity(person);
+        order.verify(events).firePreColumnEntity(person);
+        order.verify(events).firePreColumn(Mockito.any(ColumnEntity.class));
+        order.verify(events).firePostColumn(Mockito.any(ColumnEntity.class));
+        order.verify(events).firePostColumnEntity(person);
+        order.verify(events).firePostEntity(person);
+    }
+
+    @Test
+    public void shouldReturnBatchFailuresByEntity() {
+        DriverContexts.mockDefaultContext(session);
+        IllegalStateException error = new IllegalStateException("timeout");
+        when(session.executeAsync(Mockito.any(BatchStatement.class)))
+                .thenReturn(CompletableFuture.failedFuture(error));
+        when(session.executeAsync(Mockito.any(SimpleStatement.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+        List<Person> people = asList(new Person("Ada", 10), new Person("Poliana", 20), new Person("Ada", 30));
+        BulkWriteException exception = Assertions.assertThrows(BulkWriteException.class,
+                () -> template.batchSave(people, ConsistencyLevel.ONE));
+        assertThat(exception.getFailures()).containsOnlyKeys(0, 2);
+        assertEquals(error, exception.getFailures().get(0));
+        assertThat(exception.getEntities()).containsExactly(null, people.get(1), null);
+    }
+
+    @Test
+    public void shouldDeleteAllById() {
+        DriverContexts.mockDefaultContext(session);
+        when(session.getMetadata()).thenReturn(mock(Metadata.class));
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        when(session.prepare("DELETE FROM person WHERE name IN ?")).thenReturn(prepared);
+        when(prepared.bind(Mockito.any())).thenReturn(bound);
+        when(bound.setConsistencyLevel(ConsistencyLevel.ONE)).thenReturn(bound);
+        when(session.executeAsync(bound)).thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+        template.deleteAll(Person.class, asList("Ada", "Poliana"), ConsistencyLevel.ONE);
+
+        verify(prepared).bind(List.of("Ada", "Poliana"));
+        verify(session).executeAsync(bound);
+    }
+
+    @Test
+    public void shouldReturnFailuresById() {
+        DriverContexts.mockDefaultContext(session);
+        when(session.getMetadata()).thenReturn(mock(Metadata.class));
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        BoundStatement bound = mock(BoundStatement.class);
+        when(session.prepare("DELETE FROM person WHERE name IN ?")).thenReturn(prepared);
+        when(prepared.bind(Mockito.any())).thenReturn(bound);
+        when(bound.setConsistencyLevel(ConsistencyLevel.ONE)).thenReturn(bound);
+        IllegalStateException error = new IllegalStateException("timeout");
+        when(session.executeAsync(bound)).thenReturn(CompletableFuture.failedFuture(error));
+
+        BulkDeleteException exception = Assertions.assertThrows(BulkDeleteException.class,
+                () -> template.deleteAll(Person.class, asList("Ada", "Poliana"), ConsistencyLevel.ONE));
+        assertThat(exception.getIds()).containsExactly("Ada", "Poliana");
+        assertThat(exception.getFailures()).containsOnlyKeys(0, 1);
+        assertEquals(error, exception.getFailures().get(0));
+    }
+
+    @Test
+    public void shouldFindPage() {
+        ByteBuffer state = ByteBuffer.wrap(new byte[]{1, 2, 3});
+        ResultSet resultSet = mock(ResultSet.class);
+        ExecutionInfo info = mock(ExecutionInfo.class);
+        Row row = row("Person", "name", "Ada");
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(1);
+        when(resultSet.one()).thenReturn(row);
+        when(resultSet.getExecutionInfo()).thenReturn(info);
+        when(info.getPagingState()).thenReturn(state);
+        when(session.execute(Mockito.any(SimpleStatement.class))).thenReturn(resultSet);
+
+        ColumnQuery query = select().from("Person").build();
+        PagingToken token = PagingToken.of(ByteBuffer.wrap(new byte[]{4}));
+        Slice<Person> slice = template.findPage(query, ConsistencyLevel.ONE, 10, token);
+
+        assertThat(slice.getContent()).containsExactly(new Person("Ada", null));
+        assertEquals(Optional.of(PagingToken.of(state)), slice.getNext());
+        ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+        verify(session).execute(captor.capture());
+        SimpleStatement statement = captor.getValue();
+        assertEquals(10, statement.getPageSize());
+        assertEquals(token.toByteBuffer(), statement.getPagingState());
+        assertEquals(ConsistencyLevel.ONE, statement.getConsistencyLevel());
+    }
+
+    @Test
+    public void shouldFindLastPage() {
+        ResultSet resultSet = mock(ResultSet.class);
+        ExecutionInfo info = mock(ExecutionInfo.class);
+        when(resultSet.getExecutionInfo()).thenReturn(info);
+        when(session.execute(Mockito.any(SimpleStatement.class))).thenReturn(resultSet);
+
+        Slice<Person> slice = template.findPage(select().from("Person").build(), ConsistencyLevel.ONE, 10);
+        assertThat(slice.getContent()).isEmpty();
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFindPageHasSkip() {
+        ColumnQuery query = select().from("Person").skip(10).build();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> template.findPage(query, ConsistencyLevel.ONE, 10));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> template.findPage(select().from("Person").build(), ConsistencyLevel.ONE, 0));
+    }
+
+    private Row row(String table, String name, Object value) {
+        ColumnDefinition definition = mock(ColumnDefinition.class);
+        when(definition.getTable()).thenReturn(CqlIdentifier.fromInternal(table));
+        when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.size()).thenReturn(1);
+        when(definitions.get(0)).thenReturn(definition);
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        when(row.getObject(0)).thenReturn(value);
+        return row;
+    }
+
+    static class PersonName {
+
+        private final String name;
+
+        PersonName(String name) {
+            this.name = name;
+        }
+    }
+}
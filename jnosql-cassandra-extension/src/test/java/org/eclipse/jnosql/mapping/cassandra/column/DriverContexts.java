@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The driver context of the mocked sessions, with the default codecs and protocol version, so the routing keys and
+ * the bound values can be encoded.
+ */
+final class DriverContexts {
+
+    private DriverContexts() {
+    }
+
+    static DriverContext mockDefaultContext(CqlSession session) {
+        DriverContext context = mock(DriverContext.class);
+        when(context.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+        when(context.getProtocolVersion()).thenReturn(ProtocolVersion.DEFAULT);
+        when(session.getContext()).thenReturn(context);
+        return context;
+    }
+}
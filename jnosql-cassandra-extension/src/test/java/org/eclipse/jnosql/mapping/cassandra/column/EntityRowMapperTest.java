@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import jakarta.inject.Inject;
+import jakarta.nosql.tck.test.CDIExtension;
+import org.eclipse.jnosql.mapping.cassandra.column.model.Reading;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@CDIExtension
+public class EntityRowMapperTest {
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private CassandraColumnEntityConverter converter;
+
+    @Test
+    public void shouldMapRowToEntity() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        ColumnDefinitions definitions = definitions("Person", "name", "age");
+        Function<Row, Person> mapper = rows.mapper();
+
+        assertEquals(new Person("Ada", 20), mapper.apply(row(definitions, "Ada", 20)));
+        assertEquals(new Person("Poliana", null), mapper.apply(row(definitions, "Poliana", null)));
+        assertEquals(1, rows.getPlansSize());
+    }
+
+    @Test
+    public void shouldResolvePlanFromTheEntityClass() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        ColumnDefinitions definitions = definitions("person", "name", "age");
+        Function<Row, Person> mapper = rows.mapper(Person.class);
+
+        assertEquals(new Person("Ada", 20), mapper.apply(row(definitions, "Ada", 20)));
+        assertEquals(1, rows.getPlansSize());
+    }
+
+    @Test
+    public void shouldReusePlanToTheSameShape() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        rows.<Person>mapper().apply(row(definitions("Person", "name", "age"), "Ada", 20));
+        Person person = rows.<Person>mapper().apply(row(definitions("Person", "name", "age"), "Ada", 20));
+
+        assertEquals(new Person("Ada", 20), person);
+        assertEquals(1, rows.getPlansSize());
+    }
+
+    @Test
+    public void shouldConvertValueToFieldType() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        Person person = rows.<Person>mapper().apply(row(definitions("Person", "name", "age"), "Ada", 20L));
+        assertEquals(Integer.valueOf(20), person.getAge());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownColumn() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        Person person = rows.<Person>mapper().apply(row(definitions("Person", "name", "nickname"), "Ada", "ada"));
+        assertEquals(new Person("Ada", null), person);
+    }
+
+    @Test
+    public void shouldUseConverterWhenThereIsUDT() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        ColumnDefinitions definitions = definitions("Person", "name", "home");
+        Row row = row(definitions, "Ada", null);
+
+        Person person = rows.<Person>mapper().apply(row);
+        assertEquals(new Person("Ada", null), person);
+        assertEquals(1, rows.getPlansSize());
+    }
+
+    @Test
+    public void shouldReadTheDriverTypes() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        Instant time = Instant.parse("2022-12-22T10:15:30Z");
+        ColumnDefinitions definitions = definitions("Reading", "sensor", "time", "day", "received", "value");
+        type(definitions, 3, DataTypes.TIMESTAMP);
+        type(definitions, 4, DataTypes.DOUBLE);
+        Row row = row(definitions, "s1", time, LocalDate.of(2022, 12, 22));
+        when(row.getInstant(3)).thenReturn(Instant.ofEpochMilli(42L));
+        when(row.getDouble(4)).thenReturn(21.5);
+
+        Reading reading = rows.<Reading>mapper().apply(row);
+
+        assertEquals("s1", reading.getSensor());
+        assertEquals(time, reading.getTime());
+        assertEquals(LocalDate.of(2022, 12, 22), reading.getDay());
+        assertEquals(42L, reading.getReceived());
+        assertEquals(21.5, reading.getValue());
+        verify(row, never()).getObject(4);
+        assertEquals(1, rows.getPlansSize());
+    }
+
+    @Test
+    public void shouldKeepThePrimitiveDefaultWhenTheColumnIsNull() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, true);
+        ColumnDefinitions definitions = definitions("Reading", "sensor", "value");
+        type(definitions, 1, DataTypes.DOUBLE);
+        Row row = row(definitions, "s1");
+        when(row.isNull(1)).thenReturn(true);
+
+        Reading reading = rows.<Reading>mapper().apply(row);
+
+        assertEquals(0D, reading.getValue());
+        verify(row, never()).getDouble(1);
+    }
+
+    @Test
+    public void shouldUseConverterWhenIsNotDirect() {
+        EntityRowMapper rows = new EntityRowMapper(entities, converter, false);
+        assertFalse(rows.isDirect());
+        Person person = rows.<Person>mapper().apply(row(definitions("Person", "name", "age"), "Ada", 20));
+        assertEquals(new Person("Ada", 20), person);
+        assertEquals(0, rows.getPlansSize());
+    }
+
+    private ColumnDefinitions definitions(String table, String... names) {
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.size()).thenReturn(names.length);
+        for (int index = 0; index < names.length; index++) {
+            ColumnDefinition definition = mock(ColumnDefinition.class);
+            when(definition.getTable()).thenReturn(CqlIdentifier.fromInternal(table));
+            when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(names[index]));
+            when(definitions.get(index)).thenReturn(definition);
+        }
+        return definitions;
+    }
+
+    private static void type(ColumnDefinitions definitions, int index, DataType type) {
+        ColumnDefinition definition = definitions.get(index);
+        when(definition.getType()).thenReturn(type);
+    }
+
+    private Row row(ColumnDefinitions definitions, Object... values) {
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        for (int index = 0; index < values.length; index++) {
+            when(row.getObject(index)).thenReturn(values[index]);
+        }
+        return row;
+    }
+}
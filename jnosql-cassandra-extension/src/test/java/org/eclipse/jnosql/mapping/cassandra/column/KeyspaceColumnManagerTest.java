@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KeyspaceColumnManagerTest {
+
+    private CqlSession shared;
+
+    private KeyspaceColumnManager manager;
+
+    @BeforeEach
+    public void setUp() {
+        this.shared = mock(CqlSession.class);
+        this.manager = new KeyspaceColumnManager("tenant_a", new KeyspaceSession(shared,
+                CqlIdentifier.fromCql("tenant_a")));
+        ResultSet resultSet = mock(ResultSet.class);
+        Row row = mock(Row.class);
+        when(row.getLong(0)).thenReturn(10L);
+        when(resultSet.one()).thenReturn(row);
+        when(shared.execute(any(Statement.class), any())).thenReturn(resultSet);
+    }
+
+    @Test
+    public void shouldQualifyTheTableWithTheKeyspace() {
+        assertEquals(10L, manager.count("Person"));
+
+        ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+        verify(shared).execute(captor.capture(), any());
+        assertEquals("SELECT count(*) FROM tenant_a.person", captor.getValue().getQuery());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenPrepareNativeQuery() {
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> manager.nativeQueryPrepare("select * from tenant_a.person where name = ?"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class KeyspaceSessionTest {
+
+    private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("tenant_a");
+
+    private CqlSession shared;
+
+    private KeyspaceSession session;
+
+    @BeforeEach
+    public void setUp() {
+        this.shared = mock(CqlSession.class);
+        this.session = new KeyspaceSession(shared, KEYSPACE);
+    }
+
+    @Test
+    public void shouldReturnNPEWhenThereIsNullParameter() {
+        assertThrows(NullPointerException.class, () -> new KeyspaceSession(null, KEYSPACE));
+        assertThrows(NullPointerException.class, () -> new KeyspaceSession(shared, null));
+    }
+
+    @Test
+    public void shouldReturnKeyspace() {
+        when(shared.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("library")));
+        assertEquals(Optional.of(KEYSPACE), session.getKeyspace());
+    }
+
+    @Test
+    public void shouldExecuteStatementAsIs() {
+        SimpleStatement statement = SimpleStatement.newInstance("select * from tenant_a.person");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(shared.execute(statement, Statement.SYNC)).thenReturn(resultSet);
+
+        assertSame(resultSet, session.execute(statement));
+
+        verify(shared).execute(statement, Statement.SYNC);
+        assertNull(statement.getKeyspace());
+    }
+
+    @Test
+    public void shouldPrepareStatementAsIs() {
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        when(shared.prepare("select * from tenant_a.person where name = ?")).thenReturn(prepared);
+
+        assertSame(prepared, session.prepare("select * from tenant_a.person where name = ?"));
+    }
+
+    @Test
+    public void shouldNotCloseSharedSession() {
+        session.close();
+        verify(shared, never()).closeAsync();
+        verify(shared, never()).close();
+        verify(shared, never()).forceCloseAsync();
+    }
+}
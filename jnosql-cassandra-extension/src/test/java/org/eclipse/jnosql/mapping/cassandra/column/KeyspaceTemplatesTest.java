@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.nosql.mapping.MappingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KeyspaceTemplatesTest {
+
+    private KeyspaceTemplates templates;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Instance<CqlSession> session = mock(Instance.class);
+        when(session.get()).thenReturn(mock(CqlSession.class));
+        this.templates = new KeyspaceTemplates(null, null, null, null, null, session,
+                new PreparedStatementCache(10), new PartitionBatches(10, 5 * 1024), new BulkWriter(2), null,
+                new QueryMetrics(false, null, List.of()), new RoutingKeys(),
+                new PartitionDeletes(new RoutingKeys(), 20), new LookupTableStatements());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyspaceIsInvalid() {
+        assertThrows(NullPointerException.class, () -> templates.get(null));
+        assertThrows(MappingException.class, () -> templates.get(" "));
+    }
+
+    @Test
+    public void shouldReturnSameTemplateByKeyspace() {
+        CassandraTemplate template = templates.get("tenant_a");
+        assertSame(template, templates.get("tenant_a"));
+        assertNotSame(template, templates.get("tenant_b"));
+        assertEquals(2, templates.size());
+    }
+
+    @Test
+    public void shouldReturnTemplateFromQualifier() {
+        InjectionPoint injectionPoint = mock(InjectionPoint.class);
+        when(injectionPoint.getQualifiers()).thenReturn(Set.of(keyspace("tenant_a")));
+        assertSame(templates.get("tenant_a"), templates.template(injectionPoint));
+    }
+
+    private static Keyspace keyspace(String value) {
+        return new Keyspace() {
+            @Override
+            public String value() {
+                return value;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Keyspace.class;
+            }
+        };
+    }
+}
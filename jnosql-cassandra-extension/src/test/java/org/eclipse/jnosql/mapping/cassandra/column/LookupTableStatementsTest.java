@@ -0,0 +1,275 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import jakarta.nosql.Condition;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnDeleteQuery;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LookupTableStatementsTest {
+
+    private static final String CURRENT = "SELECT email FROM reader WHERE name=?";
+
+    private EntitiesMetadata entities;
+
+    private CqlSession session;
+
+    private Row current;
+
+    private LookupTableStatements lookups;
+
+    @BeforeEach
+    public void setUp() {
+        this.entities = mock(EntitiesMetadata.class);
+        this.session = mock(CqlSession.class);
+        this.current = mock(Row.class);
+        EntityMetadata entity = entity(Reader.class, "name", "email", "age");
+        when(entities.get(Reader.class)).thenReturn(entity);
+        when(entities.findByName("reader")).thenReturn(entity);
+        when(session.prepare(Mockito.anyString())).thenAnswer(invocation -> {
+            PreparedStatement prepared = mock(PreparedStatement.class);
+            when(prepared.getQuery()).thenReturn(invocation.getArgument(0));
+            when(prepared.bind(Mockito.any())).thenAnswer(bind -> {
+                BoundStatement bound = mock(BoundStatement.class);
+                when(bound.getPreparedStatement()).thenReturn(prepared);
+                return bound;
+            });
+            return prepared;
+        });
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.one()).thenReturn(current);
+        when(session.execute(Mockito.any(BoundStatement.class))).thenReturn(resultSet);
+        this.lookups = new LookupTableStatements(entities);
+    }
+
+    @Test
+    public void shouldBeEmptyWithoutLookupTables() {
+        assertTrue(lookups.isEmpty(String.class));
+        assertFalse(lookups.isEmpty(Reader.class));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenKeyIsNotColumn() {
+        EntityMetadata entity = entity(InvalidReader.class, "name", "age");
+        when(entities.get(InvalidReader.class)).thenReturn(entity);
+        assertThrows(MappingException.class, () -> lookups.isEmpty(InvalidReader.class));
+    }
+
+    @Test
+    public void shouldSaveIntoLookupTable() {
+        when(current.getObject("email")).thenReturn("ada@library.org");
+        ColumnEntity entity = columnEntity("Ada", "ada@library.org");
+
+        BatchStatement batch = lookups.save(Reader.class, entity, null, session, new PreparedStatementCache(10));
+
+        assertEquals(BatchType.LOGGED, batch.getBatchType());
+        List<String> queries = queries(batch);
+        assertEquals(List.of("INSERT INTO reader (name,email) VALUES (?,?)",
+                "INSERT INTO reader_by_email (name,email) VALUES (?,?)"), queries);
+    }
+
+    @Test
+    public void shouldDeletePreviousKeyOnSave() {
+        when(current.getObject("email")).thenReturn("ada@old.org");
+        ColumnEntity entity = columnEntity("Ada", "ada@library.org");
+
+        BatchStatement batch = lookups.save(Reader.class, entity, null, session, new PreparedStatementCache(10));
+
+        assertEquals(List.of("INSERT INTO reader (name,email) VALUES (?,?)",
+                "DELETE FROM reader_by_email WHERE email=? AND name=?",
+                "INSERT INTO reader_by_email (name,email) VALUES (?,?)"), queries(batch));
+        verify(session).prepare(CURRENT);
+    }
+
+    @Test
+    public void shouldChainCurrentKeysOnSaveAsync() {
+        when(current.getObject("email")).thenReturn("ada@old.org");
+        AsyncResultSet resultSet = mock(AsyncResultSet.class);
+        when(resultSet.one()).thenReturn(current);
+        CompletableFuture<AsyncResultSet> read = new CompletableFuture<>();
+        when(session.executeAsync(Mockito.any(BoundStatement.class))).thenReturn(read);
+        ColumnEntity entity = columnEntity("Ada", "ada@library.org");
+
+        CompletableFuture<BatchStatement> batch = lookups.saveAsync(Reader.class, entity, null, session,
+                new PreparedStatementCache(10)).toCompletableFuture();
+
+        assertFalse(batch.isDone());
+        read.complete(resultSet);
+        assertEquals(List.of("INSERT INTO reader (name,email) VALUES (?,?)",
+                "DELETE FROM reader_by_email WHERE email=? AND name=?",
+                "INSERT INTO reader_by_email (name,email) VALUES (?,?)"), queries(batch.join()));
+        verify(session, Mockito.never()).execute(Mockito.any(BoundStatement.class));
+    }
+
+    @Test
+    public void shouldDeleteFromLookupTable() {
+        when(current.getObject("email")).thenReturn("ada@library.org");
+
+        BatchStatement batch = lookups.delete(Reader.class, "Ada", session, new PreparedStatementCache(10));
+
+        assertEquals(BatchType.LOGGED, batch.getBatchType());
+        assertEquals(List.of("DELETE FROM reader WHERE name=?",
+                "DELETE FROM reader_by_email WHERE email=? AND name=?"), queries(batch));
+    }
+
+    @Test
+    public void shouldDeleteOnlyEntityWhenItDoesNotExist() {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(session.execute(Mockito.any(BoundStatement.class))).thenReturn(resultSet);
+
+        BatchStatement batch = lookups.delete(Reader.class, "Ada", session, new PreparedStatementCache(10));
+
+        assertEquals(List.of("DELETE FROM reader WHERE name=?"), queries(batch));
+    }
+
+    @Test
+    public void shouldRouteQueryByKey() {
+        ColumnQuery query = query(equals("email", "ada@library.org"));
+
+        Optional<LookupTableStatements.LookupQuery> lookup = lookups.route(query);
+
+        assertTrue(lookup.isPresent());
+        assertEquals("reader_by_email", lookup.get().getColumnFamily());
+        assertEquals(Reader.class, lookup.get().getType());
+        assertEquals(query.getCondition(), lookup.get().getCondition());
+    }
+
+    @Test
+    public void shouldNotRouteQueryById() {
+        ColumnCondition and = mock(ColumnCondition.class);
+        Column conditions = mock(Column.class);
+        when(and.getCondition()).thenReturn(Condition.AND);
+        when(and.getColumn()).thenReturn(conditions);
+        List<ColumnCondition> equalities = List.of(equals("email", "ada@library.org"), equals("name", "Ada"));
+        when(conditions.get(Mockito.any(TypeReference.class))).thenReturn(equalities);
+
+        assertTrue(lookups.route(query(and)).isEmpty());
+        assertTrue(lookups.route(query(equals("age", 20))).isEmpty());
+    }
+
+    @Test
+    public void shouldRefuseDeleteQueryWithLookupTable() {
+        ColumnDeleteQuery query = mock(ColumnDeleteQuery.class);
+        when(query.getColumnFamily()).thenReturn("reader");
+        assertThrows(MappingException.class, () -> lookups.checkDelete(query));
+
+        ColumnDeleteQuery other = mock(ColumnDeleteQuery.class);
+        when(other.getColumnFamily()).thenReturn("book");
+        lookups.checkDelete(other);
+    }
+
+    private static List<String> queries(BatchStatement batch) {
+        List<String> queries = new ArrayList<>();
+        for (BatchableStatement<?> statement : batch) {
+            queries.add(statement instanceof SimpleStatement ? ((SimpleStatement) statement).getQuery()
+                    : ((BoundStatement) statement).getPreparedStatement().getQuery());
+        }
+        return queries;
+    }
+
+    private static ColumnQuery query(ColumnCondition condition) {
+        ColumnQuery query = mock(ColumnQuery.class);
+        when(query.getColumnFamily()).thenReturn("reader");
+        when(query.getCondition()).thenReturn(Optional.of(condition));
+        return query;
+    }
+
+    private static ColumnCondition equals(String name, Object value) {
+        ColumnCondition condition = mock(ColumnCondition.class);
+        Column column = column(name, value);
+        when(condition.getCondition()).thenReturn(Condition.EQUALS);
+        when(condition.getColumn()).thenReturn(column);
+        return condition;
+    }
+
+    private static ColumnEntity columnEntity(String name, String email) {
+        ColumnEntity entity = mock(ColumnEntity.class);
+        Column nameColumn = column("name", name);
+        Column emailColumn = column("email", email);
+        when(entity.getName()).thenReturn("reader");
+        when(entity.getColumns()).thenReturn(List.of(nameColumn, emailColumn));
+        when(entity.size()).thenReturn(2);
+        when(entity.find("name")).thenReturn(Optional.of(nameColumn));
+        when(entity.find("email")).thenReturn(Optional.of(emailColumn));
+        return entity;
+    }
+
+    private static Column column(String name, Object value) {
+        Column column = mock(Column.class);
+        when(column.getName()).thenReturn(name);
+        when(column.get()).thenReturn(value);
+        return column;
+    }
+
+    private static EntityMetadata entity(Class<?> type, String id, String... columns) {
+        EntityMetadata entity = mock(EntityMetadata.class);
+        FieldMapping idField = mock(FieldMapping.class);
+        when(idField.getName()).thenReturn(id);
+        when(entity.getName()).thenReturn("reader");
+        when(entity.getType()).thenReturn((Class) type);
+        when(entity.getId()).thenReturn(Optional.of(idField));
+        Map<String, FieldMapping> fields = new HashMap<>();
+        fields.put(id, idField);
+        for (String column : columns) {
+            fields.put(column, mock(FieldMapping.class));
+        }
+        when(entity.getFieldsGroupByName()).thenReturn(fields);
+        return entity;
+    }
+
+    @LookupTable(value = "reader_by_email", key = "email")
+    static class Reader {
+    }
+
+    @LookupTable(value = "reader_by_email", key = "email")
+    static class InvalidReader {
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PagingTokenTest {
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> PagingToken.of(null));
+        Assertions.assertThrows(NullPointerException.class, () -> PagingToken.parse(null));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTextIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PagingToken.parse("not a token!"));
+    }
+
+    @Test
+    public void shouldParseToString() {
+        PagingToken token = PagingToken.of(ByteBuffer.wrap(new byte[]{-1, 0, 1, 2, 3}));
+        PagingToken parsed = PagingToken.parse(token.toString());
+        assertEquals(token, parsed);
+        assertEquals(token.toByteBuffer(), parsed.toByteBuffer());
+    }
+
+    @Test
+    public void shouldNotChangeTheBuffer() {
+        ByteBuffer state = ByteBuffer.wrap(new byte[]{1, 2, 3});
+        PagingToken token = PagingToken.of(state);
+        assertEquals(0, state.position());
+        state.put(0, (byte) 9);
+        assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 3}), token.toByteBuffer());
+    }
+
+    @Test
+    public void shouldSerialize() throws IOException, ClassNotFoundException {
+        PagingToken token = PagingToken.of(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(token);
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(token, input.readObject());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PartitionBatchesTest {
+
+    @Test
+    public void shouldReturnErrorWhenLimitsAreInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PartitionBatches(0, 10));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PartitionBatches(10, 0));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamsAreNull() {
+        PartitionBatches batches = new PartitionBatches(10, 10);
+        Assertions.assertThrows(NullPointerException.class, () -> batches.split(null, s -> 1));
+        Assertions.assertThrows(NullPointerException.class, () -> batches.split(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void shouldSplitByStatements() {
+        PartitionBatches batches = new PartitionBatches(2, 1024);
+        List<Statement<?>> result = batches.split(statements(5), s -> 1);
+        assertEquals(3, result.size());
+        assertEquals(2, ((BatchStatement) result.get(0)).size());
+        assertEquals(2, ((BatchStatement) result.get(1)).size());
+        assertThat(result.get(2)).isInstanceOf(SimpleStatement.class);
+        assertEquals(BatchType.UNLOGGED, ((BatchStatement) result.get(0)).getBatchType());
+    }
+
+    @Test
+    public void shouldSplitByBytes() {
+        PartitionBatches batches = new PartitionBatches(100, 25);
+        List<Statement<?>> result = batches.split(statements(5), s -> 10);
+        assertEquals(3, result.size());
+        assertEquals(2, ((BatchStatement) result.get(0)).size());
+        assertEquals(2, ((BatchStatement) result.get(1)).size());
+    }
+
+    @Test
+    public void shouldSendAloneStatementLargerThanLimit() {
+        PartitionBatches batches = new PartitionBatches(100, 25);
+        List<SimpleStatement> statements = statements(3);
+        List<Statement<?>> result = batches.split(statements, s -> s == statements.get(1) ? 100 : 1);
+        assertThat(result).containsExactly(statements.get(0), statements.get(1), statements.get(2));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoStatement() {
+        PartitionBatches batches = new PartitionBatches(10, 10);
+        assertThat(batches.split(Collections.emptyList(), s -> 1)).isEmpty();
+    }
+
+    private List<SimpleStatement> statements(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(i -> SimpleStatement.newInstance("INSERT INTO person (name) VALUES (?)", "Ada" + i))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PartitionDeletesTest {
+
+    private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("library");
+
+    private static final String QUERY = "DELETE FROM library.person WHERE name IN ?";
+
+    private CqlSession session;
+
+    private Metadata metadata;
+
+    private PreparedStatement prepared;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        this.metadata = mock(Metadata.class);
+        this.prepared = mock(PreparedStatement.class);
+        DriverContexts.mockDefaultContext(session);
+        KeyspaceMetadata keyspace = mock(KeyspaceMetadata.class);
+        TableMetadata table = mock(TableMetadata.class);
+        ColumnMetadata column = mock(ColumnMetadata.class);
+        when(column.getName()).thenReturn(CqlIdentifier.fromCql("name"));
+        when(column.getType()).thenReturn(DataTypes.TEXT);
+        when(table.getPartitionKey()).thenReturn(List.of(column));
+        when(keyspace.getTable("person")).thenReturn(Optional.of(table));
+        when(metadata.getKeyspace(KEYSPACE)).thenReturn(Optional.of(keyspace));
+        when(session.getKeyspace()).thenReturn(Optional.of(KEYSPACE));
+        when(session.getMetadata()).thenReturn(metadata);
+        when(session.prepare(QUERY)).thenReturn(prepared);
+        when(prepared.bind(Mockito.any())).thenAnswer(invocation -> mock(BoundStatement.class, Mockito.RETURNS_SELF));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMaximumKeysIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> new PartitionDeletes(new RoutingKeys(), 0));
+    }
+
+    @Test
+    public void shouldReturnEmptyWhenThereIsNoKey() {
+        PartitionDeletes deletes = new PartitionDeletes(new RoutingKeys(), 2);
+        assertTrue(deletes.groups("person", "name", List.of(), session, new PreparedStatementCache(10))
+                .isEmpty());
+    }
+
+    @Test
+    public void shouldSplitByMaximumKeysWithoutTokenMap() {
+        PartitionDeletes deletes = new PartitionDeletes(new RoutingKeys(), 2);
+        List<PartitionDeletes.Group> groups = deletes.groups("person", "name",
+                List.of("Ada", "Poliana", "Otavio"), session, new PreparedStatementCache(10));
+
+        assertEquals(2, groups.size());
+        assertEquals(List.of(0, 1), groups.get(0).getPositions());
+        assertEquals(List.of(2), groups.get(1).getPositions());
+        verify(prepared).bind(List.of("Ada", "Poliana"));
+        verify(prepared).bind(List.of("Otavio"));
+    }
+
+    @Test
+    public void shouldGroupByReplicas() {
+        TokenMap tokens = mock(TokenMap.class);
+        Set<Node> first = Set.of(mock(Node.class));
+        Set<Node> second = Set.of(mock(Node.class));
+        when(tokens.getReplicas(KEYSPACE, encode("Ada"))).thenReturn(first);
+        when(tokens.getReplicas(KEYSPACE, encode("Poliana"))).thenReturn(second);
+        when(tokens.getReplicas(KEYSPACE, encode("Otavio"))).thenReturn(first);
+        when(metadata.getTokenMap()).thenReturn(Optional.of(tokens));
+        PartitionDeletes deletes = new PartitionDeletes(new RoutingKeys(), 20);
+
+        List<PartitionDeletes.Group> groups = deletes.groups("person", "name",
+                List.of("Ada", "Poliana", "Otavio"), session, new PreparedStatementCache(10));
+
+        assertEquals(2, groups.size());
+        assertEquals(List.of(0, 2), groups.get(0).getPositions());
+        assertEquals(List.of(1), groups.get(1).getPositions());
+        verify(prepared).bind(List.of("Ada", "Otavio"));
+        verify(groups.get(0).getStatement()).setRoutingKey(new ByteBuffer[]{encode("Ada")});
+        verify(groups.get(0).getStatement()).setRoutingKeyspace(KEYSPACE);
+        verify(groups.get(1).getStatement()).setRoutingKey(new ByteBuffer[]{encode("Poliana")});
+    }
+
+    @Test
+    public void shouldPrepareOnce() {
+        PreparedStatementCache statements = new PreparedStatementCache(10);
+        PartitionDeletes deletes = new PartitionDeletes(new RoutingKeys(), 1);
+        deletes.groups("person", "name", List.of("Ada", "Poliana"), session, statements);
+        deletes.groups("person", "name", List.of("Otavio"), session, statements);
+        verify(session).prepare(QUERY);
+        assertEquals(1, statements.size());
+    }
+
+    private static ByteBuffer encode(String value) {
+        return TypeCodecs.TEXT.encode(value, ProtocolVersion.DEFAULT);
+    }
+}
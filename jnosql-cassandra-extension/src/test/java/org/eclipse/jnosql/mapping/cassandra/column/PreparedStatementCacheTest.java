@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PreparedStatementCacheTest {
+
+    private Function<String, PreparedStatement> prepare;
+
+    private PreparedStatementCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        this.prepare = mock(Function.class);
+        when(prepare.apply(anyString())).then(i -> mock(PreparedStatement.class));
+        this.cache = new PreparedStatementCache(2);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenMaximumSizeIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PreparedStatementCache(0));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParameterIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, prepare));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get("select * from Person", null));
+    }
+
+    @Test
+    public void shouldPrepareOnce() {
+        PreparedStatement statement = cache.get("select * from Person", prepare);
+        assertSame(statement, cache.get("select * from Person", prepare));
+        verify(prepare, times(1)).apply("select * from Person");
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsed() {
+        cache.get("select * from Person", prepare);
+        cache.get("select * from Movie", prepare);
+        cache.get("select * from Person", prepare);
+        cache.get("select * from Actor", prepare);
+        assertEquals(2, cache.size());
+
+        cache.get("select * from Person", prepare);
+        cache.get("select * from Movie", prepare);
+        verify(prepare, times(1)).apply("select * from Person");
+        verify(prepare, times(2)).apply("select * from Movie");
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(4L, cache.getMissCount());
+    }
+
+    @Test
+    public void shouldClear() {
+        cache.get("select * from Person", prepare);
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.get("select * from Person", prepare);
+        verify(prepare, times(2)).apply("select * from Person");
+    }
+    @Test
+    public void shouldPrepareAsyncOnce() {
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        CompletableFuture<PreparedStatement> future = new CompletableFuture<>();
+        Function<String, CompletionStage<PreparedStatement>> prepareAsync = mock(Function.class);
+        when(prepareAsync.apply("select * from Person")).thenReturn(future);
+
+        CompletionStage<PreparedStatement> stage = cache.getAsync("select * from Person", prepareAsync);
+        assertEquals(0, cache.size());
+        future.complete(prepared);
+
+        assertSame(prepared, stage.toCompletableFuture().join());
+        assertSame(prepared, cache.getAsync("select * from Person", prepareAsync).toCompletableFuture().join());
+        verify(prepareAsync, times(1)).apply("select * from Person");
+        assertEquals(1L, cache.getHitCount());
+    }
+
+}
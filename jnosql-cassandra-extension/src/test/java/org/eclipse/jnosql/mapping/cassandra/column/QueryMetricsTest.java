@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class QueryMetricsTest {
+
+    @Test
+    public void shouldNormalize() {
+        assertEquals("SELECT * FROM person WHERE name = ? AND age > ?",
+                QueryMetrics.normalize("SELECT *  FROM person\n WHERE name = 'Ada' AND age > 10;"));
+        assertEquals("SELECT * FROM person WHERE id = ?",
+                QueryMetrics.normalize("SELECT * FROM person WHERE id = 5b9d3f0e-1c2a-4b5e-9f6a-0d1e2f3a4b5c"));
+        assertEquals("SELECT * FROM person2 WHERE name = ? AND x = ?",
+                QueryMetrics.normalize("SELECT * FROM person2 WHERE name = 'O''Neil' AND x = -1.5"));
+    }
+
+    @Test
+    public void shouldNotMeasureWhenDisabled() {
+        QueryMetrics metrics = new QueryMetrics(false, null, List.of(e -> Assertions.fail("not enabled")));
+        assertFalse(metrics.isActive());
+        assertEquals(0L, metrics.start());
+        String result = metrics.record(QueryOperation.CQL, () -> Assertions.fail("not enabled"), null, () -> "ok");
+        assertEquals("ok", result);
+        assertTrue(metrics.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void shouldRecordByStatement() {
+        QueryMetrics metrics = new QueryMetrics(true, null, List.of());
+        metrics.record(QueryOperation.CQL, () -> "SELECT * FROM person WHERE age = 1", null, () -> 1);
+        metrics.record(QueryOperation.CQL, () -> "SELECT * FROM person WHERE age = 2", null, () -> 2);
+        Assertions.assertThrows(IllegalStateException.class, () -> metrics.record(QueryOperation.CQL,
+                () -> "SELECT * FROM person WHERE age = 3", null, () -> {
+                    throw new IllegalStateException("error");
+                }));
+
+        Optional<QueryStatistics> statistics = metrics.getStatistics("SELECT * FROM person WHERE age = 10");
+        assertTrue(statistics.isPresent());
+        assertEquals(3L, statistics.get().getCount());
+        assertEquals(1L, statistics.get().getErrorCount());
+        assertThat(statistics.get().getPercentile(0.99)).isGreaterThanOrEqualTo(statistics.get().getPercentile(0.5));
+        metrics.reset();
+        assertTrue(metrics.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void shouldCountRows() {
+        QueryMetrics metrics = new QueryMetrics(true, null, List.of());
+        List<Integer> result = metrics.<Integer>recordStream(QueryOperation.FIND, () -> "SELECT * FROM person",
+                null, () -> Stream.of(1, 2, 3)).collect(Collectors.toList());
+        assertEquals(List.of(1, 2, 3), result);
+        assertEquals(3L, metrics.getStatistics("SELECT * FROM person").map(QueryStatistics::getRowCount)
+                .orElse(0L));
+    }
+
+    @Test
+    public void shouldNotifyListeners() {
+        List<QueryEvent> events = new ArrayList<>();
+        QueryMetrics metrics = new QueryMetrics(true, null, List.of(events::add));
+        metrics.record(QueryOperation.DELETE, () -> "DELETE FROM person WHERE name = 'Ada'",
+                DefaultConsistencyLevel.QUORUM, () -> null);
+        assertEquals(1, events.size());
+        QueryEvent event = events.get(0);
+        assertEquals("DELETE FROM person WHERE name = ?", event.getStatement());
+        assertEquals(QueryOperation.DELETE, event.getOperation());
+        assertEquals(Optional.of(DefaultConsistencyLevel.QUORUM), event.getConsistencyLevel());
+        assertFalse(event.getError().isPresent());
+    }
+
+    @Test
+    public void shouldLogSlowQueryWithoutStatistics() {
+        QueryMetrics metrics = new QueryMetrics(false, Duration.ZERO, List.of());
+        assertTrue(metrics.isActive());
+        assertEquals(Optional.of(Duration.ZERO), metrics.getSlowQueryThreshold());
+        metrics.record(QueryOperation.SAVE, () -> "INSERT INTO person", null, () -> null);
+        assertTrue(metrics.getStatistics().isEmpty());
+    }
+
+    @Test
+    public void shouldLimitStatements() {
+        QueryMetrics metrics = new QueryMetrics(true, null, List.of());
+        for (int index = 0; index <= QueryMetrics.MAXIMUM_STATEMENTS; index++) {
+            String table = "table" + Integer.toString(index).chars()
+                    .mapToObj(c -> String.valueOf((char) ('a' + c - '0'))).collect(Collectors.joining());
+            metrics.record(QueryOperation.CQL, () -> "SELECT * FROM " + table, null, () -> null);
+        }
+        assertThat(metrics.getStatistics()).containsKey(QueryMetrics.OTHER_STATEMENTS);
+    }
+
+    @Test
+    public void shouldBucketByPowerOfTwo() {
+        QueryStatistics statistics = new QueryStatistics("SELECT * FROM person");
+        statistics.record(Duration.ofMillis(3).toNanos(), false);
+        statistics.record(Duration.ofMillis(100).toNanos(), false);
+        assertEquals(2L, statistics.getCount());
+        assertEquals(Duration.ofMillis(100), statistics.getMax());
+        assertThat(statistics.getPercentile(0.5)).isBetween(Duration.ofMillis(3), Duration.ofMillis(5));
+        assertThat(statistics.getPercentile(1)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+}
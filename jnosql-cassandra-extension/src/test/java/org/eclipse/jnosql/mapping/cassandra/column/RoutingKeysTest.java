@@ -0,0 +1,195 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import jakarta.nosql.Condition;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnEntity;
+import jakarta.nosql.column.ColumnQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RoutingKeysTest {
+
+    private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("library");
+
+    private CqlSession session;
+
+    private KeyspaceMetadata keyspace;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        this.keyspace = mock(KeyspaceMetadata.class);
+        DriverContexts.mockDefaultContext(session);
+        Metadata metadata = mock(Metadata.class);
+        when(session.getKeyspace()).thenReturn(Optional.of(KEYSPACE));
+        when(session.getMetadata()).thenReturn(metadata);
+        when(metadata.getKeyspace(KEYSPACE)).thenReturn(Optional.of(keyspace));
+    }
+
+    @Test
+    public void shouldComputeRoutingKeyFromSchema() {
+        table("person", column("name", DataTypes.TEXT));
+        RoutingKeys routing = new RoutingKeys();
+        ColumnEntity entity = entity("person", "name", "Ada");
+
+        SimpleStatement statement = routing.route(SimpleStatement.newInstance("INSERT"), entity, session);
+
+        assertEquals(TypeCodecs.TEXT.encode("Ada", ProtocolVersion.DEFAULT), statement.getRoutingKey());
+        assertEquals(KEYSPACE, statement.getRoutingKeyspace());
+    }
+
+    @Test
+    public void shouldUseTheColumnType() {
+        table("person", column("age", DataTypes.BIGINT));
+        RoutingKeys routing = new RoutingKeys();
+        ColumnEntity entity = entity("person", "age", 10L);
+
+        SimpleStatement statement = routing.route(SimpleStatement.newInstance("INSERT"), entity, session);
+
+        assertEquals(TypeCodecs.BIGINT.encode(10L, ProtocolVersion.DEFAULT), statement.getRoutingKey());
+    }
+
+    @Test
+    public void shouldNotRouteWithoutSchema() {
+        when(keyspace.getTable("person")).thenReturn(Optional.empty());
+        RoutingKeys routing = new RoutingKeys();
+        ColumnEntity entity = entity("person", "name", "Ada");
+
+        SimpleStatement statement = routing.route(SimpleStatement.newInstance("INSERT"), entity, session);
+
+        assertNull(statement.getRoutingKey());
+        assertEquals(0, routing.size());
+    }
+
+    @Test
+    public void shouldReadThePartitionKeyOnce() {
+        table("person", column("name", DataTypes.TEXT));
+        RoutingKeys routing = new RoutingKeys();
+        routing.route(SimpleStatement.newInstance("INSERT"), entity("person", "name", "Ada"), session);
+        routing.route(SimpleStatement.newInstance("INSERT"), entity("person", "name", "Poliana"), session);
+        verify(keyspace, times(1)).getTable("person");
+        assertEquals(1, routing.size());
+    }
+
+    @Test
+    public void shouldNotKeepThePartitionKeyWithoutSchema() {
+        when(keyspace.getTable("person")).thenReturn(Optional.empty());
+        RoutingKeys routing = new RoutingKeys();
+        ColumnQuery query = query("person", Condition.EQUALS, "name", "Ada");
+
+        assertNull(routing.route(SimpleStatement.newInstance("SELECT"), query, session).getRoutingKey());
+        assertEquals(0, routing.size());
+
+        table("person", column("name", DataTypes.TEXT));
+        SimpleStatement statement = routing.route(SimpleStatement.newInstance("SELECT"), query, session);
+        assertEquals(TypeCodecs.TEXT.encode("Ada", ProtocolVersion.DEFAULT), statement.getRoutingKey());
+        assertEquals(1, routing.size());
+    }
+
+    @Test
+    public void shouldComputeRoutingKeyFromTheQuery() {
+        table("person", column("name", DataTypes.TEXT));
+        RoutingKeys routing = new RoutingKeys();
+        ColumnQuery query = query("person", Condition.EQUALS, "name", "Ada");
+
+        SimpleStatement statement = routing.route(SimpleStatement.newInstance("SELECT"), query, session);
+
+        assertEquals(TypeCodecs.TEXT.encode("Ada", ProtocolVersion.DEFAULT), statement.getRoutingKey());
+    }
+
+    @Test
+    public void shouldNotRouteWhenThePartitionKeyIsUnknown() {
+        table("person", column("name", DataTypes.TEXT));
+        RoutingKeys routing = new RoutingKeys();
+        ColumnQuery query = query("person", Condition.GREATER_THAN, "name", "Ada");
+        SimpleStatement select = SimpleStatement.newInstance("SELECT");
+
+        SimpleStatement statement = routing.route(select, query, session);
+
+        assertSame(select, statement);
+        assertNull(statement.getRoutingKey());
+    }
+
+    @Test
+    public void shouldNotRouteWhenTheValueDoesNotMatchTheType() {
+        table("person", column("age", DataTypes.INT));
+        RoutingKeys routing = new RoutingKeys();
+        SimpleStatement insert = SimpleStatement.newInstance("INSERT");
+
+        SimpleStatement statement = routing.route(insert, entity("person", "age", "ten"), session);
+
+        assertNull(statement.getRoutingKey());
+    }
+
+    private void table(String name, ColumnMetadata... columns) {
+        TableMetadata table = mock(TableMetadata.class);
+        when(table.getPartitionKey()).thenReturn(List.of(columns));
+        when(keyspace.getTable(name)).thenReturn(Optional.of(table));
+    }
+
+    private static ColumnMetadata column(String name, DataType type) {
+        ColumnMetadata column = mock(ColumnMetadata.class);
+        when(column.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+        when(column.getType()).thenReturn(type);
+        return column;
+    }
+
+    private static ColumnEntity entity(String table, String name, Object value) {
+        ColumnEntity entity = mock(ColumnEntity.class);
+        Column column = mock(Column.class);
+        when(column.get()).thenReturn(value);
+        when(entity.getName()).thenReturn(table);
+        when(entity.find(name)).thenReturn(Optional.of(column));
+        return entity;
+    }
+
+    private static ColumnQuery query(String table, Condition condition, String name, Object value) {
+        ColumnQuery query = mock(ColumnQuery.class);
+        ColumnCondition columnCondition = mock(ColumnCondition.class);
+        Column column = mock(Column.class);
+        when(column.getName()).thenReturn(name);
+        when(column.get()).thenReturn(value);
+        when(columnCondition.getCondition()).thenReturn(condition);
+        when(columnCondition.getColumn()).thenReturn(column);
+        when(query.getColumnFamily()).thenReturn(table);
+        when(query.getCondition()).thenReturn(Optional.of(columnCondition));
+        return query;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import jakarta.nosql.mapping.MappingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RowProjectionsTest {
+
+    @Test
+    public void shouldMapToMap() {
+        ColumnDefinitions definitions = definitions("name", "age");
+        Function<Row, Map<String, Object>> projection = RowProjections.map();
+
+        Map<String, Object> ada = projection.apply(row(definitions, "Ada", 10));
+        Map<String, Object> poliana = projection.apply(row(definitions, "Poliana", null));
+
+        assertThat(ada).containsExactly(Map.entry("name", "Ada"), Map.entry("age", 10));
+        assertThat(poliana).containsEntry("name", "Poliana").containsEntry("age", null);
+        verify(definitions, times(1)).size();
+    }
+
+    @Test
+    public void shouldMapByConstructor() {
+        ColumnDefinitions definitions = definitions("name", "age");
+        Function<Row, PersonName> projection = RowProjections.of(PersonName.class);
+
+        PersonName person = projection.apply(row(definitions, "Ada", 10));
+
+        assertEquals("Ada", person.name);
+        assertEquals(10, person.age);
+    }
+
+    @Test
+    public void shouldConvertTheValues() {
+        ColumnDefinitions definitions = definitions("name", "age");
+        Function<Row, PersonAge> projection = RowProjections.of(PersonAge.class);
+
+        PersonAge person = projection.apply(row(definitions, "Ada", 10));
+        PersonAge empty = projection.apply(row(definitions, "Poliana", null));
+
+        assertEquals(10L, person.age);
+        assertEquals(0L, empty.age);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenThereIsNoConstructor() {
+        ColumnDefinitions definitions = definitions("name");
+        Function<Row, PersonName> projection = RowProjections.of(PersonName.class);
+        Assertions.assertThrows(MappingException.class, () -> projection.apply(row(definitions, "Ada")));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTheConstructorIsAmbiguous() {
+        ColumnDefinitions definitions = definitions("name", "age");
+        Function<Row, Ambiguous> projection = RowProjections.of(Ambiguous.class);
+        Assertions.assertThrows(MappingException.class, () -> projection.apply(row(definitions, "Ada", 10)));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTypeIsNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> RowProjections.of(null));
+    }
+
+    private static ColumnDefinitions definitions(String... names) {
+        ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.size()).thenReturn(names.length);
+        for (int index = 0; index < names.length; index++) {
+            ColumnDefinition definition = mock(ColumnDefinition.class);
+            when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(names[index]));
+            when(definitions.get(index)).thenReturn(definition);
+        }
+        return definitions;
+    }
+
+    private static Row row(ColumnDefinitions definitions, Object... values) {
+        Row row = mock(Row.class);
+        when(row.getColumnDefinitions()).thenReturn(definitions);
+        for (int index = 0; index < values.length; index++) {
+            when(row.getObject(index)).thenReturn(values[index]);
+        }
+        return row;
+    }
+
+    static class PersonName {
+
+        private final String name;
+
+        private final Integer age;
+
+        PersonName(String name, Integer age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class PersonAge {
+
+        private final String name;
+
+        private final long age;
+
+        PersonAge(String name, long age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    static class Ambiguous {
+
+        Ambiguous(String name, Integer age) {
+        }
+
+        Ambiguous(Integer age, String name) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import jakarta.nosql.mapping.MappingException;
+import org.junit.jupiter.api.Assertions;
+import org.eclipse.jnosql.mapping.cassandra.column.ExecutionProfile.Consistency;
+import org.eclipse.jnosql.mapping.cassandra.column.ExecutionProfile.Idempotence;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class StatementOptionsTest {
+
+    @Test
+    public void shouldReturnErrorWhenAttributesAreInvalid() throws NoSuchMethodException {
+        Assertions.assertThrows(MappingException.class, () -> StatementOptions.of(profile("invalidTimeout")));
+        Assertions.assertThrows(MappingException.class, () -> StatementOptions.of(profile("invalidPageSize")));
+    }
+
+    @Test
+    public void shouldApply() throws NoSuchMethodException {
+        StatementOptions options = StatementOptions.of(profile("complete"));
+        Statement<?> statement = options.apply(SimpleStatement.newInstance("select * from Person"));
+        assertEquals("fast-read", statement.getExecutionProfileName());
+        assertEquals(DefaultConsistencyLevel.LOCAL_QUORUM, statement.getConsistencyLevel());
+        assertEquals(Duration.ofMillis(200), statement.getTimeout());
+        assertEquals(10, statement.getPageSize());
+        assertEquals(Boolean.TRUE, statement.isIdempotent());
+    }
+
+    @Test
+    public void shouldKeepTheUndefinedAttributes() throws NoSuchMethodException {
+        StatementOptions options = StatementOptions.of(profile("pageSize"));
+        Statement<?> statement = options.apply(SimpleStatement.newInstance("select * from Person"));
+        assertEquals(5000, statement.getPageSize());
+        assertNull(statement.getExecutionProfileName());
+        assertNull(statement.getConsistencyLevel());
+        assertNull(statement.getTimeout());
+        assertNull(statement.isIdempotent());
+    }
+
+    @Test
+    public void shouldSetNotIdempotent() throws NoSuchMethodException {
+        StatementOptions options = StatementOptions.of(profile("notIdempotent"));
+        Statement<?> statement = options.apply(SimpleStatement.newInstance("select * from Person")
+                .setIdempotent(true));
+        assertEquals(Boolean.FALSE, statement.isIdempotent());
+    }
+
+    @Test
+    public void shouldHaveEveryDriverConsistencyLevel() {
+        for (DefaultConsistencyLevel level : DefaultConsistencyLevel.values()) {
+            assertEquals(level, Consistency.valueOf(level.name()).get());
+        }
+        assertNull(Consistency.NOT_SET.get());
+    }
+
+    private static ExecutionProfile profile(String method) throws NoSuchMethodException {
+        return Profiles.class.getDeclaredMethod(method).getAnnotation(ExecutionProfile.class);
+    }
+
+    interface Profiles {
+
+        @ExecutionProfile(value = "fast-read", consistency = Consistency.LOCAL_QUORUM, timeout = 200,
+                pageSize = 10, idempotent = Idempotence.TRUE)
+        void complete();
+
+        @ExecutionProfile(pageSize = 5000)
+        void pageSize();
+
+        @ExecutionProfile(idempotent = Idempotence.FALSE)
+        void notIdempotent();
+
+        @ExecutionProfile(timeout = -1)
+        void invalidTimeout();
+
+        @ExecutionProfile(pageSize = -1)
+        void invalidPageSize();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
+import jakarta.nosql.mapping.MappingException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRangeScannerTest {
+
+    private CqlSession session;
+
+    private Metadata metadata;
+
+    private PreparedStatement prepared;
+
+    private BoundStatement bound;
+
+    @BeforeEach
+    public void setUp() {
+        this.session = mock(CqlSession.class);
+        this.metadata = mock(Metadata.class);
+        this.prepared = mock(PreparedStatement.class);
+        this.bound = mock(BoundStatement.class);
+        CqlIdentifier keyspace = CqlIdentifier.fromCql("library");
+        KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+        TableMetadata table = mock(TableMetadata.class);
+        ColumnMetadata column = mock(ColumnMetadata.class);
+        when(session.getKeyspace()).thenReturn(Optional.of(keyspace));
+        when(session.getMetadata()).thenReturn(metadata);
+        when(metadata.getKeyspace(keyspace)).thenReturn(Optional.of(keyspaceMetadata));
+        when(keyspaceMetadata.getTable("person")).thenReturn(Optional.of(table));
+        when(table.getPartitionKey()).thenReturn(Collections.singletonList(column));
+        when(column.getName()).thenReturn(CqlIdentifier.fromCql("name"));
+        when(session.prepare(anyString())).thenReturn(prepared);
+        when(prepared.bind()).thenReturn(bound);
+        when(bound.setToken(Mockito.anyInt(), Mockito.any(Token.class))).thenReturn(bound);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenTokenMapIsNotAvailable() {
+        when(metadata.getTokenMap()).thenReturn(Optional.empty());
+        Assertions.assertThrows(MappingException.class, () -> TokenRangeScanner.statements(session, "person", 2,
+                new PreparedStatementCache(10)));
+    }
+
+    @Test
+    public void shouldSplitRangesByParallelism() {
+        tokenMap(range(-100, 100), range(100, -100));
+        List<Statement<?>> statements = TokenRangeScanner.statements(session, "person", 4,
+                new PreparedStatementCache(10));
+        assertEquals(5, statements.size());
+        verify(session).prepare("SELECT * FROM library.person WHERE token(name)>? AND token(name)<=?");
+        verify(session).prepare("SELECT * FROM library.person WHERE token(name)>?");
+    }
+
+    @Test
+    public void shouldNotSplitWhenThereAreEnoughRanges() {
+        tokenMap(range(-100, 0), range(0, 100), range(100, -100));
+        List<Statement<?>> statements = TokenRangeScanner.statements(session, "person", 2,
+                new PreparedStatementCache(10));
+        assertEquals(4, statements.size());
+    }
+
+    @Test
+    public void shouldReadTheWholeRingWhenThereIsASingleToken() {
+        tokenMap(range(100, 100));
+        List<Statement<?>> statements = TokenRangeScanner.statements(session, "person", 4,
+                new PreparedStatementCache(10));
+        assertEquals(1, statements.size());
+        verify(session).prepare("SELECT * FROM library.person");
+    }
+
+    @Test
+    public void shouldMergeResults() {
+        Statement<?> first = mock(Statement.class);
+        Statement<?> second = mock(Statement.class);
+        ResultSet firstResult = resultSet("a", "b");
+        ResultSet secondResult = resultSet("c");
+        when(session.execute(first)).thenReturn(firstResult);
+        when(session.execute(second)).thenReturn(secondResult);
+
+        try (Stream<Object> stream = TokenRangeScanner.scan(Arrays.asList(first, second), session,
+                () -> row -> row.getObject(0), 2)) {
+            assertThat(stream.collect(Collectors.toList())).containsExactlyInAnyOrder("a", "b", "c");
+        }
+    }
+
+    @Test
+    public void shouldReturnFailure() {
+        Statement<?> first = mock(Statement.class);
+        IllegalStateException error = new IllegalStateException("timeout");
+        when(session.execute(first)).thenThrow(error);
+        Stream<Object> stream = TokenRangeScanner.scan(Collections.singletonList(first), session,
+                () -> row -> row.getObject(0), 2);
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> stream.collect(Collectors.toList()));
+        assertEquals(error, exception);
+    }
+
+    @Test
+    public void shouldStopReadingWhenTheStreamIsAbandoned() throws InterruptedException {
+        Statement<?> first = mock(Statement.class);
+        Row row = mock(Row.class);
+        when(row.getObject(0)).thenReturn("a");
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(Stream.generate(() -> row).iterator());
+        when(session.execute(first)).thenReturn(resultSet);
+
+        Stream<Object> stream = TokenRangeScanner.scan(Collections.singletonList(first), session,
+                () -> r -> r.getObject(0), 1, Duration.ofMillis(50));
+        Thread.sleep(500);
+        Assertions.assertThrows(MappingException.class, () -> stream.collect(Collectors.toList()));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParallelismIsInvalid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TokenRangeScanner.scan(Collections.emptyList(),
+                session, () -> row -> row, 0));
+    }
+
+    private void tokenMap(TokenRange... ranges) {
+        TokenMap tokenMap = mock(TokenMap.class);
+        when(tokenMap.getTokenRanges()).thenReturn(Set.of(ranges));
+        when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+    }
+
+    private TokenRange range(long start, long end) {
+        return new Murmur3TokenRange(new Murmur3Token(start), new Murmur3Token(end));
+    }
+
+    private ResultSet resultSet(Object... values) {
+        List<Row> rows = Stream.of(values).map(value -> {
+            Row row = mock(Row.class);
+            when(row.getObject(0)).thenReturn(value);
+            return row;
+        }).collect(Collectors.toList());
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.iterator()).thenReturn(rows.iterator());
+        return resultSet;
+    }
+}
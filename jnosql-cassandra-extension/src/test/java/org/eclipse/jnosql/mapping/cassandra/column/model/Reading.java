@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.column.model;
+
+import jakarta.nosql.mapping.Column;
+import jakarta.nosql.mapping.Convert;
+import jakarta.nosql.mapping.Entity;
+import jakarta.nosql.mapping.Id;
+import org.eclipse.jnosql.mapping.cassandra.converters.EpochMilliConverter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+public class Reading {
+
+    @Id
+    private String sensor;
+
+    @Column
+    private Instant time;
+
+    @Column
+    private LocalDate day;
+
+    @Column
+    @Convert(EpochMilliConverter.class)
+    private long received;
+
+    @Column
+    private double value;
+
+    public String getSensor() {
+        return sensor;
+    }
+
+    public Instant getTime() {
+        return time;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public long getReceived() {
+        return received;
+    }
+
+    public double getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.cassandra.converters;
+
+import jakarta.nosql.mapping.AttributeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class EpochMilliConverterTest {
+
+    private final AttributeConverter<Long, Instant> converter = new EpochMilliConverter();
+
+    @Test
+    public void shouldConvertToDatabaseColumn() {
+        assertEquals(Instant.parse("2022-12-22T10:15:30Z"), converter.convertToDatabaseColumn(1671704130000L));
+        assertNull(converter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    public void shouldConvertToEntityAttribute() {
+        assertEquals(1671704130000L, converter.convertToEntityAttribute(Instant.parse("2022-12-22T10:15:30Z")));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The options of {@link MongoDBTemplate#aggregate(Class, java.util.List, Class, AggregateOptions)}, the settings
+ * that are not defined go with the server and driver defaults.
+ */
+public final class AggregateOptions {
+
+    private final Boolean allowDiskUse;
+
+    private final int batchSize;
+
+    private final Duration maxTime;
+
+    private AggregateOptions(Boolean allowDiskUse, int batchSize, Duration maxTime) {
+        this.allowDiskUse = allowDiskUse;
+        this.batchSize = batchSize;
+        this.maxTime = maxTime;
+    }
+
+    /**
+     * @return whether the stages can write to temporary files, empty to the server default
+     */
+    public Optional<Boolean> getAllowDiskUse() {
+        return Optional.ofNullable(allowDiskUse);
+    }
+
+    /**
+     * @return the number of documents of each batch of the cursor, zero to the server default
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum time of the processing, empty when there is no limit
+     */
+    public Optional<Duration> getMaxTime() {
+        return Optional.ofNullable(maxTime);
+    }
+
+    /**
+     * @return the options with the server and driver defaults
+     */
+    public static AggregateOptions defaults() {
+        return new AggregateOptions(null, 0, null);
+    }
+
+    /**
+     * @return a builder of {@link AggregateOptions}
+     */
+    public static AggregateOptionsBuilder builder() {
+        return new AggregateOptionsBuilder();
+    }
+
+    @Override
+    public String toString() {
+        return "AggregateOptions{" +
+                "allowDiskUse=" + allowDiskUse +
+                ", batchSize=" + batchSize +
+                ", maxTime=" + maxTime +
+                '}';
+    }
+
+    /**
+     * The builder of {@link AggregateOptions}
+     */
+    public static final class AggregateOptionsBuilder {
+
+        private Boolean allowDiskUse;
+
+        private int batchSize;
+
+        private Duration maxTime;
+
+        private AggregateOptionsBuilder() {
+        }
+
+        /**
+         * @param allowDiskUse whether the stages can write to temporary files
+         * @return this builder
+         */
+        public AggregateOptionsBuilder allowDiskUse(boolean allowDiskUse) {
+            this.allowDiskUse = allowDiskUse;
+            return this;
+        }
+
+        /**
+         * @param batchSize the number of documents of each batch of the cursor
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is negative
+         */
+        public AggregateOptionsBuilder batchSize(int batchSize) {
+            if (batchSize < 0) {
+                throw new IllegalArgumentException("The batch size cannot be negative: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxTime the maximum time of the processing
+         * @return this builder
+         * @throws NullPointerException     when maxTime is null
+         * @throws IllegalArgumentException when maxTime is negative
+         */
+        public AggregateOptionsBuilder maxTime(Duration maxTime) {
+            Objects.requireNonNull(maxTime, "maxTime is required");
+            if (maxTime.isNegative()) {
+                throw new IllegalArgumentException("The max time cannot be negative: " + maxTime);
+            }
+            this.maxTime = maxTime;
+            return this;
+        }
+
+        /**
+         * @return the options
+         */
+        public AggregateOptions build() {
+            return new AggregateOptions(allowDiskUse, batchSize, maxTime);
+        }
+    }
+}
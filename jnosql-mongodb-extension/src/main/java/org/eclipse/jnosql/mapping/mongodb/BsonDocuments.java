@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import jakarta.nosql.document.DocumentEntity;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts between the communication {@link DocumentEntity} and the driver {@link Document}, for the operations
+ * of {@link MongoDBTemplate} that go to the driver directly.
+ */
+final class BsonDocuments {
+
+    static final String ID = "_id";
+
+    private BsonDocuments() {
+    }
+
+    /**
+     * Converts the entity, the sub-documents become embedded documents
+     *
+     * @param entity the entity
+     * @return the driver document
+     * @throws NullPointerException when entity is null
+     */
+    static Document of(DocumentEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return new Document(entity.toMap());
+    }
+
+    /**
+     * Converts the driver document, the embedded documents become sub-documents, and the arrays of embedded
+     * documents lists of sub-documents
+     *
+     * @param name     the entity name
+     * @param document the driver document
+     * @return the entity
+     * @throws NullPointerException when either name or document is null
+     */
+    static DocumentEntity toEntity(String name, Document document) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(document, "document is required");
+        return DocumentEntity.of(name, documents(document));
+    }
+
+    private static List<jakarta.nosql.document.Document> documents(Map<String, Object> document) {
+        List<jakarta.nosql.document.Document> documents = new ArrayList<>(document.size());
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            documents.add(jakarta.nosql.document.Document.of(entry.getKey(), value(entry.getValue())));
+        }
+        return documents;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object value(Object value) {
+        if (value instanceof Map) {
+            return documents((Map<String, Object>) value);
+        }
+        if (value instanceof List) {
+            List<Object> values = new ArrayList<>();
+            for (Object element : (List<Object>) value) {
+                values.add(value(element));
+            }
+            return values;
+        }
+        return value;
+    }
+}
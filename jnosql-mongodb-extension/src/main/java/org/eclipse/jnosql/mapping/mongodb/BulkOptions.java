@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+/**
+ * The options of the bulk operations of {@link MongoDBTemplate}: the number of writes of each bulkWrite call, and
+ * whether the writes stop at the first failure, ordered, or go on with the others, unordered.
+ */
+public final class BulkOptions {
+
+    static final int DEFAULT_CHUNK_SIZE = 1_000;
+
+    private final boolean ordered;
+
+    private final int chunkSize;
+
+    private BulkOptions(boolean ordered, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        this.ordered = ordered;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates the options that stop the writes at the first failure, the writes after it are not sent.
+     *
+     * @param chunkSize the maximum number of writes of each bulkWrite call
+     * @return the options
+     * @throws IllegalArgumentException when chunkSize is not positive
+     */
+    public static BulkOptions ordered(int chunkSize) {
+        return new BulkOptions(true, chunkSize);
+    }
+
+    /**
+     * Creates the options that send every write, the server might apply them in any order within a chunk.
+     *
+     * @param chunkSize the maximum number of writes of each bulkWrite call
+     * @return the options
+     * @throws IllegalArgumentException when chunkSize is not positive
+     */
+    public static BulkOptions unordered(int chunkSize) {
+        return new BulkOptions(false, chunkSize);
+    }
+
+    /**
+     * @return true when the writes stop at the first failure
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * @return the maximum number of writes of each bulkWrite call
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOptions{" +
+                "ordered=" + ordered +
+                ", chunkSize=" + chunkSize +
+                '}';
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.bulk.BulkWriteError;
+
+import java.util.Collections;
+import java.util.SortedMap;
+
+/**
+ * The summary of a bulk operation of {@link MongoDBTemplate}. The writes that failed do not roll the others back;
+ * with {@link BulkOptions#isOrdered()} the writes after the first failure are not sent, so they are neither in the
+ * counts nor in the failures.
+ */
+public final class BulkResult {
+
+    private final int inserted;
+
+    private final int matched;
+
+    private final int modified;
+
+    private final int upserted;
+
+    private final int deleted;
+
+    private final SortedMap<Integer, BulkWriteError> failures;
+
+    BulkResult(int inserted, int matched, int modified, int upserted, int deleted,
+               SortedMap<Integer, BulkWriteError> failures) {
+        this.inserted = inserted;
+        this.matched = matched;
+        this.modified = modified;
+        this.upserted = upserted;
+        this.deleted = deleted;
+        this.failures = Collections.unmodifiableSortedMap(failures);
+    }
+
+    /**
+     * @return the number of documents inserted
+     */
+    public int getInserted() {
+        return inserted;
+    }
+
+    /**
+     * @return the number of documents that matched the filter of an upsert
+     */
+    public int getMatched() {
+        return matched;
+    }
+
+    /**
+     * @return the number of documents modified by an upsert, a document replaced by itself is matched only
+     */
+    public int getModified() {
+        return modified;
+    }
+
+    /**
+     * @return the number of documents inserted by an upsert
+     */
+    public int getUpserted() {
+        return upserted;
+    }
+
+    /**
+     * @return the number of documents deleted
+     */
+    public int getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * @return the number of writes that failed
+     */
+    public int getFailed() {
+        return failures.size();
+    }
+
+    /**
+     * @return the error of each write that failed by the position of its entity, or id, in the input, sorted by
+     * position; the index of the error itself is the position in its chunk
+     */
+    public SortedMap<Integer, BulkWriteError> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return true when no write failed
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{" +
+                "inserted=" + inserted +
+                ", matched=" + matched +
+                ", modified=" + modified +
+                ", upserted=" + upserted +
+                ", deleted=" + deleted +
+                ", failed=" + failures.size() +
+                '}';
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Sends the writes of a bulk operation as bulkWrite calls of at most {@link BulkOptions#getChunkSize()} writes,
+ * a chunk also ends when the collection changes. It keeps a single chunk in memory, so it must not be shared
+ * between threads.
+ */
+final class BulkWrites {
+
+    private final MongoDatabase database;
+
+    private final BulkOptions options;
+
+    private final List<WriteModel<Document>> chunk;
+
+    private final SortedMap<Integer, BulkWriteError> failures = new TreeMap<>();
+
+    private String collection;
+
+    private int start;
+
+    private boolean stopped;
+
+    private int inserted;
+
+    private int matched;
+
+    private int modified;
+
+    private int upserted;
+
+    private int deleted;
+
+    BulkWrites(MongoDatabase database, BulkOptions options) {
+        this.database = Objects.requireNonNull(database, "database is required");
+        this.options = Objects.requireNonNull(options, "options is required");
+        this.chunk = new ArrayList<>(Math.min(options.getChunkSize(), BulkOptions.DEFAULT_CHUNK_SIZE));
+    }
+
+    /**
+     * Adds the write of the next position, sending the chunk when it is full or when the collection changes
+     *
+     * @param collection the collection name
+     * @param write      the write
+     * @return false when an ordered bulk failed, so no more writes are sent
+     */
+    boolean add(String collection, WriteModel<Document> write) {
+        Objects.requireNonNull(collection, "collection is required");
+        Objects.requireNonNull(write, "write is required");
+        if (stopped) {
+            return false;
+        }
+        if (!chunk.isEmpty() && !collection.equals(this.collection)) {
+            flush();
+            if (stopped) {
+                return false;
+            }
+        }
+        this.collection = collection;
+        chunk.add(write);
+        if (chunk.size() >= options.getChunkSize()) {
+            flush();
+        }
+        return !stopped;
+    }
+
+    /**
+     * Sends the pending writes
+     *
+     * @return the summary of the writes sent
+     */
+    BulkResult finish() {
+        flush();
+        return new BulkResult(inserted, matched, modified, upserted, deleted, failures);
+    }
+
+    private void flush() {
+        if (chunk.isEmpty() || stopped) {
+            return;
+        }
+        try {
+            count(database.getCollection(collection)
+                    .bulkWrite(chunk, new BulkWriteOptions().ordered(options.isOrdered())));
+        } catch (MongoBulkWriteException exception) {
+            count(exception.getWriteResult());
+            for (BulkWriteError error : exception.getWriteErrors()) {
+                failures.put(start + error.getIndex(), error);
+            }
+            stopped = options.isOrdered() && !exception.getWriteErrors().isEmpty();
+        }
+        start += chunk.size();
+        chunk.clear();
+    }
+
+    private void count(BulkWriteResult result) {
+        if (result == null || !result.wasAcknowledged()) {
+            return;
+        }
+        inserted += result.getInsertedCount();
+        matched += result.getMatchedCount();
+        modified += result.getModifiedCount();
+        upserted += result.getUpserts().size();
+        deleted += result.getDeletedCount();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A change of the collection of an entity, delivered to {@link ChangeStreamListener}.
+ *
+ * @param <T> the entity type
+ */
+public final class ChangeEvent<T> {
+
+    private final OperationType operation;
+
+    private final BsonValue id;
+
+    private final T entity;
+
+    private final BsonDocument resumeToken;
+
+    private ChangeEvent(OperationType operation, BsonValue id, T entity, BsonDocument resumeToken) {
+        this.operation = operation;
+        this.id = id;
+        this.entity = entity;
+        this.resumeToken = resumeToken;
+    }
+
+    /**
+     * @return the operation of the change
+     */
+    public OperationType getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the _id of the changed document, empty to the changes of the collection itself, such as drop
+     */
+    public Optional<BsonValue> getId() {
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Returns the entity of the full document: the inserted or replaced document, or the current document of an
+     * update. It is empty to a delete, and to an update whose document was deleted before the lookup.
+     *
+     * @return the entity
+     */
+    public Optional<T> getEntity() {
+        return Optional.ofNullable(entity);
+    }
+
+    /**
+     * @return the token that resumes the change stream right after this change
+     */
+    public BsonDocument getResumeToken() {
+        return resumeToken;
+    }
+
+    static <T> ChangeEvent<T> of(ChangeStreamDocument<T> document) {
+        Objects.requireNonNull(document, "document is required");
+        BsonDocument key = document.getDocumentKey();
+        BsonValue id = key == null ? null : key.get(BsonDocuments.ID);
+        return new ChangeEvent<>(document.getOperationType(), id, document.getFullDocument(),
+                document.getResumeToken());
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeEvent{" +
+                "operation=" + operation +
+                ", id=" + id +
+                ", entity=" + entity +
+                '}';
+    }
+}
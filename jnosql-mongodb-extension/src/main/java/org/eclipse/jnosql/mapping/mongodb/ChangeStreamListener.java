@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import java.util.List;
+
+/**
+ * Receives the changes of {@link MongoDBTemplate#watch(Class, org.bson.conversions.Bson, ChangeStreamListener)}
+ * in micro-batches, always from the same thread.
+ *
+ * @param <T> the entity type
+ */
+@FunctionalInterface
+public interface ChangeStreamListener<T> {
+
+    /**
+     * Receives a batch of changes in the order of the change stream. The resume token is only stored after this
+     * method returns, so when it throws an exception, the batch is delivered again when the watch opens the change
+     * stream after {@link ChangeStreamOptions#getRetryDelay()}.
+     *
+     * @param events the changes, never empty
+     */
+    void onChanges(List<ChangeEvent<T>> events);
+
+    /**
+     * Receives each failure before the watch opens the change stream again, e.g. to close the
+     * {@link ChangeStreamSubscription} on a failure that is not worth retrying; by default it does nothing.
+     *
+     * @param exception the failure of either the change stream or {@link #onChanges(List)}
+     */
+    default void onError(RuntimeException exception) {
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The options of {@link MongoDBTemplate#watch(Class, org.bson.conversions.Bson, ChangeStreamListener,
+ * ChangeStreamOptions)}.
+ */
+public final class ChangeStreamOptions {
+
+    /**
+     * The default maximum number of changes of each batch to the listener
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    /**
+     * The default maximum time a change waits for its batch to fill
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(1);
+
+    /**
+     * The default minimum time between two stored resume tokens
+     */
+    public static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * The default time before the change stream opens again after a failure
+     */
+    public static final Duration DEFAULT_RETRY_DELAY = Duration.ofSeconds(1);
+
+    /**
+     * The default maximum time before the change stream opens again after consecutive failures
+     */
+    public static final Duration DEFAULT_MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final String name;
+
+    private final int batchSize;
+
+    private final Duration maxWait;
+
+    private final Duration checkpointInterval;
+
+    private final ResumeTokenStore store;
+
+    private final Duration retryDelay;
+
+    private final Duration maxRetryDelay;
+
+    private ChangeStreamOptions(String name, int batchSize, Duration maxWait, Duration checkpointInterval,
+                                ResumeTokenStore store, Duration retryDelay, Duration maxRetryDelay) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.checkpointInterval = checkpointInterval;
+        this.store = store;
+        this.retryDelay = retryDelay;
+        this.maxRetryDelay = maxRetryDelay;
+    }
+
+    /**
+     * @return the name of the watch in the {@link ResumeTokenStore}, empty to the collection name
+     */
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    /**
+     * @return the maximum number of changes of each batch to the listener
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum time a change waits for its batch to fill, it is also the server await time of the
+     * change stream
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * @return the minimum time between two stored resume tokens
+     */
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * @return the store of the resume tokens, empty to start the watch always from the current time
+     */
+    public Optional<ResumeTokenStore> getStore() {
+        return Optional.ofNullable(store);
+    }
+
+    /**
+     * @return the time before the change stream opens again after a failure, it doubles by consecutive failure
+     */
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    /**
+     * @return the maximum time before the change stream opens again after consecutive failures
+     */
+    public Duration getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    /**
+     * @return the options with the defaults and without a {@link ResumeTokenStore}
+     */
+    public static ChangeStreamOptions defaults() {
+        return builder().build();
+    }
+
+    /**
+     * @return a builder of {@link ChangeStreamOptions}
+     */
+    public static ChangeStreamOptionsBuilder builder() {
+        return new ChangeStreamOptionsBuilder();
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeStreamOptions{" +
+                "name='" + name + '\'' +
+                ", batchSize=" + batchSize +
+                ", maxWait=" + maxWait +
+                ", checkpointInterval=" + checkpointInterval +
+                ", store=" + store +
+                ", retryDelay=" + retryDelay +
+                ", maxRetryDelay=" + maxRetryDelay +
+                '}';
+    }
+
+    /**
+     * The builder of {@link ChangeStreamOptions}
+     */
+    public static final class ChangeStreamOptionsBuilder {
+
+        private String name;
+
+        private int batchSize = DEFAULT_BATCH_SIZE;
+
+        private Duration maxWait = DEFAULT_MAX_WAIT;
+
+        private Duration checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+
+        private ResumeTokenStore store;
+
+        private Duration retryDelay = DEFAULT_RETRY_DELAY;
+
+        private Duration maxRetryDelay = DEFAULT_MAX_RETRY_DELAY;
+
+        private ChangeStreamOptionsBuilder() {
+        }
+
+        /**
+         * @param name the name of the watch in the {@link ResumeTokenStore}
+         * @return this builder
+         * @throws NullPointerException when name is null
+         */
+        public ChangeStreamOptionsBuilder name(String name) {
+            this.name = Objects.requireNonNull(name, "name is required");
+            return this;
+        }
+
+        /**
+         * @param batchSize the maximum number of changes of each batch to the listener
+         * @return this builder
+         * @throws IllegalArgumentException when batchSize is less than one
+         */
+        public ChangeStreamOptionsBuilder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param maxWait the maximum time a change waits for its batch to fill
+         * @return this builder
+         * @throws NullPointerException     when maxWait is null
+         * @throws IllegalArgumentException when maxWait is not positive
+         */
+        public ChangeStreamOptionsBuilder maxWait(Duration maxWait) {
+            Objects.requireNonNull(maxWait, "maxWait is required");
+            if (maxWait.isNegative() || maxWait.isZero()) {
+                throw new IllegalArgumentException("The max wait must be positive: " + maxWait);
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * @param checkpointInterval the minimum time between two stored resume tokens, zero to store it after
+         *                           every batch
+         * @return this builder
+         * @throws NullPointerException     when checkpointInterval is null
+         * @throws IllegalArgumentException when checkpointInterval is negative
+         */
+        public ChangeStreamOptionsBuilder checkpointInterval(Duration checkpointInterval) {
+            Objects.requireNonNull(checkpointInterval, "checkpointInterval is required");
+            if (checkpointInterval.isNegative()) {
+                throw new IllegalArgumentException("The checkpoint interval cannot be negative: "
+                        + checkpointInterval);
+            }
+            this.checkpointInterval = checkpointInterval;
+            return this;
+        }
+
+        /**
+         * @param store the store of the resume tokens
+         * @return this builder
+         * @throws NullPointerException when store is null
+         */
+        public ChangeStreamOptionsBuilder store(ResumeTokenStore store) {
+            this.store = Objects.requireNonNull(store, "store is required");
+            return this;
+        }
+
+        /**
+         * @param retryDelay    the time before the change stream opens again after a failure
+         * @param maxRetryDelay the maximum time before the change stream opens again after consecutive failures
+         * @return this builder
+         * @throws NullPointerException     when either retryDelay or maxRetryDelay is null
+         * @throws IllegalArgumentException when retryDelay is not positive or is greater than maxRetryDelay
+         */
+        public ChangeStreamOptionsBuilder retryDelay(Duration retryDelay, Duration maxRetryDelay) {
+            Objects.requireNonNull(retryDelay, "retryDelay is required");
+            Objects.requireNonNull(maxRetryDelay, "maxRetryDelay is required");
+            if (retryDelay.isNegative() || retryDelay.isZero()) {
+                throw new IllegalArgumentException("The retry delay must be positive: " + retryDelay);
+            }
+            if (retryDelay.compareTo(maxRetryDelay) > 0) {
+                throw new IllegalArgumentException("The retry delay cannot be greater than the max retry delay: "
+                        + retryDelay + " > " + maxRetryDelay);
+            }
+            this.retryDelay = retryDelay;
+            this.maxRetryDelay = maxRetryDelay;
+            return this;
+        }
+
+        /**
+         * @return the options
+         */
+        public ChangeStreamOptions build() {
+            return new ChangeStreamOptions(name, batchSize, maxWait, checkpointInterval, store, retryDelay,
+                    maxRetryDelay);
+        }
+    }
+}
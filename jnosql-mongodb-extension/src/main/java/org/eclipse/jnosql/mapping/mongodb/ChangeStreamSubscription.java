@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import org.bson.BsonDocument;
+
+import java.util.Optional;
+
+/**
+ * A running watch of {@link MongoDBTemplate#watch(Class, org.bson.conversions.Bson, ChangeStreamListener)}.
+ */
+public interface ChangeStreamSubscription extends AutoCloseable {
+
+    /**
+     * @return the name of the watch in the {@link ResumeTokenStore}
+     */
+    String getName();
+
+    /**
+     * @return whether the watch is still receiving changes, false after {@link #close()}
+     */
+    boolean isRunning();
+
+    /**
+     * @return the token after the last change delivered to the listener, or after the changes the filter skipped
+     */
+    Optional<BsonDocument> getResumeToken();
+
+    /**
+     * Stops the watch; it waits for the batch in delivery and stores the last resume token.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import org.bson.BsonDocument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads a change stream in a thread of its own: the changes go to the listener in batches of up to the batch size,
+ * or of what arrived in the max wait, and the resume token of the last delivered batch is stored at most once by
+ * checkpoint interval, and when the watch stops. Since a token is only stored after its batch, a change is delivered
+ * at least once across restarts. A failure of the change stream or of the listener does not stop the watch: the
+ * stream is opened again after the retry delay, doubled by consecutive failure up to the max retry delay, from the
+ * token of the last delivered batch, so the failed batch is delivered again. Only {@link #close()} stops it.
+ */
+final class ChangeStreamWatcher<T> implements ChangeStreamSubscription, Runnable {
+
+    private static final Logger LOGGER = Logger.getLogger(ChangeStreamWatcher.class.getName());
+
+    private final String name;
+
+    private final ChangeStreamIterable<T> iterable;
+
+    private final ChangeStreamListener<T> listener;
+
+    private final int batchSize;
+
+    private final long maxWait;
+
+    private final long checkpointInterval;
+
+    private final ResumeTokenStore store;
+
+    private final long retryDelay;
+
+    private final long maxRetryDelay;
+
+    private final Consumer<ChangeStreamWatcher<T>> onStop;
+
+    private final CountDownLatch stop = new CountDownLatch(1);
+
+    private volatile boolean running = true;
+
+    private volatile BsonDocument token;
+
+    private BsonDocument storedToken;
+
+    private long lastCheckpoint;
+
+    private long delay;
+
+    private boolean opened;
+
+    private Thread thread;
+
+    ChangeStreamWatcher(String name, ChangeStreamIterable<T> iterable, ChangeStreamListener<T> listener,
+                        ChangeStreamOptions options) {
+        this(name, iterable, listener, options, w -> { });
+    }
+
+    ChangeStreamWatcher(String name, ChangeStreamIterable<T> iterable, ChangeStreamListener<T> listener,
+                        ChangeStreamOptions options, Consumer<ChangeStreamWatcher<T>> onStop) {
+        this.name = Objects.requireNonNull(name, "name is required");
+        this.iterable = Objects.requireNonNull(iterable, "iterable is required");
+        this.listener = Objects.requireNonNull(listener, "listener is required");
+        Objects.requireNonNull(options, "options is required");
+        this.batchSize = options.getBatchSize();
+        this.maxWait = options.getMaxWait().toNanos();
+        this.checkpointInterval = options.getCheckpointInterval().toNanos();
+        this.store = options.getStore().orElse(null);
+        this.retryDelay = options.getRetryDelay().toNanos();
+        this.maxRetryDelay = options.getMaxRetryDelay().toNanos();
+        this.delay = retryDelay;
+        this.onStop = Objects.requireNonNull(onStop, "onStop is required");
+    }
+
+    ChangeStreamWatcher<T> start() {
+        Thread watch = new Thread(this, "jnosql-mongodb-watch-" + name);
+        watch.setDaemon(true);
+        this.thread = watch;
+        watch.start();
+        return this;
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                try {
+                    watch();
+                } catch (RuntimeException exception) {
+                    LOGGER.log(Level.WARNING, "The watch " + name + " failed, it opens again in "
+                            + TimeUnit.NANOSECONDS.toMillis(delay) + " ms", exception);
+                    onError(exception);
+                    checkpoint(true);
+                    pause();
+                }
+            }
+        } finally {
+            running = false;
+            checkpoint(true);
+            onStop.accept(this);
+        }
+    }
+
+    private void watch() {
+        try (MongoChangeStreamCursor<ChangeStreamDocument<T>> cursor = open()) {
+            List<ChangeEvent<T>> batch = new ArrayList<>(batchSize);
+            long batchStart = 0;
+            while (running) {
+                ChangeStreamDocument<T> document = cursor.tryNext();
+                if (document != null) {
+                    if (batch.isEmpty()) {
+                        batchStart = System.nanoTime();
+                    }
+                    batch.add(ChangeEvent.of(document));
+                }
+                if (!batch.isEmpty() && (document == null || batch.size() >= batchSize
+                        || System.nanoTime() - batchStart >= maxWait)) {
+                    listener.onChanges(batch);
+                    token = batch.get(batch.size() - 1).getResumeToken();
+                    batch = new ArrayList<>(batchSize);
+                    delay = retryDelay;
+                } else if (batch.isEmpty() && document == null) {
+                    if (cursor.getResumeToken() != null) {
+                        // an idle cursor still moves past the changes the filter skipped
+                        token = cursor.getResumeToken();
+                    }
+                    delay = retryDelay;
+                }
+                checkpoint(false);
+            }
+        }
+    }
+
+    private void onError(RuntimeException exception) {
+        try {
+            listener.onError(exception);
+        } catch (RuntimeException error) {
+            LOGGER.log(Level.WARNING, "The listener of the watch " + name + " failed on the error", error);
+        }
+    }
+
+    private void pause() {
+        try {
+            stop.await(delay, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+        delay = Math.min(delay * 2, maxRetryDelay);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public Optional<BsonDocument> getResumeToken() {
+        return Optional.ofNullable(token);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        stop.countDown();
+        Thread watch = thread;
+        if (watch != null && watch != Thread.currentThread()) {
+            try {
+                watch.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<T>> open() {
+        if (!opened) {
+            iterable.fullDocument(FullDocument.UPDATE_LOOKUP);
+            iterable.batchSize(batchSize);
+            iterable.maxAwaitTime(TimeUnit.NANOSECONDS.toMillis(maxWait), TimeUnit.MILLISECONDS);
+            if (store != null) {
+                Optional<BsonDocument> resumeToken = store.load(name);
+                resumeToken.ifPresent(iterable::resumeAfter);
+                storedToken = resumeToken.orElse(null);
+                token = storedToken;
+            }
+            lastCheckpoint = System.nanoTime();
+            opened = true;
+        } else if (token != null) {
+            iterable.resumeAfter(token);
+        }
+        return iterable.cursor();
+    }
+
+    private void checkpoint(boolean force) {
+        BsonDocument current = token;
+        if (store == null || current == null || current.equals(storedToken)) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (!force && now - lastCheckpoint < checkpointInterval) {
+            return;
+        }
+        try {
+            store.save(name, current);
+            storedToken = current;
+        } catch (RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "The resume token of the watch " + name + " was not stored", exception);
+        }
+        lastCheckpoint = now;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeStreamWatcher{" +
+                "name='" + name + '\'' +
+                ", batchSize=" + batchSize +
+                ", running=" + running +
+                ", token=" + token +
+                '}';
+    }
+}
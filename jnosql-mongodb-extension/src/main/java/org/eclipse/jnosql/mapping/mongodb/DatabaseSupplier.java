@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.AuthenticationMechanism;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoDatabase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import jakarta.nosql.Configurations;
+import jakarta.nosql.Settings;
+import jakarta.nosql.mapping.MappingException;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import static org.eclipse.jnosql.mapping.config.MappingConfigurations.DOCUMENT_DATABASE;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.AUTHENTICATION_MECHANISM;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.AUTHENTICATION_SOURCE;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.HOST;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.PASSWORD;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.URL;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.USER;
+
+/**
+ * Produces the driver {@link MongoClient} of the extension and the {@link MongoDatabase} of
+ * {@code jnosql.document.database}. The MongoDBDocumentManager runs on this client, and so do the operations that
+ * need to work at the driver level, such as the bulk writes of {@link MongoDBTemplate}, so every setting applies
+ * to both.
+ */
+@ApplicationScoped
+class DatabaseSupplier implements Supplier<MongoClient> {
+
+    private static final Logger LOGGER = Logger.getLogger(DatabaseSupplier.class.getName());
+
+    private static final String DEFAULT_AUTHENTICATION_SOURCE = "admin";
+
+    @Override
+    @Produces
+    @ApplicationScoped
+    @Typed(MongoClient.class)
+    public MongoClient get() {
+        LOGGER.log(Level.FINEST, "Starting a MongoClient instance using Eclipse MicroProfile Config");
+        return MongoClients.create(clientSettings(MicroProfileSettings.INSTANCE));
+    }
+
+    /**
+     * Reads the client settings with the keys of the MongoDB communication layer: the connection string takes
+     * precedence over the hosts and credential, and the hosts, user and password fall back to the
+     * {@link Configurations} keys. The credential uses the authentication mechanism when it is set, otherwise the
+     * driver negotiates it with the server.
+     *
+     * @param settings the settings
+     * @return the driver client settings
+     * @throws IllegalArgumentException when the authentication mechanism is unknown
+     */
+    static MongoClientSettings clientSettings(Settings settings) {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder();
+        Optional<String> url = settings.get(URL.get()).map(Object::toString);
+        if (url.isPresent()) {
+            return builder.applyConnectionString(new ConnectionString(url.get())).build();
+        }
+        List<ServerAddress> hosts = settings.prefix(List.of(HOST.get(), Configurations.HOST.get()))
+                .stream()
+                .map(Object::toString)
+                .map(ServerAddress::new)
+                .collect(Collectors.toList());
+        if (!hosts.isEmpty()) {
+            builder.applyToClusterSettings(cluster -> cluster.hosts(hosts));
+        }
+        credential(settings).ifPresent(builder::credential);
+        return builder.build();
+    }
+
+    private static Optional<MongoCredential> credential(Settings settings) {
+        Optional<String> user = settings.get(List.of(USER.get(), Configurations.USER.get())).map(Object::toString);
+        if (user.isEmpty()) {
+            return Optional.empty();
+        }
+        char[] password = settings.get(List.of(PASSWORD.get(), Configurations.PASSWORD.get()))
+                .map(Object::toString).map(String::toCharArray).orElse(null);
+        String source = settings.get(AUTHENTICATION_SOURCE.get()).map(Object::toString)
+                .orElse(DEFAULT_AUTHENTICATION_SOURCE);
+        Optional<AuthenticationMechanism> mechanism = settings.get(AUTHENTICATION_MECHANISM.get())
+                .map(Object::toString)
+                .map(AuthenticationMechanism::fromMechanismName);
+        if (mechanism.isEmpty()) {
+            return password == null ? Optional.empty()
+                    : Optional.of(MongoCredential.createCredential(user.get(), source, password));
+        }
+        switch (mechanism.get()) {
+            case GSSAPI:
+                return Optional.of(MongoCredential.createGSSAPICredential(user.get()));
+            case MONGODB_X509:
+                return Optional.of(MongoCredential.createMongoX509Credential(user.get()));
+            case MONGODB_AWS:
+                return Optional.of(MongoCredential.createAwsCredential(user.get(), password));
+            case PLAIN:
+                return Optional.of(MongoCredential.createPlainCredential(user.get(), source, password));
+            case SCRAM_SHA_1:
+                return Optional.of(MongoCredential.createScramSha1Credential(user.get(), source, password));
+            case SCRAM_SHA_256:
+                return Optional.of(MongoCredential.createScramSha256Credential(user.get(), source, password));
+            default:
+                throw new IllegalArgumentException("The authentication mechanism is not supported: "
+                        + mechanism.get());
+        }
+    }
+
+    /**
+     * Reads the name of the database
+     *
+     * @param settings the settings
+     * @return the database name
+     * @throws MappingException when the database is not defined
+     */
+    static String databaseName(Settings settings) {
+        Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
+        return database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
+                + DOCUMENT_DATABASE));
+    }
+
+    @Produces
+    @ApplicationScoped
+    @Typed(MongoDatabase.class)
+    public MongoDatabase database(MongoClient client) {
+        return client.getDatabase(databaseName(MicroProfileSettings.INSTANCE));
+    }
+
+    public void close(@Disposes MongoClient client) {
+        LOGGER.log(Level.FINEST, "Closing MongoClient resource");
+        client.close();
+    }
+}
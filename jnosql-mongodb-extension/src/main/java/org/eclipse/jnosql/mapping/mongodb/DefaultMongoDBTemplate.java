@@ -14,25 +14,58 @@
  */
 package org.eclipse.jnosql.mapping.mongodb;
 
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import jakarta.nosql.Settings;
+import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.mapping.AttributeConverter;
 import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.IdNotFoundException;
 import jakarta.nosql.mapping.document.DocumentEntityConverter;
 import jakarta.nosql.mapping.document.DocumentEventPersistManager;
 import jakarta.nosql.mapping.document.DocumentWorkflow;
 import org.bson.BsonValue;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentManager;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.document.AbstractDocumentTemplate;
+import org.eclipse.jnosql.mapping.metamodel.api.Attribute;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.BULK_CHUNK_SIZE;
+import static org.eclipse.jnosql.mapping.mongodb.MongoDBExtensionConfigurations.BULK_ORDERED;
 
 
 @ApplicationScoped
@@ -51,6 +84,14 @@ class DefaultMongoDBTemplate extends AbstractDocumentTemplate implements MongoDB
 
     private DocumentEventPersistManager persistManager;
 
+    private Instance<MongoDatabase> database;
+
+    private BulkOptions bulk;
+
+    private ResultCodecs codecs;
+
+    private final Set<ChangeStreamWatcher<?>> watchers = ConcurrentHashMap.newKeySet();
+
     /**
      * To CDI only
      */
@@ -58,18 +99,42 @@ class DefaultMongoDBTemplate extends AbstractDocumentTemplate implements MongoDB
     DefaultMongoDBTemplate() {
     }
 
+    @Inject
     DefaultMongoDBTemplate(Instance<MongoDBDocumentManager> manager,
             DocumentEntityConverter converter,
             DocumentWorkflow workflow,
             EntitiesMetadata entities,
             Converters converters,
-            DocumentEventPersistManager persistManager) {
+            DocumentEventPersistManager persistManager,
+            Instance<MongoDatabase> database) {
+        this(manager, converter, workflow, entities, converters, persistManager, database, bulkOptions());
+    }
+
+    DefaultMongoDBTemplate(Instance<MongoDBDocumentManager> manager,
+            DocumentEntityConverter converter,
+            DocumentWorkflow workflow,
+            EntitiesMetadata entities,
+            Converters converters,
+            DocumentEventPersistManager persistManager,
+            Instance<MongoDatabase> database,
+            BulkOptions bulk) {
         this.manager = manager;
         this.converter = converter;
         this.workflow = workflow;
         this.entities = entities;
         this.converters = converters;
         this.persistManager = persistManager;
+        this.database = database;
+        this.bulk = Objects.requireNonNull(bulk, "bulk is required");
+        this.codecs = new ResultCodecs(entities, converters, converter,
+                () -> database.get().getCodecRegistry());
+    }
+
+    private static BulkOptions bulkOptions() {
+        Settings settings = MicroProfileSettings.INSTANCE;
+        int chunkSize = settings.get(BULK_CHUNK_SIZE.get(), Integer.class).orElse(BulkOptions.DEFAULT_CHUNK_SIZE);
+        boolean ordered = settings.get(BULK_ORDERED.get(), Boolean.class).orElse(false);
+        return ordered ? BulkOptions.ordered(chunkSize) : BulkOptions.unordered(chunkSize);
     }
 
     @Override
@@ -134,6 +199,46 @@ class DefaultMongoDBTemplate extends AbstractDocumentTemplate implements MongoDB
         return entityStream.map(this.converter::toEntity);
     }
 
+    @Override
+    public <T> Stream<T> select(Class<T> entity, Bson filter, Bson projection) {
+        return select(entity, filter, projection, entity);
+    }
+
+    @Override
+    public <T, R> Stream<R> select(Class<T> entity, Bson filter, Bson projection, Class<R> resultType) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(projection, "projection is required");
+        Objects.requireNonNull(resultType, "resultType is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        FindIterable<R> iterable = database.get().getCollection(entityMetadata.getName())
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(codecs.get(resultType, projection)), codecs.getRegistry()))
+                .find(filter, resultType)
+                .projection(projection);
+        return stream(iterable.iterator());
+    }
+
+    @Override
+    public <T> Stream<T> select(Class<T> entity, Bson filter, List<? extends Attribute<T, ?>> attributes) {
+        return select(entity, filter, attributes, entity);
+    }
+
+    @Override
+    public <T, R> Stream<R> select(Class<T> entity, Bson filter, List<? extends Attribute<T, ?>> attributes,
+                                   Class<R> resultType) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(attributes, "attributes is required");
+        if (attributes.isEmpty()) {
+            throw new IllegalArgumentException("The attributes cannot be empty");
+        }
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        List<String> fields = attributes.stream()
+                .map(a -> entityMetadata.getColumnField(Objects.requireNonNull(a, "attribute is required").getName()))
+                .collect(Collectors.toList());
+        return select(entity, filter, Projections.include(fields), resultType);
+    }
+
     @Override
     public Stream<Map<String, BsonValue>> aggregate(String collectionName, List<Bson> pipeline) {
         Objects.requireNonNull(collectionName, "collectionName is required");
@@ -149,4 +254,136 @@ class DefaultMongoDBTemplate extends AbstractDocumentTemplate implements MongoDB
         return this.getManager().aggregate(entityMetadata.getName(), pipeline);
     }
 
+    @Override
+    public <T, R> Stream<R> aggregate(Class<T> entity, List<Bson> pipeline, Class<R> resultType,
+                                      AggregateOptions options) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(resultType, "resultType is required");
+        Objects.requireNonNull(options, "options is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        AggregateIterable<R> iterable = database.get().getCollection(entityMetadata.getName())
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(codecs.get(resultType)), codecs.getRegistry()))
+                .aggregate(pipeline, resultType);
+        options.getAllowDiskUse().ifPresent(iterable::allowDiskUse);
+        if (options.getBatchSize() > 0) {
+            iterable.batchSize(options.getBatchSize());
+        }
+        options.getMaxTime().ifPresent(t -> iterable.maxTime(t.toMillis(), TimeUnit.MILLISECONDS));
+        return stream(iterable.iterator());
+    }
+
+    @Override
+    public <T> BulkResult bulkInsert(Iterable<T> entities) {
+        return bulkInsert(entities, bulk);
+    }
+
+    @Override
+    public <T> BulkResult bulkInsert(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        BulkWrites writes = new BulkWrites(database.get(), options);
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            DocumentEntity document = this.converter.toDocument(entity);
+            if (!writes.add(document.getName(), new InsertOneModel<>(BsonDocuments.of(document)))) {
+                break;
+            }
+        }
+        return writes.finish();
+    }
+
+    @Override
+    public <T> BulkResult bulkUpsert(Iterable<T> entities) {
+        return bulkUpsert(entities, bulk);
+    }
+
+    @Override
+    public <T> BulkResult bulkUpsert(Iterable<T> entities, BulkOptions options) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(options, "options is required");
+        BulkWrites writes = new BulkWrites(database.get(), options);
+        ReplaceOptions upsert = new ReplaceOptions().upsert(true);
+        for (T entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            FieldMapping id = this.entities.get(entity.getClass()).getId()
+                    .orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+            DocumentEntity document = this.converter.toDocument(entity);
+            Object value = document.find(id.getName()).map(Document::get)
+                    .orElseThrow(() -> new IdNotFoundException("The id is required to upsert the entity: " + entity));
+            ReplaceOneModel<org.bson.Document> write = new ReplaceOneModel<>(Filters.eq(id.getName(), value),
+                    BsonDocuments.of(document), upsert);
+            if (!writes.add(document.getName(), write)) {
+                break;
+            }
+        }
+        return writes.finish();
+    }
+
+    @Override
+    public <T, K> BulkResult bulkDelete(Class<T> entity, Iterable<K> ids) {
+        return bulkDelete(entity, ids, bulk);
+    }
+
+    @Override
+    public <T, K> BulkResult bulkDelete(Class<T> entity, Iterable<K> ids, BulkOptions options) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ids, "ids is required");
+        Objects.requireNonNull(options, "options is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        FieldMapping id = entityMetadata.getId().orElseThrow(() -> IdNotFoundException.newInstance(entity));
+        BulkWrites writes = new BulkWrites(database.get(), options);
+        for (K key : ids) {
+            Objects.requireNonNull(key, "id is required");
+            if (!writes.add(entityMetadata.getName(), new DeleteOneModel<>(Filters.eq(id.getName(),
+                    toDatabase(id, key))))) {
+                break;
+            }
+        }
+        return writes.finish();
+    }
+
+    private Object toDatabase(FieldMapping id, Object value) {
+        Optional<Class<? extends AttributeConverter<Object, Object>>> converter = id.getConverter();
+        return converter.map(c -> converters.get(c).convertToDatabaseColumn(value)).orElse(value);
+    }
+
+    @Override
+    public <T> ChangeStreamSubscription watch(Class<T> entity, Bson filter, ChangeStreamListener<T> listener) {
+        return watch(entity, filter, listener, ChangeStreamOptions.defaults());
+    }
+
+    @Override
+    public <T> ChangeStreamSubscription watch(Class<T> entity, Bson filter, ChangeStreamListener<T> listener,
+                                              ChangeStreamOptions options) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        Objects.requireNonNull(listener, "listener is required");
+        Objects.requireNonNull(options, "options is required");
+        EntityMetadata entityMetadata = this.entities.get(entity);
+        ChangeStreamIterable<T> iterable = database.get().getCollection(entityMetadata.getName())
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(codecs.get(entity)), codecs.getRegistry()))
+                .watch(List.of(Aggregates.match(filter)), entity);
+        String name = options.getName().orElse(entityMetadata.getName());
+        ChangeStreamWatcher<T> watcher = new ChangeStreamWatcher<>(name, iterable, listener, options,
+                watchers::remove);
+        watchers.add(watcher);
+        return watcher.start();
+    }
+
+    /**
+     * Closes the watches still running, so their threads stop and their last resume tokens are stored.
+     */
+    @PreDestroy
+    void close() {
+        watchers.forEach(ChangeStreamWatcher::close);
+    }
+
+    private static <T> Stream<T> stream(MongoCursor<T> cursor) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Typed;
+import jakarta.inject.Inject;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.IdNotFoundException;
+import jakarta.nosql.mapping.document.DocumentEntityConverter;
+import jakarta.nosql.mapping.document.DocumentEventPersistManager;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Objects;
+
+@ApplicationScoped
+@Typed(ReactiveMongoDBTemplate.class)
+class DefaultReactiveMongoDBTemplate implements ReactiveMongoDBTemplate {
+
+    private Instance<MongoDatabase> database;
+
+    private DocumentEntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+    private DocumentEventPersistManager persistManager;
+
+    private ResultCodecs codecs;
+
+    @Inject
+    DefaultReactiveMongoDBTemplate(Instance<MongoDatabase> database,
+                                   DocumentEntityConverter converter,
+                                   EntitiesMetadata entities,
+                                   Converters converters,
+                                   DocumentEventPersistManager persistManager) {
+        this.database = database;
+        this.converter = converter;
+        this.entities = entities;
+        this.persistManager = persistManager;
+        this.codecs = new ResultCodecs(entities, converters, converter,
+                () -> database.get().getCodecRegistry());
+    }
+
+    DefaultReactiveMongoDBTemplate() {
+    }
+
+    @Override
+    public <T> Publisher<T> insert(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return Publishers.defer(() -> {
+            DocumentEntity document = toDocument(entity);
+            org.bson.Document bson = BsonDocuments.of(document);
+            Publisher<?> insert = database.get().getCollection(document.getName()).insertOne(bson);
+            return Publishers.map(insert, r -> {
+                Object id = bson.get(BsonDocuments.ID);
+                if (id != null && !document.contains(BsonDocuments.ID)) {
+                    document.add(BsonDocuments.ID, id);
+                }
+                return toEntity(entity, document);
+            });
+        });
+    }
+
+    @Override
+    public <T> Publisher<T> update(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        FieldMapping id = entities.get(entity.getClass()).getId()
+                .orElseThrow(() -> IdNotFoundException.newInstance(entity.getClass()));
+        return Publishers.defer(() -> {
+            DocumentEntity document = toDocument(entity);
+            Object value = document.find(id.getName()).map(Document::get)
+                    .orElseThrow(() -> new IdNotFoundException("The id is required to update the entity: " + entity));
+            Publisher<?> update = database.get().getCollection(document.getName())
+                    .replaceOne(Filters.eq(id.getName(), value), BsonDocuments.of(document));
+            return Publishers.map(update, r -> toEntity(entity, document));
+        });
+    }
+
+    @Override
+    public <T> Publisher<T> select(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        return collection(entity, entity).find(filter, entity);
+    }
+
+    @Override
+    public <T, R> Publisher<R> aggregate(Class<T> entity, List<Bson> pipeline, Class<R> resultType) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(pipeline, "pipeline is required");
+        Objects.requireNonNull(resultType, "resultType is required");
+        return collection(entity, resultType).aggregate(pipeline, resultType);
+    }
+
+    @Override
+    public <T> Publisher<Long> delete(Class<T> entity, Bson filter) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(filter, "filter is required");
+        EntityMetadata entityMetadata = entities.get(entity);
+        Publisher<DeleteResult> delete = database.get().getCollection(entityMetadata.getName()).deleteMany(filter);
+        return Publishers.map(delete, DeleteResult::getDeletedCount);
+    }
+
+    private MongoCollection<org.bson.Document> collection(Class<?> entity, Class<?> resultType) {
+        EntityMetadata entityMetadata = entities.get(entity);
+        return database.get().getCollection(entityMetadata.getName())
+                .withCodecRegistry(CodecRegistries.fromRegistries(
+                        CodecRegistries.fromCodecs(codecs.get(resultType)), codecs.getRegistry()));
+    }
+
+    private <T> DocumentEntity toDocument(T entity) {
+        persistManager.firePreEntity(entity);
+        persistManager.firePreDocumentEntity(entity);
+        DocumentEntity document = converter.toDocument(entity);
+        persistManager.firePreDocument(document);
+        return document;
+    }
+
+    private <T> T toEntity(T entity, DocumentEntity document) {
+        persistManager.firePostDocument(document);
+        T result = converter.toEntity(entity, document);
+        persistManager.firePostDocumentEntity(result);
+        persistManager.firePostEntity(result);
+        return result;
+    }
+}
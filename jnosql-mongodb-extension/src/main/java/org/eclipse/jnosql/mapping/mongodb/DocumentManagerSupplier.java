@@ -9,8 +9,8 @@
 
 package org.eclipse.jnosql.mapping.mongodb;
 
+import com.mongodb.client.MongoClient;
 import jakarta.nosql.Settings;
-import jakarta.nosql.mapping.MappingException;
 import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentConfiguration;
 import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentManager;
 import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentManagerFactory;
@@ -20,18 +20,18 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
 import jakarta.enterprise.inject.Typed;
-import java.util.Optional;
+import jakarta.inject.Inject;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import static org.eclipse.jnosql.mapping.config.MappingConfigurations.DOCUMENT_DATABASE;
-
 @ApplicationScoped
 class DocumentManagerSupplier implements Supplier<MongoDBDocumentManager> {
 
     private static final Logger LOGGER = Logger.getLogger(DocumentManagerSupplier.class.getName());
 
+    @Inject
+    private MongoClient client;
 
     @Override
     @Produces
@@ -39,10 +39,8 @@ class DocumentManagerSupplier implements Supplier<MongoDBDocumentManager> {
     public MongoDBDocumentManager get() {
         Settings settings = MicroProfileSettings.INSTANCE;
         MongoDBDocumentConfiguration configuration = new MongoDBDocumentConfiguration();
-        MongoDBDocumentManagerFactory factory = configuration.apply(settings);
-        Optional<String> database = settings.get(DOCUMENT_DATABASE, String.class);
-        String db = database.orElseThrow(() -> new MappingException("Please, inform the database filling up the property "
-                + DOCUMENT_DATABASE));
+        MongoDBDocumentManagerFactory factory = configuration.get(client);
+        String db = DatabaseSupplier.databaseName(settings);
         MongoDBDocumentManager manager = factory.apply(db);
         LOGGER.log(Level.FINEST, "Starting  a MongoDBDocumentManager instance using Eclipse MicroProfile Config," +
                 " database name: " + db);
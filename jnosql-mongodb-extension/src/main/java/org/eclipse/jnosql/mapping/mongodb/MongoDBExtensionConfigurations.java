@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import java.util.function.Supplier;
+
+/**
+ * The settings read by the MongoDB extension from Eclipse MicroProfile Config.
+ */
+public enum MongoDBExtensionConfigurations implements Supplier<String> {
+
+    /**
+     * The database host. It uses as a prefix, as does jakarta.nosql.host. E.g.: jnosql.mongodb.host.1=localhost:27017
+     */
+    HOST("jnosql.mongodb.host"),
+    /**
+     * The connection string, it takes precedence over {@link #HOST}. E.g.: mongodb://localhost:27017
+     */
+    URL("jnosql.mongodb.url"),
+    /**
+     * The user's credential, or jakarta.nosql.user.
+     */
+    USER("jnosql.mongodb.user"),
+    /**
+     * The password's credential, or jakarta.nosql.password.
+     */
+    PASSWORD("jnosql.mongodb.password"),
+    /**
+     * The database where the user is defined. Default: "admin"
+     */
+    AUTHENTICATION_SOURCE("jnosql.mongodb.authentication.source"),
+    /**
+     * The authentication mechanism, e.g. SCRAM-SHA-256, PLAIN, GSSAPI, MONGODB-X509 or MONGODB-AWS. Default: the
+     * driver negotiates it with the server
+     */
+    AUTHENTICATION_MECHANISM("jnosql.mongodb.authentication.mechanism"),
+    /**
+     * The maximum number of writes in each bulkWrite call of the bulk operations of {@link MongoDBTemplate}.
+     * Default: 1000
+     */
+    BULK_CHUNK_SIZE("jnosql.mongodb.bulk.chunk.size"),
+    /**
+     * Whether the bulk operations of {@link MongoDBTemplate} stop at the first failure. Default: false
+     */
+    BULK_ORDERED("jnosql.mongodb.bulk.ordered");
+
+    private final String value;
+
+    MongoDBExtensionConfigurations(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String get() {
+        return value;
+    }
+}
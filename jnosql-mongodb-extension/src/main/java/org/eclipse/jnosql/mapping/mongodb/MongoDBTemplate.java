@@ -18,6 +18,7 @@ package org.eclipse.jnosql.mapping.mongodb;
 import jakarta.nosql.mapping.document.DocumentTemplate;
 import org.bson.BsonValue;
 import org.bson.conversions.Bson;
+import org.eclipse.jnosql.mapping.metamodel.api.Attribute;
 
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,69 @@ public interface MongoDBTemplate extends DocumentTemplate {
      */
     <T> Stream<T> select(Class<T> entity, Bson filter);
 
+    /**
+     * Finds the documents in the collection of the entity, transferring only the fields of the projection, and
+     * maps each one to a partially populated entity; the fields out of the projection keep their initial values.
+     * See {@link #select(Class, Bson, Bson, Class)}.
+     *
+     * @param entity     the entity to take the collection name
+     * @param filter     the query filter
+     * @param projection the projection, e.g. {@code Projections.include("name", "age")}
+     * @param <T>        the entity type
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> Stream<T> select(Class<T> entity, Bson filter, Bson projection);
+
+    /**
+     * Finds the documents in the collection of the entity, transferring only the fields of the projection, and
+     * maps each one to the result type as the driver cursor decodes it, like
+     * {@link #aggregate(Class, List, Class, AggregateOptions)}. The documents are read lazily, a batch at a time,
+     * so the stream must be closed to release the cursor when it is not read to the end.
+     *
+     * @param entity     the entity to take the collection name
+     * @param filter     the query filter
+     * @param projection the projection, e.g. {@code Projections.include("name", "age")}
+     * @param resultType the type of each result, either an entity or a DTO
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the stream result
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T, R> Stream<R> select(Class<T> entity, Bson filter, Bson projection, Class<R> resultType);
+
+    /**
+     * Finds the documents in the collection of the entity, transferring only the fields of the attributes, and
+     * maps each one to a partially populated entity. See {@link #select(Class, Bson, Bson)}. The attributes come
+     * from the jnosql-metamodel-extension, an optional dependency that the application must declare.
+     *
+     * @param entity     the entity to take the collection name
+     * @param filter     the query filter
+     * @param attributes the metamodel attributes to include, e.g. {@code List.of(Person_.name, Person_.age)}
+     * @param <T>        the entity type
+     * @return the stream result
+     * @throws NullPointerException     when there is any null parameter
+     * @throws IllegalArgumentException when attributes is empty
+     */
+    <T> Stream<T> select(Class<T> entity, Bson filter, List<? extends Attribute<T, ?>> attributes);
+
+    /**
+     * Finds the documents in the collection of the entity, transferring only the fields of the attributes, and
+     * maps each one to the result type. See {@link #select(Class, Bson, Bson, Class)}.
+     *
+     * @param entity     the entity to take the collection name
+     * @param filter     the query filter
+     * @param attributes the metamodel attributes to include, e.g. {@code List.of(Person_.name, Person_.age)}
+     * @param resultType the type of each result, either an entity or a DTO
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the stream result
+     * @throws NullPointerException     when there is any null parameter
+     * @throws IllegalArgumentException when attributes is empty
+     */
+    <T, R> Stream<R> select(Class<T> entity, Bson filter, List<? extends Attribute<T, ?>> attributes,
+                            Class<R> resultType);
+
     /**
      * Aggregates documents according to the specified aggregation pipeline.
      *
@@ -94,5 +158,139 @@ public interface MongoDBTemplate extends DocumentTemplate {
      * @throws NullPointerException when filter or entity is null
      */
     <T> Stream<Map<String, BsonValue>> aggregate(Class<T> entity, List<Bson> pipeline);
-    
+
+    /**
+     * Aggregates documents according to the specified aggregation pipeline, mapping each result document to the
+     * result type as the driver cursor decodes it, without a {@link Map} by document. The result type is either an
+     * entity, by its field mappings, or a class such as a DTO or a record, by the names of its fields or of its
+     * constructor parameters. The documents are read lazily, a batch at a time, so the stream must be closed to
+     * release the cursor when it is not read to the end.
+     *
+     * @param entity     the entity to take the collection name
+     * @param pipeline   the aggregation pipeline
+     * @param resultType the type of the result documents
+     * @param options    the aggregate options
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the stream result
+     * @throws NullPointerException                 when there is any null parameter
+     * @throws jakarta.nosql.mapping.MappingException when the result type cannot be created from a document
+     */
+    <T, R> Stream<R> aggregate(Class<T> entity, List<Bson> pipeline, Class<R> resultType, AggregateOptions options);
+
+    /**
+     * Inserts the entities with bulkWrite calls using the default {@link BulkOptions}, see
+     * {@link #bulkInsert(Iterable, BulkOptions)}.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the summary of the writes
+     * @throws NullPointerException when entities is null
+     */
+    <T> BulkResult bulkInsert(Iterable<T> entities);
+
+    /**
+     * Inserts the entities with bulkWrite calls of at most {@link BulkOptions#getChunkSize()} inserts to the
+     * collection of each entity. The entities are converted as the insert does, but the events are not fired.
+     * A write that fails, such as a duplicated key, does not throw an exception; it is in {@link BulkResult}.
+     *
+     * @param entities the entities
+     * @param options  the bulk options
+     * @param <T>      the entity type
+     * @return the summary of the writes
+     * @throws NullPointerException when either entities or options is null
+     */
+    <T> BulkResult bulkInsert(Iterable<T> entities, BulkOptions options);
+
+    /**
+     * Replaces or inserts the entities by id with bulkWrite calls using the default {@link BulkOptions}, see
+     * {@link #bulkUpsert(Iterable, BulkOptions)}.
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return the summary of the writes
+     * @throws NullPointerException when entities is null
+     */
+    <T> BulkResult bulkUpsert(Iterable<T> entities);
+
+    /**
+     * Replaces the document with the id of each entity, or inserts it when there is none, with bulkWrite calls of
+     * at most {@link BulkOptions#getChunkSize()} writes. The events are not fired.
+     *
+     * @param entities the entities
+     * @param options  the bulk options
+     * @param <T>      the entity type
+     * @return the summary of the writes
+     * @throws NullPointerException                    when either entities or options is null
+     * @throws jakarta.nosql.mapping.IdNotFoundException when an entity has neither an id field nor an id value
+     */
+    <T> BulkResult bulkUpsert(Iterable<T> entities, BulkOptions options);
+
+    /**
+     * Deletes the documents by id with bulkWrite calls using the default {@link BulkOptions}, see
+     * {@link #bulkDelete(Class, Iterable, BulkOptions)}.
+     *
+     * @param entity the entity to take the collection name
+     * @param ids    the ids
+     * @param <T>    the entity type
+     * @param <K>    the id type
+     * @return the summary of the writes
+     * @throws NullPointerException when either entity or ids is null
+     */
+    <T, K> BulkResult bulkDelete(Class<T> entity, Iterable<K> ids);
+
+    /**
+     * Deletes the documents by id with bulkWrite calls of at most {@link BulkOptions#getChunkSize()} deletes.
+     * The ids are converted as the delete by id does, but the events are not fired.
+     *
+     * @param entity  the entity to take the collection name
+     * @param ids     the ids
+     * @param options the bulk options
+     * @param <T>     the entity type
+     * @param <K>     the id type
+     * @return the summary of the writes
+     * @throws NullPointerException                    when there is any null parameter or id
+     * @throws jakarta.nosql.mapping.IdNotFoundException when the entity has no id field
+     */
+    <T, K> BulkResult bulkDelete(Class<T> entity, Iterable<K> ids, BulkOptions options);
+
+    /**
+     * Watches the changes of the collection of the entity using the default {@link ChangeStreamOptions}, without
+     * a {@link ResumeTokenStore}, see {@link #watch(Class, Bson, ChangeStreamListener, ChangeStreamOptions)}.
+     *
+     * @param entity   the entity to take the collection name and the type of the full documents
+     * @param filter   the filter of the change events, a $match stage on the change events and not on the entity
+     *                 documents, so an entity field needs the {@code fullDocument.} prefix, e.g.
+     *                 {@code Filters.eq("fullDocument.city", "Lisbon")}
+     * @param listener the listener of the changes
+     * @param <T>      the entity type
+     * @return the running watch, close it to stop
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> ChangeStreamSubscription watch(Class<T> entity, Bson filter, ChangeStreamListener<T> listener);
+
+    /**
+     * Opens a change stream of the collection of the entity in a thread of its own and delivers the changes to
+     * the listener in batches of up to {@link ChangeStreamOptions#getBatchSize()} changes, waiting at most
+     * {@link ChangeStreamOptions#getMaxWait()} for a batch to fill. The full document of an insert, a replace or
+     * an update is decoded straight to the entity. The filter goes to a $match stage of the change events, so
+     * it refers to their fields, e.g. {@code Filters.eq("fullDocument.city", "Lisbon")}.
+     * The resume token of the delivered changes is stored in {@link ChangeStreamOptions#getStore()} at most once
+     * by {@link ChangeStreamOptions#getCheckpointInterval()}, and when the watch stops; a watch with the same name
+     * resumes from it. A failure of the change stream or of the listener goes to
+     * {@link ChangeStreamListener#onError(RuntimeException)}, and the watch opens the change stream again after
+     * {@link ChangeStreamOptions#getRetryDelay()} from the last delivered change. The watch runs until it is
+     * closed, or until the template is destroyed at the container shutdown.
+     *
+     * @param entity   the entity to take the collection name and the type of the full documents
+     * @param filter   the filter of the change events, with the {@code fullDocument.} prefix on the entity fields
+     * @param listener the listener of the changes
+     * @param options  the change stream options
+     * @param <T>      the entity type
+     * @return the running watch, close it to stop
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T> ChangeStreamSubscription watch(Class<T> entity, Bson filter, ChangeStreamListener<T> listener,
+                                       ChangeStreamOptions options);
+
 }
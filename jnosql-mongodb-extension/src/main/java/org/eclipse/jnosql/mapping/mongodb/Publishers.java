@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The Reactive Streams operators used by {@link ReactiveMongoDBTemplate} on top of the driver publishers, so the
+ * extension does not need a reactive library.
+ */
+final class Publishers {
+
+    private Publishers() {
+    }
+
+    /**
+     * Maps each element of the source; the demand goes to the source as it is, so the backpressure of the source
+     * is kept. When the mapper fails, the source is cancelled and the subscriber receives the error.
+     *
+     * @param source the source
+     * @param mapper the mapper, it must not return null
+     * @param <T>    the source type
+     * @param <R>    the result type
+     * @return the publisher
+     * @throws NullPointerException when either source or mapper is null
+     */
+    static <T, R> Publisher<R> map(Publisher<T> source, Function<? super T, ? extends R> mapper) {
+        Objects.requireNonNull(source, "source is required");
+        Objects.requireNonNull(mapper, "mapper is required");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            source.subscribe(new MapSubscriber<>(subscriber, mapper));
+        };
+    }
+
+    /**
+     * Creates the source on each subscription, so a publisher that is subscribed again runs the supplier again
+     * instead of replaying a state taken when the publisher was created. When the supplier fails, the subscriber
+     * receives the error.
+     *
+     * @param supplier the source supplier, it must not return null
+     * @param <T>      the type
+     * @return the publisher
+     * @throws NullPointerException when supplier is null
+     */
+    static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        return subscriber -> {
+            Objects.requireNonNull(subscriber, "subscriber is required");
+            Publisher<T> source;
+            try {
+                source = Objects.requireNonNull(supplier.get(), "the supplier returned null");
+            } catch (RuntimeException exception) {
+                subscriber.onSubscribe(EmptySubscription.INSTANCE);
+                subscriber.onError(exception);
+                return;
+            }
+            source.subscribe(subscriber);
+        };
+    }
+
+    private enum EmptySubscription implements Subscription {
+
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    private static final class MapSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+        private final Subscriber<? super R> downstream;
+
+        private final Function<? super T, ? extends R> mapper;
+
+        private Subscription upstream;
+
+        private boolean done;
+
+        private MapSubscriber(Subscriber<? super R> downstream, Function<? super T, ? extends R> mapper) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R result;
+            try {
+                result = Objects.requireNonNull(mapper.apply(item), "the mapper returned null");
+            } catch (RuntimeException exception) {
+                upstream.cancel();
+                onError(exception);
+                return;
+            }
+            downstream.onNext(result);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.Typed;
+import org.eclipse.jnosql.mapping.config.MicroProfileSettings;
+
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Produces the Reactive Streams driver {@link MongoClient} and its {@link MongoDatabase} to
+ * {@link ReactiveMongoDBTemplate}, with the same settings of {@link DatabaseSupplier}. The Reactive Streams client
+ * cannot share the connection pool of the synchronous client, and, as an application scoped bean, it is only
+ * created on the first use of {@link ReactiveMongoDBTemplate}.
+ */
+@ApplicationScoped
+class ReactiveDatabaseSupplier implements Supplier<MongoClient> {
+
+    private static final Logger LOGGER = Logger.getLogger(ReactiveDatabaseSupplier.class.getName());
+
+    @Override
+    @Produces
+    @ApplicationScoped
+    @Typed(MongoClient.class)
+    public MongoClient get() {
+        LOGGER.log(Level.FINEST, "Starting a reactive MongoClient instance using Eclipse MicroProfile Config");
+        return MongoClients.create(DatabaseSupplier.clientSettings(MicroProfileSettings.INSTANCE));
+    }
+
+    @Produces
+    @ApplicationScoped
+    @Typed(MongoDatabase.class)
+    public MongoDatabase database(MongoClient client) {
+        return client.getDatabase(DatabaseSupplier.databaseName(MicroProfileSettings.INSTANCE));
+    }
+
+    public void close(@Disposes MongoClient client) {
+        LOGGER.log(Level.FINEST, "Closing reactive MongoClient resource");
+        client.close();
+    }
+}
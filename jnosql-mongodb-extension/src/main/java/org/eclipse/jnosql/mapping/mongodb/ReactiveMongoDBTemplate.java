@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+
+/**
+ * The MongoDB template on the Reactive Streams driver, every operation returns a cold {@link Publisher}: nothing is
+ * sent to the database before the subscription, and the queries read the cursor as the subscriber requests, without
+ * blocking a thread by query. The driver sizes each batch of the cursor by the demand. To the
+ * {@link java.util.concurrent.Flow} API, adapt the publishers with {@link org.reactivestreams.FlowAdapters}.
+ * The entities go through the same conversion of {@link MongoDBTemplate}.
+ */
+public interface ReactiveMongoDBTemplate {
+
+    /**
+     * Inserts the entity, firing the same events of the insert of {@link MongoDBTemplate}. The events and the
+     * conversion run on each subscription, so each subscription inserts a new document.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the publisher of the entity inserted, with the id generated by the database when it has none
+     * @throws NullPointerException when entity is null
+     */
+    <T> Publisher<T> insert(T entity);
+
+    /**
+     * Replaces the document with the id of the entity, firing the same events of the update of
+     * {@link MongoDBTemplate}. The events and the conversion run on each subscription, and the publisher signals
+     * {@link jakarta.nosql.mapping.IdNotFoundException} when the entity has no id value.
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return the publisher of the entity updated
+     * @throws NullPointerException                    when entity is null
+     * @throws jakarta.nosql.mapping.IdNotFoundException when the entity has no id field
+     */
+    <T> Publisher<T> update(T entity);
+
+    /**
+     * Finds the documents of the collection of the entity that match the filter
+     *
+     * @param entity the entity to take the collection name
+     * @param filter the query filter
+     * @param <T>    the entity type
+     * @return the publisher of the entities
+     * @throws NullPointerException when either entity or filter is null
+     */
+    <T> Publisher<T> select(Class<T> entity, Bson filter);
+
+    /**
+     * Aggregates the documents of the collection of the entity according to the pipeline, see
+     * {@link MongoDBTemplate#aggregate(Class, List, Class, AggregateOptions)} to the result types.
+     *
+     * @param entity     the entity to take the collection name
+     * @param pipeline   the aggregation pipeline
+     * @param resultType the type of the result documents
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the publisher of the results
+     * @throws NullPointerException when there is any null parameter
+     */
+    <T, R> Publisher<R> aggregate(Class<T> entity, List<Bson> pipeline, Class<R> resultType);
+
+    /**
+     * Removes all documents of the collection of the entity that match the filter
+     *
+     * @param entity the entity to take the collection name
+     * @param filter the delete filter
+     * @param <T>    the entity type
+     * @return the publisher of the number of documents deleted
+     * @throws NullPointerException when either entity or filter is null
+     */
+    <T> Publisher<Long> delete(Class<T> entity, Bson filter);
+}
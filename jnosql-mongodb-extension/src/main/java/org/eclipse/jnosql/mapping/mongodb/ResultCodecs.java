@@ -0,0 +1,448 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import jakarta.nosql.Value;
+import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.Entity;
+import jakarta.nosql.mapping.MappingException;
+import jakarta.nosql.mapping.document.DocumentEntityConverter;
+import org.bson.BsonDocument;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Creates the driver {@link Codec} that decodes a result document straight to a class, so the driver cursor gives
+ * the instances without a {@link Map} or a {@link jakarta.nosql.document.DocumentEntity} by document:
+ * <ul>
+ *     <li>An entity goes by its field mappings, applying the {@link AttributeConverter}; an entity with an embedded,
+ *     a collection or a map field goes through {@link DocumentEntityConverter} instead, unless the projection of
+ *     the query excludes all of those fields.</li>
+ *     <li>A class with a constructor without parameters goes by the names of its fields.</li>
+ *     <li>Otherwise, a class, such as a record, goes by the parameter names of its constructor with the most
+ *     parameters.</li>
+ * </ul>
+ * The document fields that do not match are skipped. The codecs are created once by class.
+ */
+final class ResultCodecs {
+
+    private final EntitiesMetadata entities;
+
+    private final Converters converters;
+
+    private final DocumentEntityConverter converter;
+
+    private final Supplier<CodecRegistry> registries;
+
+    private volatile CodecRegistry registry;
+
+    private final ClassValue<Codec<?>> codecs = new ClassValue<>() {
+        @Override
+        protected Codec<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final ClassValue<Codec<?>> projectedCodecs = new ClassValue<>() {
+        @Override
+        protected Codec<?> computeValue(Class<?> type) {
+            EntityMetadata entity = entities.get(type);
+            Map<String, FieldMapping> fields = new HashMap<>();
+            entity.getFieldsGroupByName().forEach((name, field) -> {
+                if (MappingType.DEFAULT.equals(field.getType())) {
+                    fields.put(name, field);
+                }
+            });
+            return new EntityCodec<>(type, entity, fields);
+        }
+    };
+
+    ResultCodecs(EntitiesMetadata entities, Converters converters, DocumentEntityConverter converter,
+                 Supplier<CodecRegistry> registries) {
+        this.entities = entities;
+        this.converters = converters;
+        this.converter = converter;
+        this.registries = registries;
+    }
+
+    /**
+     * Returns the codec of the type
+     *
+     * @param type the result type
+     * @param <T>  the type
+     * @return the codec, it only decodes
+     * @throws NullPointerException when type is null
+     * @throws MappingException     when the type cannot be created from a document
+     */
+    @SuppressWarnings("unchecked")
+    <T> Codec<T> get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        return (Codec<T>) codecs.get(type);
+    }
+
+    /**
+     * Returns the registry of the database, read once, to the values that are not entity fields
+     *
+     * @return the registry
+     */
+    /**
+     * Returns the codec of the type to the results of a projection: an entity with an embedded, a collection or a
+     * map field goes by its field mappings when the projection excludes all of those fields.
+     *
+     * @param type       the result type
+     * @param projection the projection of the query
+     * @param <T>        the type
+     * @return the codec, it only decodes
+     * @throws NullPointerException when either type or projection is null
+     * @throws MappingException     when the type cannot be created from a document
+     */
+    @SuppressWarnings("unchecked")
+    <T> Codec<T> get(Class<T> type, Bson projection) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(projection, "projection is required");
+        Codec<T> codec = get(type);
+        if (!(codec instanceof ConverterCodec)) {
+            return codec;
+        }
+        BsonDocument fields = projection.toBsonDocument(BsonDocument.class, getRegistry());
+        for (FieldMapping field : entities.get(type).getFields()) {
+            if (!MappingType.DEFAULT.equals(field.getType()) && !excludes(fields, field.getName())) {
+                return codec;
+            }
+        }
+        return (Codec<T>) projectedCodecs.get(type);
+    }
+
+    CodecRegistry getRegistry() {
+        CodecRegistry current = registry;
+        if (current == null) {
+            current = Objects.requireNonNull(registries.get(), "registry is required");
+            registry = current;
+        }
+        return current;
+    }
+
+    private <T> Codec<T> create(Class<T> type) {
+        if (type.isAnnotationPresent(Entity.class)) {
+            EntityMetadata entity = entities.get(type);
+            for (FieldMapping field : entity.getFields()) {
+                if (!MappingType.DEFAULT.equals(field.getType())) {
+                    return new ConverterCodec<>(type, entity.getName());
+                }
+            }
+            return new EntityCodec<>(type, entity, entity.getFieldsGroupByName());
+        }
+        try {
+            return new FieldsCodec<>(type, type.getDeclaredConstructor());
+        } catch (NoSuchMethodException exception) {
+            return new ConstructorCodec<>(type);
+        }
+    }
+
+    private static boolean excludes(BsonDocument projection, String name) {
+        boolean inclusion = false;
+        for (Map.Entry<String, BsonValue> entry : projection.entrySet()) {
+            BsonValue value = entry.getValue();
+            if (!value.isBoolean() && !value.isNumber()) {
+                // an expression, such as $slice, may keep any field
+                return false;
+            }
+            String key = entry.getKey();
+            boolean included = value.isBoolean() ? value.asBoolean().getValue() : value.asNumber().doubleValue() != 0;
+            if (key.equals(name)) {
+                return !included;
+            }
+            if (key.startsWith(name + '.')) {
+                // a path into the field keeps the rest of it in either mode
+                return false;
+            }
+            inclusion = inclusion || included;
+        }
+        return inclusion;
+    }
+
+    private Object read(BsonReader reader, DecoderContext context) {
+        switch (reader.getCurrentBsonType()) {
+            case NULL:
+                reader.readNull();
+                return null;
+            case STRING:
+                return reader.readString();
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            case DOUBLE:
+                return reader.readDouble();
+            case BOOLEAN:
+                return reader.readBoolean();
+            case OBJECT_ID:
+                return reader.readObjectId();
+            case DECIMAL128:
+                return reader.readDecimal128().bigDecimalValue();
+            case DATE_TIME:
+                return new Date(reader.readDateTime());
+            case ARRAY:
+                List<Object> values = new ArrayList<>();
+                reader.readStartArray();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    values.add(read(reader, context));
+                }
+                reader.readEndArray();
+                return values;
+            case DOCUMENT:
+                return getRegistry().get(Document.class).decode(reader, context);
+            default:
+                return getRegistry().get(BsonValue.class).decode(reader, context);
+        }
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        return Value.of(value).get(type);
+    }
+
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        return Array.get(Array.newInstance(type, 1), 0).getClass();
+    }
+
+    private abstract static class DecoderCodec<T> implements Codec<T> {
+
+        private final Class<T> type;
+
+        DecoderCodec(Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public void encode(BsonWriter writer, T value, EncoderContext context) {
+            throw new UnsupportedOperationException("The result codec only decodes: " + type.getName());
+        }
+
+        @Override
+        public Class<T> getEncoderClass() {
+            return type;
+        }
+    }
+
+    private final class EntityCodec<T> extends DecoderCodec<T> {
+
+        private final EntityMetadata entity;
+
+        private final Map<String, FieldMapping> fields;
+
+        private final Map<String, Class<?>> types = new HashMap<>();
+
+        private final Map<String, AttributeConverter<Object, Object>> attributeConverters = new HashMap<>();
+
+        private EntityCodec(Class<T> type, EntityMetadata entity, Map<String, FieldMapping> fields) {
+            super(type);
+            this.entity = entity;
+            this.fields = fields;
+            for (FieldMapping field : fields.values()) {
+                types.put(field.getName(), wrap(field.getNativeField().getType()));
+                Optional<Class<? extends AttributeConverter<Object, Object>>> converter = field.getConverter();
+                converter.ifPresent(c -> attributeConverters.put(field.getName(), converters.get(c)));
+            }
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext context) {
+            T instance = entity.newInstance();
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String name = reader.readName();
+                FieldMapping field = fields.get(name);
+                if (field == null) {
+                    reader.skipValue();
+                    continue;
+                }
+                Object value = read(reader, context);
+                if (value == null) {
+                    continue;
+                }
+                AttributeConverter<Object, Object> attributeConverter = attributeConverters.get(name);
+                if (attributeConverter == null) {
+                    field.write(instance, convert(value, types.get(name)));
+                } else {
+                    field.write(instance, attributeConverter.convertToEntityAttribute(value));
+                }
+            }
+            reader.readEndDocument();
+            return instance;
+        }
+    }
+
+    private final class ConverterCodec<T> extends DecoderCodec<T> {
+
+        private final String name;
+
+        private ConverterCodec(Class<T> type, String name) {
+            super(type);
+            this.name = name;
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext context) {
+            Document document = getRegistry().get(Document.class).decode(reader, context);
+            return converter.toEntity(getEncoderClass(), BsonDocuments.toEntity(name, document));
+        }
+    }
+
+    private final class FieldsCodec<T> extends DecoderCodec<T> {
+
+        private final Constructor<T> constructor;
+
+        private final Map<String, Field> fields = new HashMap<>();
+
+        private FieldsCodec(Class<T> type, Constructor<T> constructor) {
+            super(type);
+            constructor.setAccessible(true);
+            this.constructor = constructor;
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.putIfAbsent(field.getName(), field);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext context) {
+            try {
+                T instance = constructor.newInstance();
+                reader.readStartDocument();
+                while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                    Field field = fields.get(reader.readName());
+                    if (field == null) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    Object value = read(reader, context);
+                    if (value != null) {
+                        field.set(instance, convert(value, wrap(field.getType())));
+                    }
+                }
+                reader.readEndDocument();
+                return instance;
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new MappingException("There is an error to create the result "
+                        + constructor.getDeclaringClass().getName(), exception);
+            }
+        }
+    }
+
+    private final class ConstructorCodec<T> extends DecoderCodec<T> {
+
+        private final Constructor<T> constructor;
+
+        private final Map<String, Integer> positions = new HashMap<>();
+
+        private final Class<?>[] types;
+
+        private final Object[] defaults;
+
+        @SuppressWarnings("unchecked")
+        private ConstructorCodec(Class<T> type) {
+            super(type);
+            Constructor<T> selected = null;
+            for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+                if (selected == null || candidate.getParameterCount() > selected.getParameterCount()) {
+                    selected = (Constructor<T>) candidate;
+                }
+            }
+            if (selected == null) {
+                throw new MappingException("The type " + type.getName() + " does not have a constructor");
+            }
+            Parameter[] parameters = selected.getParameters();
+            this.types = new Class<?>[parameters.length];
+            this.defaults = new Object[parameters.length];
+            for (int index = 0; index < parameters.length; index++) {
+                if (!parameters[index].isNamePresent()) {
+                    throw new MappingException("The type " + type.getName() + " needs either a constructor "
+                            + "without parameters or the parameter names, such as a record or with the "
+                            + "-parameters compiler flag");
+                }
+                positions.put(parameters[index].getName(), index);
+                types[index] = wrap(parameters[index].getType());
+                if (parameters[index].getType().isPrimitive()) {
+                    defaults[index] = Array.get(Array.newInstance(parameters[index].getType(), 1), 0);
+                }
+            }
+            selected.setAccessible(true);
+            this.constructor = selected;
+        }
+
+        @Override
+        public T decode(BsonReader reader, DecoderContext context) {
+            Object[] args = defaults.clone();
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                Integer position = positions.get(reader.readName());
+                if (position == null) {
+                    reader.skipValue();
+                    continue;
+                }
+                Object value = read(reader, context);
+                if (value != null) {
+                    args[position] = convert(value, types[position]);
+                }
+            }
+            reader.readEndDocument();
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException exception) {
+                throw new MappingException("There is an error to create the result "
+                        + constructor.getDeclaringClass().getName(), exception);
+            }
+        }
+    }
+}
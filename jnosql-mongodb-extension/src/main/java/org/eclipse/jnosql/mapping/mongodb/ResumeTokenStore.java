@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.BsonDocument;
+import org.bson.Document;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the resume token of each watch of {@link MongoDBTemplate#watch(Class, org.bson.conversions.Bson,
+ * ChangeStreamListener, ChangeStreamOptions)} by its name, so a watch started again resumes where the previous one
+ * stopped. An implementation is called from the thread of the watch.
+ */
+public interface ResumeTokenStore {
+
+    /**
+     * The field of the token in the documents of {@link #of(MongoCollection)}
+     */
+    String TOKEN = "token";
+
+    /**
+     * @param name the name of the watch
+     * @return the last stored token, empty to start from the current time
+     * @throws NullPointerException when name is null
+     */
+    Optional<BsonDocument> load(String name);
+
+    /**
+     * @param name  the name of the watch
+     * @param token the token that resumes the watch
+     * @throws NullPointerException when either name or token is null
+     */
+    void save(String name, BsonDocument token);
+
+    /**
+     * A store that keeps the tokens in memory, so they do not survive a restart.
+     *
+     * @return a new store
+     */
+    static ResumeTokenStore inMemory() {
+        Map<String, BsonDocument> tokens = new ConcurrentHashMap<>();
+        return new ResumeTokenStore() {
+            @Override
+            public Optional<BsonDocument> load(String name) {
+                Objects.requireNonNull(name, "name is required");
+                return Optional.ofNullable(tokens.get(name));
+            }
+
+            @Override
+            public void save(String name, BsonDocument token) {
+                Objects.requireNonNull(name, "name is required");
+                Objects.requireNonNull(token, "token is required");
+                tokens.put(name, token);
+            }
+        };
+    }
+
+    /**
+     * A store that keeps each token in a document of the collection, whose _id is the name of the watch.
+     *
+     * @param collection the collection
+     * @return a new store
+     * @throws NullPointerException when collection is null
+     */
+    static ResumeTokenStore of(MongoCollection<Document> collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        return new ResumeTokenStore() {
+            @Override
+            public Optional<BsonDocument> load(String name) {
+                Objects.requireNonNull(name, "name is required");
+                BsonDocument document = collection.withDocumentClass(BsonDocument.class)
+                        .find(Filters.eq(BsonDocuments.ID, name)).first();
+                return Optional.ofNullable(document).map(d -> d.getDocument(TOKEN, null));
+            }
+
+            @Override
+            public void save(String name, BsonDocument token) {
+                Objects.requireNonNull(name, "name is required");
+                Objects.requireNonNull(token, "token is required");
+                collection.replaceOne(Filters.eq(BsonDocuments.ID, name),
+                        new Document(BsonDocuments.ID, name).append(TOKEN, token),
+                        new ReplaceOptions().upsert(true));
+            }
+        };
+    }
+}
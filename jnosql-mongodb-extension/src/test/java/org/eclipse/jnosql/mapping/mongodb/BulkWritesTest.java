@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertOneModel;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkWritesTest {
+
+    private MongoDatabase database;
+
+    private MongoCollection<Document> people;
+
+    private MongoCollection<Document> animals;
+
+    @BeforeEach
+    public void setUp() {
+        this.database = mock(MongoDatabase.class);
+        this.people = mock(MongoCollection.class);
+        this.animals = mock(MongoCollection.class);
+        when(database.getCollection("Person")).thenReturn(people);
+        when(database.getCollection("Animal")).thenReturn(animals);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenChunkSizeIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.ordered(0));
+        assertThrows(IllegalArgumentException.class, () -> BulkOptions.unordered(-1));
+    }
+
+    @Test
+    public void shouldSendInChunks() {
+        when(people.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        BulkWrites writes = new BulkWrites(database, BulkOptions.unordered(2));
+
+        assertTrue(writes.add("Person", insert("Ada")));
+        assertTrue(writes.add("Person", insert("Poliana")));
+        assertTrue(writes.add("Person", insert("Otavio")));
+        BulkResult result = writes.finish();
+
+        ArgumentCaptor<BulkWriteOptions> options = ArgumentCaptor.forClass(BulkWriteOptions.class);
+        verify(people, times(2)).bulkWrite(any(List.class), options.capture());
+        assertFalse(options.getValue().isOrdered());
+        assertEquals(3, result.getInserted());
+        assertTrue(result.isSuccessful());
+    }
+
+    @Test
+    public void shouldStartChunkWhenCollectionChanges() {
+        when(people.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        when(animals.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        BulkWrites writes = new BulkWrites(database, BulkOptions.unordered(10));
+
+        writes.add("Person", insert("Ada"));
+        writes.add("Animal", insert("Lion"));
+        BulkResult result = writes.finish();
+
+        verify(people).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+        verify(animals).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+        assertEquals(2, result.getInserted());
+    }
+
+    @Test
+    public void shouldKeepGoingWhenUnordered() {
+        when(people.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenThrow(failure(1, 1))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+        BulkWrites writes = new BulkWrites(database, BulkOptions.unordered(2));
+
+        writes.add("Person", insert("Ada"));
+        writes.add("Person", insert("Ada"));
+        assertTrue(writes.add("Person", insert("Otavio")));
+        BulkResult result = writes.finish();
+
+        assertEquals(2, result.getInserted());
+        assertEquals(1, result.getFailed());
+        assertEquals(11000, result.getFailures().get(1).getCode());
+    }
+
+    @Test
+    public void shouldStopWhenOrdered() {
+        when(people.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenThrow(failure(1, 1));
+        BulkWrites writes = new BulkWrites(database, BulkOptions.ordered(2));
+
+        writes.add("Person", insert("Ada"));
+        assertFalse(writes.add("Person", insert("Ada")));
+        assertFalse(writes.add("Person", insert("Otavio")));
+        BulkResult result = writes.finish();
+
+        verify(people, times(1)).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+        assertEquals(1, result.getInserted());
+        assertEquals(List.of(1), List.copyOf(result.getFailures().keySet()));
+    }
+
+    @Test
+    public void shouldNotSendWhenEmpty() {
+        BulkResult result = new BulkWrites(database, BulkOptions.unordered(2)).finish();
+
+        verify(people, never()).bulkWrite(any(List.class), any(BulkWriteOptions.class));
+        assertEquals(0, result.getInserted());
+        assertTrue(result.isSuccessful());
+    }
+
+    private static InsertOneModel<Document> insert(String name) {
+        return new InsertOneModel<>(new Document("_id", name));
+    }
+
+    private static MongoBulkWriteException failure(int inserted, int index) {
+        BulkWriteError error = new BulkWriteError(11000, "duplicate key", new BsonDocument(), index);
+        return new MongoBulkWriteException(BulkWriteResult.acknowledged(inserted, 0, 0, 0, List.of(), List.of()),
+                List.of(error), null, new ServerAddress());
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeStreamWatcherTest {
+
+    private ChangeStreamIterable<Person> iterable;
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Person>> cursor;
+
+    private ResumeTokenStore store;
+
+    @BeforeEach
+    public void setUp() {
+        this.iterable = mock(ChangeStreamIterable.class);
+        this.cursor = mock(MongoChangeStreamCursor.class);
+        when(iterable.cursor()).thenReturn(cursor);
+        this.store = mock(ResumeTokenStore.class);
+        when(store.load("people")).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void shouldReturnErrorOnOptions() {
+        assertThrows(IllegalArgumentException.class, () -> ChangeStreamOptions.builder().batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> ChangeStreamOptions.builder().maxWait(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> ChangeStreamOptions.builder()
+                .checkpointInterval(Duration.ofSeconds(-1)));
+        assertThrows(NullPointerException.class, () -> ChangeStreamOptions.builder().store(null));
+        assertThrows(IllegalArgumentException.class, () -> ChangeStreamOptions.builder()
+                .retryDelay(Duration.ZERO, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> ChangeStreamOptions.builder()
+                .retryDelay(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+    }
+
+    @Test
+    public void shouldDeliverInBatches() {
+        when(cursor.tryNext()).thenReturn(change("Ada", 1), change("Grace", 2), change("Linus", 3), null);
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<Person>("people", iterable,
+                events -> batches.add(names(events)), options(2, Duration.ofMinutes(1))).start();
+        verify(cursor, timeout(1_000).atLeast(5)).tryNext();
+        watcher.close();
+
+        assertEquals(List.of(List.of("Ada", "Grace"), List.of("Linus")), batches);
+        assertEquals(Optional.of(token(3)), watcher.getResumeToken());
+        assertFalse(watcher.isRunning());
+        verify(iterable).fullDocument(FullDocument.UPDATE_LOOKUP);
+        verify(iterable).batchSize(2);
+        verify(iterable).maxAwaitTime(100L, TimeUnit.MILLISECONDS);
+        verify(iterable, never()).resumeAfter(any());
+        verify(store).save("people", token(3));
+        verify(cursor).close();
+    }
+
+    @Test
+    public void shouldResumeFromTheStore() {
+        when(store.load("people")).thenReturn(Optional.of(token(7)));
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<>("people", iterable, events -> { },
+                options(10, Duration.ZERO)).start();
+        verify(cursor, timeout(1_000).atLeastOnce()).tryNext();
+        watcher.close();
+
+        verify(iterable).resumeAfter(token(7));
+        verify(store, never()).save(any(), any());
+    }
+
+    @Test
+    public void shouldStoreTheTokenOfAnIdleCursor() {
+        when(cursor.getResumeToken()).thenReturn(token(9));
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<>("people", iterable, events -> { },
+                options(10, Duration.ZERO)).start();
+        verify(store, timeout(1_000)).save("people", token(9));
+        watcher.close();
+    }
+
+    @Test
+    public void shouldDeliverTheFailedBatchAgain() {
+        when(cursor.tryNext()).thenReturn(change("Ada", 1), null, change("Grace", 2), null, change("Grace", 2), null);
+        IllegalStateException exception = new IllegalStateException("listener");
+        AtomicBoolean failed = new AtomicBoolean();
+        List<List<String>> batches = new CopyOnWriteArrayList<>();
+        List<RuntimeException> errors = new CopyOnWriteArrayList<>();
+        ChangeStreamListener<Person> listener = new ChangeStreamListener<>() {
+            @Override
+            public void onChanges(List<ChangeEvent<Person>> events) {
+                batches.add(names(events));
+                if (names(events).contains("Grace") && failed.compareAndSet(false, true)) {
+                    throw exception;
+                }
+            }
+
+            @Override
+            public void onError(RuntimeException exception) {
+                errors.add(exception);
+            }
+        };
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<>("people", iterable, listener,
+                options(10, Duration.ofMinutes(1))).start();
+        verify(iterable, timeout(1_000)).resumeAfter(token(1));
+        verify(store, timeout(1_000)).save("people", token(1));
+        verify(cursor, timeout(1_000).atLeast(7)).tryNext();
+        assertTrue(watcher.isRunning());
+        watcher.close();
+
+        assertEquals(List.of(exception), errors);
+        assertEquals(List.of(List.of("Ada"), List.of("Grace"), List.of("Grace")), batches);
+        verify(store).save("people", token(2));
+    }
+
+    @Test
+    public void shouldOpenAgainOnCursorError() {
+        MongoException exception = new MongoException("cursor");
+        when(cursor.tryNext()).thenThrow(exception).thenReturn(null);
+        List<RuntimeException> errors = new CopyOnWriteArrayList<>();
+        ChangeStreamListener<Person> listener = new ChangeStreamListener<>() {
+            @Override
+            public void onChanges(List<ChangeEvent<Person>> events) {
+            }
+
+            @Override
+            public void onError(RuntimeException exception) {
+                errors.add(exception);
+            }
+        };
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<>("people", iterable, listener,
+                options(10, Duration.ZERO)).start();
+        verify(iterable, timeout(1_000).times(2)).cursor();
+        assertTrue(watcher.isRunning());
+        watcher.close();
+
+        assertEquals(List.of(exception), errors);
+        assertTrue(watcher.getResumeToken().isEmpty());
+        verify(iterable).fullDocument(FullDocument.UPDATE_LOOKUP);
+    }
+
+    @Test
+    public void shouldStopWhenTheListenerClosesOnError() {
+        when(cursor.tryNext()).thenThrow(new MongoException("cursor"));
+        AtomicReference<ChangeStreamSubscription> subscription = new AtomicReference<>();
+        CountDownLatch started = new CountDownLatch(1);
+        ChangeStreamListener<Person> listener = new ChangeStreamListener<>() {
+            @Override
+            public void onChanges(List<ChangeEvent<Person>> events) {
+            }
+
+            @Override
+            public void onError(RuntimeException exception) {
+                awaitQuietly(started);
+                subscription.get().close();
+            }
+        };
+        List<ChangeStreamWatcher<Person>> stopped = new CopyOnWriteArrayList<>();
+
+        ChangeStreamWatcher<Person> watcher = new ChangeStreamWatcher<>("people", iterable, listener,
+                options(10, Duration.ZERO), stopped::add);
+        subscription.set(watcher);
+        watcher.start();
+        started.countDown();
+        verify(cursor, timeout(1_000)).close();
+        watcher.close();
+
+        assertFalse(watcher.isRunning());
+        assertEquals(List.of(watcher), stopped);
+        verify(iterable).cursor();
+    }
+
+    @Test
+    public void shouldMapTheChange() {
+        ChangeEvent<Person> event = ChangeEvent.of(change("Ada", 1));
+        assertEquals(OperationType.INSERT, event.getOperation());
+        assertEquals(Optional.of(new BsonString("Ada")), event.getId());
+        assertEquals(Optional.of(new Person("Ada", 10)), event.getEntity());
+        assertEquals(token(1), event.getResumeToken());
+    }
+
+    private ChangeStreamOptions options(int batchSize, Duration checkpointInterval) {
+        return ChangeStreamOptions.builder().batchSize(batchSize).maxWait(Duration.ofMillis(100))
+                .checkpointInterval(checkpointInterval).store(store)
+                .retryDelay(Duration.ofMillis(10), Duration.ofMillis(50)).build();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> names(List<ChangeEvent<Person>> events) {
+        return events.stream().map(e -> e.getEntity().orElseThrow().getName()).collect(Collectors.toList());
+    }
+
+    private static ChangeStreamDocument<Person> change(String name, int token) {
+        return new ChangeStreamDocument<>(OperationType.INSERT, token(token), null, null, new Person(name, 10),
+                new BsonDocument(BsonDocuments.ID, new BsonString(name)), null, null, null, null);
+    }
+
+    private static BsonDocument token(int value) {
+        return new BsonDocument("_data", new BsonString("token-" + value));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.AuthenticationMechanism;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCredential;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import jakarta.nosql.Settings;
+import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class DatabaseSupplierTest {
+
+    @Test
+    public void shouldReadConnectionString() {
+        MongoClientSettings settings = clientSettings(Map.of("jnosql.mongodb.url", "mongodb://library:27018",
+                "jnosql.mongodb.host.1", "localhost:27017"));
+
+        assertEquals(List.of(new ServerAddress("library", 27018)), settings.getClusterSettings().getHosts());
+    }
+
+    @Test
+    public void shouldReadHosts() {
+        MongoClientSettings settings = clientSettings(Map.of("jnosql.mongodb.host.1", "library:27018"));
+
+        assertEquals(List.of(new ServerAddress("library", 27018)), settings.getClusterSettings().getHosts());
+    }
+
+    @Test
+    public void shouldReadGenericHosts() {
+        MongoClientSettings settings = clientSettings(Map.of("jakarta.nosql.host.1", "library:27018"));
+
+        assertEquals(List.of(new ServerAddress("library", 27018)), settings.getClusterSettings().getHosts());
+    }
+
+    @Test
+    public void shouldReadCredential() {
+        MongoCredential credential = clientSettings(Map.of("jnosql.mongodb.user", "ada",
+                "jnosql.mongodb.password", "secret")).getCredential();
+
+        assertEquals("ada", credential.getUserName());
+        assertArrayEquals("secret".toCharArray(), credential.getPassword());
+        assertEquals("admin", credential.getSource());
+        assertNull(credential.getAuthenticationMechanism());
+    }
+
+    @Test
+    public void shouldReadGenericCredential() {
+        MongoCredential credential = clientSettings(Map.of("jakarta.nosql.user", "ada",
+                "jakarta.nosql.password", "secret")).getCredential();
+
+        assertEquals("ada", credential.getUserName());
+        assertArrayEquals("secret".toCharArray(), credential.getPassword());
+    }
+
+    @Test
+    public void shouldNotCreateCredentialWithoutPassword() {
+        assertNull(clientSettings(Map.of("jnosql.mongodb.user", "ada")).getCredential());
+    }
+
+    @Test
+    public void shouldReadAuthenticationSource() {
+        MongoCredential credential = clientSettings(Map.of("jnosql.mongodb.user", "ada",
+                "jnosql.mongodb.password", "secret",
+                "jnosql.mongodb.authentication.source", "library")).getCredential();
+
+        assertEquals("library", credential.getSource());
+    }
+
+    @Test
+    public void shouldReadAuthenticationMechanism() {
+        MongoCredential credential = clientSettings(Map.of("jnosql.mongodb.user", "ada",
+                "jnosql.mongodb.password", "secret",
+                "jnosql.mongodb.authentication.mechanism", "SCRAM-SHA-256")).getCredential();
+
+        assertEquals(AuthenticationMechanism.SCRAM_SHA_256, credential.getAuthenticationMechanism());
+        assertEquals("admin", credential.getSource());
+    }
+
+    @Test
+    public void shouldReadAuthenticationMechanismWithoutPassword() {
+        MongoCredential credential = clientSettings(Map.of("jnosql.mongodb.user", "CN=ada",
+                "jnosql.mongodb.authentication.mechanism", "MONGODB-X509")).getCredential();
+
+        assertEquals(AuthenticationMechanism.MONGODB_X509, credential.getAuthenticationMechanism());
+        assertEquals("CN=ada", credential.getUserName());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenAuthenticationMechanismIsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> clientSettings(Map.of("jnosql.mongodb.user", "ada",
+                "jnosql.mongodb.authentication.mechanism", "UNKNOWN")));
+    }
+
+    @Test
+    public void shouldNotCloseTheClientWhenTheManagerCloses() {
+        MongoClient client = mock(MongoClient.class);
+
+        new MongoDBDocumentConfiguration().get(client).apply("library").close();
+
+        verify(client, never()).close();
+    }
+
+    private static MongoClientSettings clientSettings(Map<String, Object> values) {
+        return DatabaseSupplier.clientSettings(Settings.of(values));
+    }
+}
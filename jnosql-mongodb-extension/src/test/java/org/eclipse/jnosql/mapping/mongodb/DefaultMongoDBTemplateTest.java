@@ -15,8 +15,25 @@
  */
 package org.eclipse.jnosql.mapping.mongodb;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.mapping.Converters;
@@ -25,23 +42,29 @@ import jakarta.nosql.mapping.document.DocumentEventPersistManager;
 import jakarta.nosql.mapping.document.DocumentWorkflow;
 import org.bson.conversions.Bson;
 import org.eclipse.jnosql.communication.mongodb.document.MongoDBDocumentManager;
+import org.eclipse.jnosql.mapping.metamodel.api.Attribute;
 import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
 import jakarta.nosql.tck.test.CDIExtension;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Filters.eq;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -67,12 +90,21 @@ class DefaultMongoDBTemplateTest {
 
     private MongoDBDocumentManager manager;
 
+    private MongoCollection<org.bson.Document> collection;
+
     @BeforeEach
     public void setUp() {
         this.manager = mock(MongoDBDocumentManager.class);
         Instance instance = mock(Instance.class);
         when(instance.get()).thenReturn(manager);
-        template = new DefaultMongoDBTemplate(instance, converter, flow, entities, converters, persistManager);
+        MongoDatabase database = mock(MongoDatabase.class);
+        this.collection = mock(MongoCollection.class);
+        when(database.getCollection("Person")).thenReturn(collection);
+        when(database.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        Instance databaseInstance = mock(Instance.class);
+        when(databaseInstance.get()).thenReturn(database);
+        template = new DefaultMongoDBTemplate(instance, converter, flow, entities, converters, persistManager,
+                databaseInstance, BulkOptions.unordered(2));
     }
 
     @Test
@@ -183,4 +215,204 @@ class DefaultMongoDBTemplateTest {
         Mockito.verify(manager).aggregate("Person", predicates);
     }
 
+    @Test
+    public void shouldReturnErrorOnAggregateToResultType() {
+        List<Bson> pipeline = Collections.singletonList(Aggregates.match(eq("name", "Poliana")));
+        AggregateOptions options = AggregateOptions.defaults();
+        assertThrows(NullPointerException.class, () -> template.aggregate(null, pipeline, Person.class, options));
+        assertThrows(NullPointerException.class, () -> template.aggregate(Person.class, null, Person.class, options));
+        assertThrows(NullPointerException.class, () -> template.aggregate(Person.class, pipeline, null, options));
+        assertThrows(NullPointerException.class, () -> template.aggregate(Person.class, pipeline, Person.class, null));
+    }
+
+    @Test
+    public void shouldAggregateToResultType() {
+        List<Bson> pipeline = Collections.singletonList(Aggregates.match(eq("name", "Poliana")));
+        AggregateIterable<Person> iterable = mock(AggregateIterable.class);
+        MongoCursor<Person> cursor = mock(MongoCursor.class);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.aggregate(pipeline, Person.class)).thenReturn(iterable);
+        when(iterable.iterator()).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(new Person("Poliana", 30));
+        AggregateOptions options = AggregateOptions.builder().allowDiskUse(true).batchSize(500)
+                .maxTime(Duration.ofSeconds(2)).build();
+
+        List<Person> people;
+        try (Stream<Person> stream = template.aggregate(Person.class, pipeline, Person.class, options)) {
+            people = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(new Person("Poliana", 30)), people);
+        Mockito.verify(iterable).allowDiskUse(true);
+        Mockito.verify(iterable).batchSize(500);
+        Mockito.verify(iterable).maxTime(2000L, TimeUnit.MILLISECONDS);
+        Mockito.verify(cursor).close();
+    }
+
+    @Test
+    public void shouldReturnErrorOnWatchMethod() {
+        ChangeStreamListener<Person> listener = events -> { };
+        Bson filter = eq("operationType", "insert");
+        assertThrows(NullPointerException.class, () -> template.watch(null, filter, listener));
+        assertThrows(NullPointerException.class, () -> template.watch(Person.class, null, listener));
+        assertThrows(NullPointerException.class, () -> template.watch(Person.class, filter, null));
+        assertThrows(NullPointerException.class, () -> template.watch(Person.class, filter, listener, null));
+    }
+
+    @Test
+    public void shouldWatch() {
+        ChangeStreamIterable<Person> iterable = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<Person>> cursor = mock(MongoChangeStreamCursor.class);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.watch(Mockito.<List<Bson>>any(), Mockito.eq(Person.class))).thenReturn(iterable);
+        when(iterable.cursor()).thenReturn(cursor);
+
+        try (ChangeStreamSubscription subscription = template.watch(Person.class, eq("fullDocument.age", 30),
+                events -> { })) {
+            assertEquals("Person", subscription.getName());
+        }
+
+        ArgumentCaptor<List<Bson>> pipeline = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(collection).watch(pipeline.capture(), Mockito.eq(Person.class));
+        assertEquals(List.of(Aggregates.match(eq("fullDocument.age", 30))).toString(),
+                pipeline.getValue().toString());
+        Mockito.verify(iterable).fullDocument(FullDocument.UPDATE_LOOKUP);
+        Mockito.verify(cursor).close();
+    }
+
+    @Test
+    public void shouldCloseTheWatchesOnDestroy() {
+        ChangeStreamIterable<Person> iterable = mock(ChangeStreamIterable.class);
+        MongoChangeStreamCursor<ChangeStreamDocument<Person>> cursor = mock(MongoChangeStreamCursor.class);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.watch(Mockito.<List<Bson>>any(), Mockito.eq(Person.class))).thenReturn(iterable);
+        when(iterable.cursor()).thenReturn(cursor);
+
+        ChangeStreamSubscription subscription = template.watch(Person.class, eq("fullDocument.age", 30),
+                events -> { });
+        assertTrue(subscription.isRunning());
+        ((DefaultMongoDBTemplate) template).close();
+
+        assertFalse(subscription.isRunning());
+    }
+
+    @Test
+    public void shouldReturnErrorOnSelectWithProjection() {
+        Bson filter = eq("name", "Poliana");
+        Bson projection = Projections.include("age");
+        List<Attribute<Person, ?>> attributes = List.of(attribute("age"));
+        assertThrows(NullPointerException.class, () -> template.select(null, filter, projection));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, null, projection));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, filter, (Bson) null));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, filter, projection, null));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, filter,
+                (List<Attribute<Person, ?>>) null));
+        assertThrows(IllegalArgumentException.class, () -> template.select(Person.class, filter, List.of()));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, filter, attributes, null));
+    }
+
+    @Test
+    public void shouldSelectWithProjection() {
+        Bson filter = eq("age", 30);
+        Bson projection = Projections.include("age");
+        FindIterable<Person> iterable = mock(FindIterable.class);
+        MongoCursor<Person> cursor = mock(MongoCursor.class);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.find(filter, Person.class)).thenReturn(iterable);
+        when(iterable.projection(projection)).thenReturn(iterable);
+        when(iterable.iterator()).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(new Person(null, 30));
+
+        List<Person> people;
+        try (Stream<Person> stream = template.select(Person.class, filter, projection)) {
+            people = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(List.of(new Person(null, 30)), people);
+        Mockito.verify(cursor).close();
+    }
+
+    @Test
+    public void shouldSelectWithAttributes() {
+        Bson filter = eq("age", 30);
+        FindIterable<Person> iterable = mock(FindIterable.class);
+        MongoCursor<Person> cursor = mock(MongoCursor.class);
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        when(collection.find(filter, Person.class)).thenReturn(iterable);
+        when(iterable.projection(any())).thenReturn(iterable);
+        when(iterable.iterator()).thenReturn(cursor);
+
+        template.select(Person.class, filter, List.of(attribute("name"), attribute("age"))).close();
+
+        ArgumentCaptor<Bson> projection = ArgumentCaptor.forClass(Bson.class);
+        Mockito.verify(iterable).projection(projection.capture());
+        assertEquals(Projections.include("_id", "age").toBsonDocument(),
+                projection.getValue().toBsonDocument());
+    }
+
+    @Test
+    public void shouldReturnErrorOnBulkMethods() {
+        assertThrows(NullPointerException.class, () -> template.bulkInsert(null));
+        assertThrows(NullPointerException.class, () -> template.bulkInsert(List.of(new Person("Ada", 10)), null));
+        assertThrows(NullPointerException.class, () -> template.bulkUpsert(null));
+        assertThrows(NullPointerException.class, () -> template.bulkDelete(null, List.of("Ada")));
+        assertThrows(NullPointerException.class, () -> template.bulkDelete(Person.class, null));
+    }
+
+    @Test
+    public void shouldBulkInsertInChunks() {
+        when(collection.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(2, 0, 0, 0, List.of(), List.of()))
+                .thenReturn(BulkWriteResult.acknowledged(1, 0, 0, 0, List.of(), List.of()));
+
+        BulkResult result = template.bulkInsert(List.of(new Person("Ada", 10), new Person("Poliana", 20),
+                new Person("Otavio", 30)));
+
+        ArgumentCaptor<List<WriteModel<org.bson.Document>>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(collection, Mockito.times(2)).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+        assertEquals(3, result.getInserted());
+        assertEquals(0, result.getFailed());
+        InsertOneModel<org.bson.Document> insert = (InsertOneModel<org.bson.Document>) captor.getAllValues()
+                .get(0).get(0);
+        assertEquals("Ada", insert.getDocument().get("_id"));
+    }
+
+    @Test
+    public void shouldBulkUpsertById() {
+        when(collection.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(0, 1, 0, 1, List.of(), List.of()));
+
+        BulkResult result = template.bulkUpsert(List.of(new Person("Ada", 10)));
+
+        ArgumentCaptor<List<WriteModel<org.bson.Document>>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(collection).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+        ReplaceOneModel<org.bson.Document> replace = (ReplaceOneModel<org.bson.Document>) captor.getValue().get(0);
+        assertTrue(replace.getReplaceOptions().isUpsert());
+        assertEquals(eq("_id", "Ada"), replace.getFilter());
+        assertEquals(1, result.getMatched());
+        assertEquals(1, result.getModified());
+    }
+
+    @Test
+    public void shouldBulkDeleteById() {
+        when(collection.bulkWrite(any(List.class), any(BulkWriteOptions.class)))
+                .thenReturn(BulkWriteResult.acknowledged(0, 0, 1, 0, List.of(), List.of()));
+
+        BulkResult result = template.bulkDelete(Person.class, List.of("Ada"));
+
+        ArgumentCaptor<List<WriteModel<org.bson.Document>>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(collection).bulkWrite(captor.capture(), any(BulkWriteOptions.class));
+        DeleteOneModel<org.bson.Document> delete = (DeleteOneModel<org.bson.Document>) captor.getValue().get(0);
+        assertEquals(eq("_id", "Ada"), delete.getFilter());
+        assertEquals(1, result.getDeleted());
+    }
+
+    private static Attribute<Person, ?> attribute(String name) {
+        Attribute<Person, ?> attribute = mock(Attribute.class);
+        when(attribute.getName()).thenReturn(name);
+        return attribute;
+    }
+
 }
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import jakarta.enterprise.inject.Instance;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.IdNotFoundException;
+import jakarta.nosql.mapping.document.DocumentEntityConverter;
+import jakarta.nosql.mapping.document.DocumentEventPersistManager;
+import org.bson.BsonObjectId;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultReactiveMongoDBTemplateTest {
+
+    private MongoCollection<Document> collection;
+
+    private DocumentEntityConverter converter;
+
+    private EntitiesMetadata entities;
+
+    private DocumentEventPersistManager persistManager;
+
+    private ReactiveMongoDBTemplate template;
+
+    @BeforeEach
+    public void setUp() {
+        MongoDatabase database = mock(MongoDatabase.class);
+        this.collection = mock(MongoCollection.class);
+        when(database.getCollection("Person")).thenReturn(collection);
+        when(database.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+        when(collection.withCodecRegistry(any())).thenReturn(collection);
+        Instance<MongoDatabase> instance = mock(Instance.class);
+        when(instance.get()).thenReturn(database);
+        this.entities = mock(EntitiesMetadata.class);
+        EntityMetadata person = mock(EntityMetadata.class);
+        when(person.getName()).thenReturn("Person");
+        when(entities.get(Person.class)).thenReturn(person);
+        this.converter = mock(DocumentEntityConverter.class);
+        this.persistManager = mock(DocumentEventPersistManager.class);
+        this.template = new DefaultReactiveMongoDBTemplate(instance, converter, entities, mock(Converters.class),
+                persistManager);
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> template.insert(null));
+        assertThrows(NullPointerException.class, () -> template.update(null));
+        assertThrows(NullPointerException.class, () -> template.select(null, Filters.empty()));
+        assertThrows(NullPointerException.class, () -> template.select(Person.class, null));
+        assertThrows(NullPointerException.class, () -> template.aggregate(Person.class, null, Person.class));
+        assertThrows(NullPointerException.class, () -> template.delete(Person.class, null));
+    }
+
+    @Test
+    public void shouldInsert() {
+        Person person = new Person("Ada", 10);
+        Map<String, Object> values = new HashMap<>();
+        values.put("name", "Ada");
+        DocumentEntity entity = mock(DocumentEntity.class);
+        when(entity.getName()).thenReturn("Person");
+        when(entity.toMap()).thenReturn(values);
+        when(converter.toDocument(person)).thenReturn(entity);
+        when(converter.toEntity(person, entity)).thenReturn(person);
+        when(collection.insertOne(any())).thenReturn(just(InsertOneResult.acknowledged(new BsonObjectId())));
+
+        Publisher<Person> publisher = template.insert(person);
+        verify(persistManager, never()).firePreEntity(person);
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertEquals(List.of(person), subscriber.items);
+        assertTrue(subscriber.completed);
+        ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+        verify(collection).insertOne(captor.capture());
+        assertEquals("Ada", captor.getValue().get("name"));
+        InOrder order = inOrder(persistManager);
+        order.verify(persistManager).firePreEntity(person);
+        order.verify(persistManager).firePreDocument(entity);
+        order.verify(persistManager).firePostDocument(entity);
+        order.verify(persistManager).firePostEntity(person);
+    }
+
+    @Test
+    public void shouldInsertOnEachSubscription() {
+        Person person = new Person("Ada", 10);
+        DocumentEntity entity = mock(DocumentEntity.class);
+        when(entity.getName()).thenReturn("Person");
+        when(entity.toMap()).thenAnswer(i -> new HashMap<>(Map.of("name", "Ada")));
+        when(converter.toDocument(person)).thenReturn(entity);
+        when(converter.toEntity(person, entity)).thenReturn(person);
+        when(collection.insertOne(any())).thenAnswer(i -> {
+            Document document = i.getArgument(0);
+            assertFalse(document.containsKey("_id"));
+            document.put("_id", new ObjectId());
+            return just(InsertOneResult.acknowledged(new BsonObjectId()));
+        });
+
+        Publisher<Person> publisher = template.insert(person);
+        publisher.subscribe(new RecordingSubscriber<>());
+        publisher.subscribe(new RecordingSubscriber<>());
+
+        verify(converter, times(2)).toDocument(person);
+        verify(persistManager, times(2)).firePreEntity(person);
+        verify(collection, times(2)).insertOne(any());
+    }
+
+    @Test
+    public void shouldSignalTheUpdateWithoutId() {
+        Person person = new Person("Ada", 10);
+        FieldMapping id = mock(FieldMapping.class);
+        when(id.getName()).thenReturn("_id");
+        when(entities.get(Person.class).getId()).thenReturn(Optional.of(id));
+        DocumentEntity entity = mock(DocumentEntity.class);
+        when(entity.find("_id")).thenReturn(Optional.empty());
+        when(converter.toDocument(person)).thenReturn(entity);
+
+        Publisher<Person> publisher = template.update(person);
+        verify(converter, never()).toDocument(person);
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        publisher.subscribe(subscriber);
+
+        assertTrue(subscriber.error instanceof IdNotFoundException);
+        verify(collection, never()).replaceOne(any(), any());
+    }
+
+    @Test
+    public void shouldAggregate() {
+        List<Bson> pipeline = List.of(new Document("$match", new Document("age", 10)));
+        AggregatePublisher<ResultCodecsTest.CityTotal> aggregate = mock(AggregatePublisher.class);
+        when(collection.aggregate(pipeline, ResultCodecsTest.CityTotal.class)).thenReturn(aggregate);
+
+        assertSame(aggregate, template.aggregate(Person.class, pipeline, ResultCodecsTest.CityTotal.class));
+        verify(collection).withCodecRegistry(any());
+    }
+
+    @Test
+    public void shouldDelete() {
+        Bson filter = Filters.eq("age", 10);
+        when(collection.deleteMany(filter)).thenReturn(just(DeleteResult.acknowledged(3L)));
+
+        RecordingSubscriber<Long> subscriber = new RecordingSubscriber<>();
+        template.delete(Person.class, filter).subscribe(subscriber);
+
+        assertEquals(List.of(3L), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    private static <T> Publisher<T> just(T value) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+
+            private boolean done;
+
+            @Override
+            public void request(long n) {
+                if (!done) {
+                    done = true;
+                    subscriber.onNext(value);
+                    subscriber.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                done = true;
+            }
+        });
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PublishersTest {
+
+    @Test
+    public void shouldReturnErrorWhenParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> Publishers.map(null, Object::toString));
+        assertThrows(NullPointerException.class, () -> Publishers.map(s -> { }, null));
+        assertThrows(NullPointerException.class, () -> Publishers.defer(null));
+    }
+
+    @Test
+    public void shouldMap() {
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        Publishers.map(of(1, 2, 3), i -> "n" + i).subscribe(subscriber);
+
+        assertEquals(List.of("n1", "n2", "n3"), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void shouldPassTheDemandToTheSource() {
+        Subscription upstream = mock(Subscription.class);
+        Publisher<Integer> source = s -> s.onSubscribe(upstream);
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        Publishers.map(source, Object::toString).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+        verify(upstream).request(5);
+        verify(upstream, never()).cancel();
+        subscriber.subscription.cancel();
+        verify(upstream).cancel();
+    }
+
+    @Test
+    public void shouldCancelTheSourceWhenTheMapperFails() {
+        Subscription upstream = mock(Subscription.class);
+        Publisher<Integer> source = s -> {
+            s.onSubscribe(upstream);
+            s.onNext(1);
+            s.onNext(2);
+            s.onComplete();
+        };
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        IllegalStateException exception = new IllegalStateException("mapper");
+        Publishers.<Integer, String>map(source, i -> {
+            throw exception;
+        }).subscribe(subscriber);
+
+        verify(upstream).cancel();
+        assertEquals(exception, subscriber.error);
+        assertTrue(subscriber.items.isEmpty());
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void shouldForwardTheSourceError() {
+        IllegalStateException exception = new IllegalStateException("source");
+        Publisher<Integer> source = s -> {
+            s.onSubscribe(mock(Subscription.class));
+            s.onError(exception);
+        };
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>();
+        Publishers.map(source, Object::toString).subscribe(subscriber);
+
+        assertEquals(exception, subscriber.error);
+    }
+
+    @Test
+    public void shouldCreateTheSourceOnEachSubscription() {
+        AtomicInteger sources = new AtomicInteger();
+        Publisher<Integer> publisher = Publishers.defer(() -> of(sources.incrementAndGet()));
+        assertEquals(0, sources.get());
+
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>();
+        publisher.subscribe(first);
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+
+        assertEquals(List.of(1), first.items);
+        assertEquals(List.of(2), second.items);
+    }
+
+    @Test
+    public void shouldSignalTheSupplierError() {
+        IllegalStateException exception = new IllegalStateException("supplier");
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        Publishers.<Integer>defer(() -> {
+            throw exception;
+        }).subscribe(subscriber);
+
+        assertEquals(exception, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @SafeVarargs
+    private static <T> Publisher<T> of(T... values) {
+        return (Subscriber<? super T> subscriber) -> {
+            subscriber.onSubscribe(new Subscription() {
+
+                private int index;
+
+                @Override
+                public void request(long n) {
+                    for (long i = 0; i < n && index < values.length; i++) {
+                        subscriber.onNext(values[index++]);
+                    }
+                    if (index == values.length) {
+                        index++;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    index = values.length + 1;
+                }
+            });
+        };
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.mongodb;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Projections;
+import jakarta.nosql.mapping.AttributeConverter;
+import jakarta.nosql.mapping.Converters;
+import jakarta.nosql.mapping.document.DocumentEntityConverter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.eclipse.jnosql.mapping.reflection.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.EntityMetadata;
+import org.eclipse.jnosql.mapping.reflection.FieldMapping;
+import org.eclipse.jnosql.mapping.reflection.MappingType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResultCodecsTest {
+
+    private EntitiesMetadata entities;
+
+    private Converters converters;
+
+    private ResultCodecs codecs;
+
+    @BeforeEach
+    public void setUp() {
+        this.entities = mock(EntitiesMetadata.class);
+        this.converters = mock(Converters.class);
+        this.codecs = new ResultCodecs(entities, converters, mock(DocumentEntityConverter.class),
+                MongoClientSettings::getDefaultCodecRegistry);
+    }
+
+    @Test
+    public void shouldDecodeEntity() throws ReflectiveOperationException {
+        EntityMetadata person = entity(Person.class, Map.of("_id", "name", "age", "age"), Map.of());
+        when(person.newInstance()).thenAnswer(i -> new Person());
+
+        BsonDocument document = new BsonDocument("_id", new BsonString("Ada"))
+                .append("age", new BsonInt32(10))
+                .append("city", new BsonString("Lisbon"));
+
+        assertEquals(new Person("Ada", 10), decode(Person.class, document));
+    }
+
+    @Test
+    public void shouldSkipNullValues() throws ReflectiveOperationException {
+        EntityMetadata person = entity(Person.class, Map.of("_id", "name", "age", "age"), Map.of());
+        when(person.newInstance()).thenAnswer(i -> new Person());
+
+        BsonDocument document = new BsonDocument("_id", new BsonString("Ada")).append("age", BsonNull.VALUE);
+
+        Person result = decode(Person.class, document);
+        assertEquals("Ada", result.getName());
+        assertNull(result.getAge());
+    }
+
+    @Test
+    public void shouldApplyAttributeConverter() throws ReflectiveOperationException {
+        EntityMetadata music = entity(Music.class, Map.of("_id", "id", "name", "name", "year", "year"),
+                Map.of("_id", ObjectIdConverter.class));
+        when(music.newInstance()).thenAnswer(i -> new Music());
+        AttributeConverter converter = new ObjectIdConverter();
+        when(converters.get(ObjectIdConverter.class)).thenReturn(converter);
+        ObjectId id = new ObjectId();
+
+        BsonDocument document = new BsonDocument("_id", new BsonObjectId(id))
+                .append("name", new BsonString("Imagine"))
+                .append("year", new BsonInt32(1971));
+
+        Music result = decode(Music.class, document);
+        assertEquals(id.toHexString(), result.getId());
+        assertEquals("Imagine", result.getName());
+        assertEquals(1971, result.getYear());
+    }
+
+    @Test
+    public void shouldDecodeEntityByFieldsWhenTheProjectionExcludesTheCollections()
+            throws ReflectiveOperationException {
+        EntityMetadata person = entity(Person.class, Map.of("_id", "name", "age", "age"), Map.of());
+        when(person.getFieldsGroupByName().get("age").getType()).thenReturn(MappingType.COLLECTION);
+        when(person.newInstance()).thenAnswer(i -> new Person());
+        Codec<Person> converterCodec = codecs.get(Person.class);
+
+        assertSame(converterCodec, codecs.get(Person.class, Projections.include("age")));
+        assertSame(converterCodec, codecs.get(Person.class, Projections.exclude("age.size")));
+        Codec<Person> codec = codecs.get(Person.class, Projections.include("_id"));
+        assertNotSame(converterCodec, codec);
+        assertSame(codec, codecs.get(Person.class, Projections.exclude("age")));
+
+        Person result = codec.decode(new BsonDocumentReader(new BsonDocument("_id", new BsonString("Ada"))),
+                DecoderContext.builder().build());
+        assertEquals("Ada", result.getName());
+        assertNull(result.getAge());
+    }
+
+    @Test
+    public void shouldDecodeByFields() {
+        BsonDocument document = new BsonDocument("_id", new BsonString("Lisbon"))
+                .append("city", new BsonString("Lisbon"))
+                .append("total", new BsonInt64(42L));
+
+        CityTotal result = decode(CityTotal.class, document);
+        assertEquals("Lisbon", result.city);
+        assertEquals(42L, result.total);
+    }
+
+    @Test
+    public void shouldCreateCodecOnceByType() {
+        assertSame(codecs.get(CityTotal.class), codecs.get(CityTotal.class));
+    }
+
+    @Test
+    public void shouldReturnErrorOnEncode() {
+        Codec<CityTotal> codec = codecs.get(CityTotal.class);
+        assertThrows(UnsupportedOperationException.class, () -> codec.encode(
+                new BsonDocumentWriter(new BsonDocument()), new CityTotal(), EncoderContext.builder().build()));
+    }
+
+    private <T> T decode(Class<T> type, BsonDocument document) {
+        return codecs.get(type).decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private EntityMetadata entity(Class<?> type, Map<String, String> names, Map<String, Class<?>> converters)
+            throws ReflectiveOperationException {
+        EntityMetadata entity = mock(EntityMetadata.class);
+        List<FieldMapping> fields = new ArrayList<>();
+        Map<String, FieldMapping> fieldsByName = new HashMap<>();
+        for (Map.Entry<String, String> name : names.entrySet()) {
+            Field nativeField = type.getDeclaredField(name.getValue());
+            nativeField.setAccessible(true);
+            FieldMapping field = mock(FieldMapping.class);
+            when(field.getName()).thenReturn(name.getKey());
+            when(field.getType()).thenReturn(MappingType.DEFAULT);
+            when(field.getNativeField()).thenReturn(nativeField);
+            Optional converter = Optional.ofNullable(converters.get(name.getKey()));
+            when(field.getConverter()).thenReturn(converter);
+            doAnswer(i -> {
+                nativeField.set(i.getArgument(0), i.getArgument(1));
+                return null;
+            }).when(field).write(any(), any());
+            fields.add(field);
+            fieldsByName.put(name.getKey(), field);
+        }
+        when(entity.getFields()).thenReturn(fields);
+        when(entity.getFieldsGroupByName()).thenReturn(fieldsByName);
+        when(entities.get(type)).thenReturn(entity);
+        return entity;
+    }
+
+    static class CityTotal {
+
+        private String city;
+
+        private long total;
+    }
+}